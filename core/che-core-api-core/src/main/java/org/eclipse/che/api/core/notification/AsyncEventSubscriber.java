@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.eclipse.che.api.core.notification.EventService.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Delivers events to the subscriber asynchronously. Published events are put to the bounded queue of the
+ * subscriber which is drained by the shared executor. At most one task drains the queue at the same time, so
+ * the subscriber receives events one by one in order they were published.
+ *
+ * @see EventService#subscribeAsync(EventSubscriber, OverflowPolicy)
+ */
+class AsyncEventSubscriber implements EventSubscriber<Object> {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventSubscriber.class);
+
+    private final EventSubscriber       delegate;
+    private final OverflowPolicy        policy;
+    private final Executor              executor;
+    private final BlockingQueue<Object> queue;
+    private final AtomicBoolean         scheduled;
+    private final AtomicLong            delivered;
+    private final AtomicLong            dropped;
+    private final AtomicLong            coalesced;
+    private final AtomicLong            totalLatency;
+    private final LongAccumulator       maxLatency;
+
+    private volatile boolean closed;
+
+    AsyncEventSubscriber(EventSubscriber<?> delegate, OverflowPolicy policy, int queueCapacity, Executor executor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.scheduled = new AtomicBoolean();
+        this.delivered = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.coalesced = new AtomicLong();
+        this.totalLatency = new AtomicLong();
+        this.maxLatency = new LongAccumulator(Math::max, 0);
+    }
+
+    /** Puts event to the queue according to the overflow policy and schedules delivery. */
+    @Override
+    public void onEvent(Object event) {
+        if (closed) {
+            return;
+        }
+        switch (policy) {
+            case BLOCK:
+                try {
+                    queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                    return;
+                }
+                break;
+            case DROP:
+                if (!queue.offer(event)) {
+                    dropped.incrementAndGet();
+                    LOG.debug("Queue of {} is full, event {} is dropped", delegate, event);
+                    return;
+                }
+                break;
+            case COALESCE:
+                synchronized (queue) {
+                    if (queue.contains(event)) {
+                        coalesced.incrementAndGet();
+                        return;
+                    }
+                    while (!queue.offer(event)) {
+                        if (queue.poll() != null) {
+                            dropped.incrementAndGet();
+                        }
+                    }
+                }
+                break;
+        }
+        schedule();
+    }
+
+    /** Stops delivery of events, events which are still queued are discarded. */
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    EventSubscriber<?> getDelegate() {
+        return delegate;
+    }
+
+    /** Returns snapshot of the dispatch metrics. */
+    EventSubscriberMetrics getMetrics() {
+        final long deliveredCount = delivered.get();
+        return new EventSubscriberMetrics(delegate.toString(),
+                                          policy,
+                                          queue.size(),
+                                          deliveredCount,
+                                          dropped.get(),
+                                          coalesced.get(),
+                                          deliveredCount == 0 ? 0 : totalLatency.get() / deliveredCount,
+                                          maxLatency.get());
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // queued events are delivered by the next successfully scheduled drain
+                scheduled.set(false);
+                LOG.warn("Unable to schedule delivery of events to {}: {}", delegate, e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        try {
+            Object event;
+            while (!closed && (event = queue.poll()) != null) {
+                final long start = System.nanoTime();
+                try {
+                    delegate.onEvent(event);
+                } catch (RuntimeException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+                final long latency = System.nanoTime() - start;
+                delivered.incrementAndGet();
+                totalLatency.addAndGet(latency);
+                maxLatency.accumulate(latency);
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // event might be queued after the last poll but before the drain was marked as finished
+        if (!closed && !queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof AsyncEventSubscriber && delegate.equals(((AsyncEventSubscriber)obj).delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventSubscriber{delegate=" + delegate + ", policy=" + policy + '}';
+    }
+}
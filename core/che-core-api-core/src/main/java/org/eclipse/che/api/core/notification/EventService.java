@@ -13,20 +13,26 @@ package org.eclipse.che.api.core.notification;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Dispatchers events to listeners. Usage example:
@@ -40,6 +46,9 @@ import java.util.concurrent.CopyOnWriteArraySet;
  *     });
  *     bus.publish(new MyEvent());
  * </pre>
+ * By default subscriber receives event synchronously in the thread which publishes event. Subscriber may be
+ * registered with {@link #subscribeAsync(EventSubscriber, OverflowPolicy)} to receive events asynchronously,
+ * so a slow subscriber doesn't delay publisher.
  *
  * @author andrew00x
  */
@@ -51,9 +60,27 @@ public class EventService {
     private static final int CACHE_MASK = CACHE_NUM - 1;
     private static final int SEG_SIZE   = 32;
 
+    /** Default capacity of queue of the asynchronous subscriber. */
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+
+    /** Defines what happens when event is published but queue of the asynchronous subscriber is full. */
+    public enum OverflowPolicy {
+        /** Publisher waits until there is space in the queue. No events are lost. */
+        BLOCK,
+        /** Newly published event is discarded. */
+        DROP,
+        /**
+         * Newly published event is discarded if equal event is already waiting for delivery, even if queue
+         * isn't full. Otherwise the oldest queued event is discarded to make space for the new one.
+         */
+        COALESCE
+    }
+
     private final LoadingCache<Class<?>, Set<Class<?>>>[]       typeCache;
     private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
 
+    private ExecutorService asyncExecutor;
+
     @SuppressWarnings("unchecked")
     public EventService() {
         subscribersByEventType = new ConcurrentHashMap<>();
@@ -134,6 +161,91 @@ public class EventService {
         doSubscribe(subscriber, eventType);
     }
 
+    /**
+     * Subscribe event listener which receives events asynchronously. The event to subscribe to is inferred by
+     * checking the generic type arguments of the given subscriber.
+     *
+     * @param subscriber
+     *         event subscriber
+     * @param policy
+     *         policy applied when queue of the subscriber is full
+     * @see #subscribeAsync(EventSubscriber, Class, OverflowPolicy, int)
+     */
+    public void subscribeAsync(EventSubscriber<?> subscriber, OverflowPolicy policy) {
+        doSubscribeAsync(subscriber, getEventType(subscriber), policy, DEFAULT_ASYNC_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Subscribe to an event. The given subscriber will be called asynchronously whenever an instance of the
+     * specified event is published. Published events are put to the bounded queue of the subscriber and delivered
+     * by shared thread pool. Subscriber receives events one by one in order they were published.
+     *
+     * @param subscriber
+     *         the subscriber to call when an event is published
+     * @param eventType
+     *         the event to subscribe to
+     * @param policy
+     *         policy applied when queue of the subscriber is full
+     * @param queueCapacity
+     *         maximal number of events waiting for delivery
+     */
+    public <T> void subscribeAsync(EventSubscriber<? extends T> subscriber,
+                                   Class<T> eventType,
+                                   OverflowPolicy policy,
+                                   int queueCapacity) {
+        doSubscribeAsync(subscriber, eventType, policy, queueCapacity);
+    }
+
+    private void doSubscribeAsync(EventSubscriber<?> subscriber, Class<?> eventType, OverflowPolicy policy, int queueCapacity) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Null overflow policy.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0.");
+        }
+        doSubscribe(new AsyncEventSubscriber(subscriber, policy, queueCapacity, getAsyncExecutor()), eventType);
+    }
+
+    /**
+     * Returns dispatch metrics of the subscribers which receive events asynchronously.
+     *
+     * @see #subscribeAsync(EventSubscriber, Class, OverflowPolicy, int)
+     */
+    public List<EventSubscriberMetrics> getAsyncSubscribersMetrics() {
+        final List<EventSubscriberMetrics> metrics = new ArrayList<>();
+        for (Set<EventSubscriber> entries : subscribersByEventType.values()) {
+            for (EventSubscriber subscriber : entries) {
+                if (subscriber instanceof AsyncEventSubscriber) {
+                    metrics.add(((AsyncEventSubscriber)subscriber).getMetrics());
+                }
+            }
+        }
+        return metrics;
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        for (Set<EventSubscriber> entries : subscribersByEventType.values()) {
+            for (EventSubscriber subscriber : entries) {
+                if (subscriber instanceof AsyncEventSubscriber) {
+                    ((AsyncEventSubscriber)subscriber).close();
+                }
+            }
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
+        }
+    }
+
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("EventService-%d")
+                                                                                    .setDaemon(true).build());
+        }
+        return asyncExecutor;
+    }
+
     private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
         Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries == null) {
@@ -156,7 +268,13 @@ public class EventService {
         final Class<?> eventType = getEventType(subscriber);
         final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries != null && !entries.isEmpty()) {
-            boolean changed = entries.remove(subscriber);
+            boolean changed = entries.removeIf(entry -> {
+                if (entry instanceof AsyncEventSubscriber && ((AsyncEventSubscriber)entry).getDelegate().equals(subscriber)) {
+                    ((AsyncEventSubscriber)entry).close();
+                    return true;
+                }
+                return entry.equals(subscriber);
+            });
             if (changed) {
                 if (entries.isEmpty()) {
                     subscribersByEventType.remove(eventType);
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.eclipse.che.api.core.notification.EventService.OverflowPolicy;
+
+/**
+ * Snapshot of the dispatch metrics of the asynchronous event subscriber.
+ *
+ * @see EventService#getAsyncSubscribersMetrics()
+ */
+public class EventSubscriberMetrics {
+    private final String         subscriber;
+    private final OverflowPolicy policy;
+    private final int            queueDepth;
+    private final long           delivered;
+    private final long           dropped;
+    private final long           coalesced;
+    private final long           averageLatency;
+    private final long           maxLatency;
+
+    EventSubscriberMetrics(String subscriber,
+                           OverflowPolicy policy,
+                           int queueDepth,
+                           long delivered,
+                           long dropped,
+                           long coalesced,
+                           long averageLatency,
+                           long maxLatency) {
+        this.subscriber = subscriber;
+        this.policy = policy;
+        this.queueDepth = queueDepth;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.coalesced = coalesced;
+        this.averageLatency = averageLatency;
+        this.maxLatency = maxLatency;
+    }
+
+    /** Returns string representation of the subscriber. */
+    public String getSubscriber() {
+        return subscriber;
+    }
+
+    /** Returns policy applied when queue of the subscriber is full. */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /** Returns number of events waiting for delivery. */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /** Returns number of events delivered to the subscriber. */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /** Returns number of events discarded because queue of the subscriber was full. */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /** Returns number of events merged with equal events which were waiting for delivery. */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /** Returns average time in nanoseconds spent by the subscriber to handle event. */
+    public long getAverageLatency() {
+        return averageLatency;
+    }
+
+    /** Returns maximal time in nanoseconds spent by the subscriber to handle event. */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "EventSubscriberMetrics{" +
+               "subscriber='" + subscriber + '\'' +
+               ", policy=" + policy +
+               ", queueDepth=" + queueDepth +
+               ", delivered=" + delivered +
+               ", dropped=" + dropped +
+               ", coalesced=" + coalesced +
+               ", averageLatency=" + averageLatency +
+               ", maxLatency=" + maxLatency +
+               '}';
+    }
+}
@@ -83,12 +83,13 @@ public final class WSocketEventBusClient {
     void start() {
         if (start.compareAndSet(false, true)) {
             if (policy != null) {
-                eventService.subscribe(new EventSubscriber<Object>() {
+                // propagation involves network I/O, so don't delay publishers
+                eventService.subscribeAsync(new EventSubscriber<Object>() {
                     @Override
                     public void onEvent(Object event) {
                         propagate(event);
                     }
-                });
+                }, EventService.OverflowPolicy.BLOCK);
             }
             if (eventSubscriptions != null) {
                 final Map<URI, Set<String>> cfg = new HashMap<>();
@@ -10,7 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.notification;
 
-import org.everrest.websockets.WSConnectionContext;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,12 +62,13 @@ public final class WSocketEventBusServer {
     void start() {
         if (start.compareAndSet(false, true)) {
             if (policy != null) {
-                eventService.subscribe(new EventSubscriber<Object>() {
+                // propagation involves network I/O, so don't delay publishers
+                eventService.subscribeAsync(new EventSubscriber<Object>() {
                     @Override
                     public void onEvent(Object event) {
                         propagate(event);
                     }
-                });
+                }, EventService.OverflowPolicy.BLOCK);
             }
         }
     }
@@ -74,7 +76,8 @@ public final class WSocketEventBusServer {
     protected void propagate(Object event) {
         if (policy.shouldPropagated(event)) {
             try {
-                WSConnectionContext.sendMessage(Messages.broadcastMessage(resolveChannelName(event), event));
+                final ChannelBroadcastMessage message = Messages.broadcastMessage(resolveChannelName(event), event);
+                ChannelMessageBatcher.sendMessageNow(message.getChannel(), message.getBody());
             } catch (Exception e) {
                 LOG.error(e.getMessage(), e);
             }
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Writes lines to the file and keeps index of the lines in the file next to it, so any range of lines may be read
+ * without reading of the preceding lines, see {@link IndexedFileReader}.
+ * <p/>
+ * Index file contains offset of the end of each line as 8 bytes number, line which contains line breaks is indexed as
+ * several lines. Offset is appended to the index after the line is written to the file, so readers never see lines
+ * which aren't completely written. Each line is written to the file immediately, while offsets are flushed to the
+ * index in batches of {@link #INDEX_FLUSH_LINES}, lines which aren't indexed yet are found by reader in the tail of
+ * the file.
+ */
+public class IndexedFileLineConsumer implements LineConsumer {
+    static final String INDEX_SUFFIX      = ".idx";
+    static final int    INDEX_FLUSH_LINES = 64;
+
+    private final File             file;
+    private final OutputStream     output;
+    private final DataOutputStream index;
+
+    private long offset;
+    private int  notFlushedOffsets;
+
+    public IndexedFileLineConsumer(File file) throws IOException {
+        this.file = file;
+        output = new FileOutputStream(file);
+        try {
+            index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getIndexFile(file))));
+        } catch (IOException e) {
+            output.close();
+            throw e;
+        }
+    }
+
+    /** Returns index file of the {@code file}. */
+    public static File getIndexFile(File file) {
+        return new File(file.getParentFile(), file.getName() + INDEX_SUFFIX);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void writeLine(String line) throws IOException {
+        final byte[] bytes = ((line == null ? "" : line) + '\n').getBytes(Charset.defaultCharset());
+        output.write(bytes);
+        // line may contain line breaks, each physical line of the file gets own offset in the index
+        for (byte b : bytes) {
+            offset++;
+            if (b == '\n') {
+                writeOffset();
+            }
+        }
+    }
+
+    private void writeOffset() throws IOException {
+        index.writeLong(offset);
+        if (++notFlushedOffsets == INDEX_FLUSH_LINES) {
+            index.flush();
+            notFlushedOffsets = 0;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            output.close();
+        } finally {
+            index.close();
+        }
+    }
+}
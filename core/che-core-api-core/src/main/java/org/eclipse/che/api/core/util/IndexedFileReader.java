@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads ranges of lines of files written by {@link IndexedFileLineConsumer}. Position of the first line of the range is
+ * taken from the index, so reading of the range doesn't depend on the number of preceding lines. Lines which aren't
+ * indexed yet are read from the tail of the file. Files without index are read line by line.
+ */
+public class IndexedFileReader {
+    private static final int OFFSET_SIZE      = 8;
+    private static final int TAIL_BUFFER_SIZE = 8192;
+
+    /**
+     * Returns reader of the range of lines of the {@code file}.
+     *
+     * @param file
+     *         file to read
+     * @param from
+     *         number of the first line to read, starting from 0
+     * @param limit
+     *         maximal number of lines to read, 0 or negative value means all lines till the end of file
+     * @throws IllegalArgumentException
+     *         if {@code from} is negative
+     * @throws IOException
+     *         if any i/o error occurs
+     */
+    public static Reader readLines(File file, int from, int limit) throws IOException {
+        if (from < 0) {
+            throw new IllegalArgumentException("Number of the first line must not be negative");
+        }
+        final File indexFile = IndexedFileLineConsumer.getIndexFile(file);
+        if (!indexFile.isFile()) {
+            return new LineRangeReader(Files.newBufferedReader(file.toPath(), Charset.defaultCharset()), from, limit);
+        }
+        final FileChannel log = FileChannel.open(file.toPath(), READ);
+        try {
+            final long start;
+            final long end;
+            final int linesToSkip;
+            final int linesLimit;
+            try (FileChannel index = FileChannel.open(indexFile.toPath(), READ)) {
+                // offset of the line is appended to the index after the line is written, incomplete offset is ignored
+                final long lines = index.size() / OFFSET_SIZE;
+                if (limit > 0 && (long)from + limit <= lines) {
+                    start = from == 0 ? 0 : readOffset(index, from - 1);
+                    end = readOffset(index, from + limit - 1);
+                    linesToSkip = 0;
+                    linesLimit = 0;
+                } else {
+                    // range includes lines which aren't indexed yet, read them from the tail of the file
+                    final long firstIndexed = Math.min(from, lines);
+                    start = firstIndexed == 0 ? 0 : readOffset(index, firstIndexed - 1);
+                    end = findEndOfLastLine(log, start);
+                    linesToSkip = (int)(from - firstIndexed);
+                    linesLimit = limit;
+                }
+            }
+            if (start == end) {
+                log.close();
+                return new StringReader("");
+            }
+            log.position(start);
+            final Reader reader = new InputStreamReader(ByteStreams.limit(Channels.newInputStream(log), end - start),
+                                                        Charset.defaultCharset());
+            if (linesToSkip == 0 && linesLimit <= 0) {
+                return reader;
+            }
+            return new LineRangeReader(new BufferedReader(reader), linesToSkip, linesLimit);
+        } catch (IOException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /** Returns offset of the end of the last complete line of the {@code log} that ends after {@code from} or {@code from}. */
+    private static long findEndOfLastLine(FileChannel log, long from) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+        long position = log.size();
+        while (position > from) {
+            final long chunkStart = Math.max(from, position - TAIL_BUFFER_SIZE);
+            buffer.clear();
+            buffer.limit((int)(position - chunkStart));
+            while (buffer.hasRemaining()) {
+                if (log.read(buffer, chunkStart + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of file");
+                }
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return chunkStart + i + 1;
+                }
+            }
+            position = chunkStart;
+        }
+        return from;
+    }
+
+    private static long readOffset(FileChannel index, long line) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(OFFSET_SIZE);
+        long position = line * OFFSET_SIZE;
+        while (buffer.hasRemaining()) {
+            final int read = index.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of index");
+            }
+            position += read;
+        }
+        buffer.flip();
+        return buffer.getLong();
+    }
+
+    /** Skips {@code linesToSkip} lines of the underlying reader and stops after {@code limit} lines if limit is positive. */
+    private static class LineRangeReader extends Reader {
+        private final Reader reader;
+
+        private int  linesToSkip;
+        private long linesLeft;
+
+        LineRangeReader(BufferedReader reader, int linesToSkip, int limit) {
+            this.reader = reader;
+            this.linesToSkip = linesToSkip;
+            this.linesLeft = limit > 0 ? limit : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (linesToSkip > 0) {
+                final int c = reader.read();
+                if (c == -1) {
+                    return -1;
+                }
+                if (c == '\n') {
+                    linesToSkip--;
+                }
+            }
+            if (linesLeft == 0) {
+                return -1;
+            }
+            final int read = reader.read(cbuf, off, len);
+            for (int i = off; i < off + read; i++) {
+                if (cbuf[i] == '\n' && --linesLeft == 0) {
+                    return i - off + 1;
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private IndexedFileReader() {
+    }
+}
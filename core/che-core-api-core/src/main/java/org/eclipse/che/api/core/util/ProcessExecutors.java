@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Threads shared by helpers which serve system processes, see {@link StreamPump} and {@link Watchdog}.
+ */
+final class ProcessExecutors {
+    /**
+     * Runs blocking reads of process output and cancellations of processes. Threads are reused by next processes and
+     * terminated after one minute of idleness, so there are no threads while there are no running processes.
+     */
+    static final ExecutorService IO = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("ProcessIO-%d")
+                                                                                              .setDaemon(true)
+                                                                                              .build());
+
+    /** Single thread which tracks timeouts of all processes. */
+    static final ScheduledExecutorService TIMER;
+
+    static {
+        final ScheduledThreadPoolExecutor timer =
+                new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("ProcessTimer")
+                                                                            .setDaemon(true)
+                                                                            .build());
+        // stopped watchdogs must not stay in the queue until their timeouts
+        timer.setRemoveOnCancelPolicy(true);
+        TIMER = Executors.unconfigurableScheduledExecutorService(timer);
+    }
+
+    private ProcessExecutors() {
+    }
+}
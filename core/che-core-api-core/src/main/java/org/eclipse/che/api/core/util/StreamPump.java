@@ -12,9 +12,15 @@ package org.eclipse.che.api.core.util;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 
-/** @author andrew00x */
+/**
+ * Reads output of process line by line and passes lines to {@link LineConsumer}. Reading is done by thread from pool
+ * shared by all pumps, so no new thread is started for every process.
+ *
+ * @author andrew00x
+ */
 public final class StreamPump implements Runnable {
 
     private BufferedReader bufferedReader;
@@ -24,11 +30,21 @@ public final class StreamPump implements Runnable {
     private boolean   done;
 
     public synchronized void start(Process process, LineConsumer lineConsumer) {
+        start(process.getInputStream(), lineConsumer);
+    }
+
+    /**
+     * Starts reading of the given stream, e.g. error output of process or output of remote command.
+     *
+     * @param inputStream
+     *         stream to read
+     * @param lineConsumer
+     *         consumer of read lines
+     */
+    public synchronized void start(InputStream inputStream, LineConsumer lineConsumer) {
         this.lineConsumer = lineConsumer;
-        bufferedReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-        final Thread t = new Thread(this, "StreamPump");
-        t.setDaemon(true);
-        t.start();
+        bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
+        ProcessExecutors.IO.execute(this);
     }
 
     public synchronized void stop() {
@@ -13,6 +13,7 @@ package org.eclipse.che.api.core.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,14 +27,15 @@ public final class Watchdog implements Runnable {
     private final String name;
     private final long   timeout;
 
-    private boolean     watch;
-    private Cancellable cancellable;
+    private boolean            watch;
+    private Cancellable        cancellable;
+    private ScheduledFuture<?> timer;
 
     /**
      * Create new {@code Watchdog}.
      *
      * @param name
-     *         name for background {@code Thread}. It helps to identify out threads. This parameter is optional and may be {@code null}.
+     *         name of watched {@code Cancellable}, it is used in log messages. This parameter is optional and may be {@code null}.
      * @param timeout
      *         timeout
      * @param unit
@@ -52,7 +54,7 @@ public final class Watchdog implements Runnable {
     }
 
     /**
-     * Start watching {@code Cancellable}.
+     * Start watching {@code Cancellable}. Timeouts of all watchdogs are tracked by one shared thread.
      *
      * @param cancellable
      *         Cancellable
@@ -60,35 +62,36 @@ public final class Watchdog implements Runnable {
     public synchronized void start(Cancellable cancellable) {
         this.cancellable = cancellable;
         this.watch = true;
-        final Thread t = name == null ? new Thread(this) : new Thread(this, name);
-        t.setDaemon(true);
-        t.start();
+        timer = ProcessExecutors.TIMER.schedule(this, timeout, TimeUnit.MILLISECONDS);
     }
 
     /** Stop watching. */
     public synchronized void stop() {
         watch = false;
-        notify();
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
     }
 
     /** NOTE: Not expected to call directly by regular users of this class. */
-    public synchronized void run() {
-        final long end = System.currentTimeMillis() + timeout;
-        long now;
-        while (watch && (end > (now = System.currentTimeMillis()))) {
-            try {
-                wait(end - now);
-            } catch (InterruptedException ignored) {
-                // Not expected to be thrown
+    public void run() {
+        final Cancellable toCancel;
+        synchronized (this) {
+            if (!watch) {
+                return;
             }
+            watch = false;
+            timer = null;
+            toCancel = cancellable;
         }
-        if (watch) {
+        // cancellation may take a while, don't delay timeouts of other watchdogs
+        ProcessExecutors.IO.execute(() -> {
             try {
-                cancellable.cancel();
+                toCancel.cancel();
             } catch (Exception e) {
-                LOG.error(e.getMessage(), e);
+                LOG.error(name == null ? e.getMessage() : name + ": " + e.getMessage(), e);
             }
-            watch = false;
-        }
+        });
     }
 }
@@ -10,22 +10,18 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.everrest.core.impl.provider.json.JsonUtils;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
-import org.slf4j.Logger;
 
 import java.io.IOException;
 
-import static org.slf4j.LoggerFactory.getLogger;
-
 /**
- * Line consumer that send messages to specified websocket channel
+ * Line consumer that send messages to specified websocket channel.
+ * Lines written in quick succession are delivered in batches, see {@link ChannelMessageBatcher}.
  *
  * @author Alexander Garagatyi
  */
 public class WebsocketLineConsumer implements LineConsumer {
-    private static final Logger LOG = getLogger(WebsocketLineConsumer.class);
     private final String channel;
 
     public WebsocketLineConsumer(String channel) {
@@ -34,14 +30,7 @@ public class WebsocketLineConsumer implements LineConsumer {
 
     @Override
     public void writeLine(String line) throws IOException {
-        final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-        bm.setChannel(channel);
-        bm.setBody(JsonUtils.getJsonString(line));
-        try {
-            WSConnectionContext.sendMessage(bm);
-        } catch (Exception e) {
-            LOG.error("A problem occurred while sending websocket message", e);
-        }
+        ChannelMessageBatcher.sendMessage(channel, JsonUtils.getJsonString(line));
     }
 
     @Override
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+
+/**
+ * Message which delivers several bodies sent to the same channel within one websocket frame. Bodies are
+ * transferred in the {@code batch} field of the message in order they were sent, the {@code body} field of
+ * the message isn't set.
+ */
+public class ChannelBatchMessage extends ChannelBroadcastMessage {
+    private String[] batch;
+
+    /**
+     * @return bodies of the batched messages
+     */
+    public String[] getBatch() {
+        return batch;
+    }
+
+    /**
+     * @param batch
+     *         bodies of the batched messages
+     */
+    public void setBatch(String[] batch) {
+        this.batch = batch;
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Sends messages to websocket channels in batches.
+ * <p/>
+ * Messages sent to the same channel within {@link #FLUSH_DELAY_MS} are delivered in one frame as
+ * {@link ChannelBatchMessage}, single message is delivered as regular {@link ChannelBroadcastMessage}.
+ * Order of messages of the channel is kept as long as all of them are sent through the batcher.
+ * <p/>
+ * Messages which shouldn't be delayed, e.g. events about process state, are sent with {@link #sendMessageNow(String, String)}
+ * after all pending messages, so they can't overtake preceding output.
+ */
+public class ChannelMessageBatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(ChannelMessageBatcher.class);
+
+    /** Time during which messages are collected before they are sent. */
+    static final long FLUSH_DELAY_MS = 50;
+    /** Maximal number of messages in one batch. */
+    static final int  MAX_BATCH_SIZE = 500;
+
+    private static final ChannelMessageBatcher INSTANCE =
+            new ChannelMessageBatcher(Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                                         .setNameFormat("ChannelMessageBatcher")
+                                                                                         .setDaemon(true).build()),
+                                      ChannelMessageBatcher::broadcast);
+
+    private final Map<String, List<String>>         pending;
+    private final Object                            sendLock;
+    private final ScheduledExecutorService          executor;
+    private final Consumer<ChannelBroadcastMessage> sender;
+
+    ChannelMessageBatcher(ScheduledExecutorService executor, Consumer<ChannelBroadcastMessage> sender) {
+        this.executor = executor;
+        this.sender = sender;
+        this.pending = new LinkedHashMap<>();
+        this.sendLock = new Object();
+    }
+
+    /**
+     * Schedules sending of the message to the websocket channel.
+     *
+     * @param channel
+     *         name of the channel
+     * @param body
+     *         body of the message
+     */
+    public static void sendMessage(String channel, String body) {
+        INSTANCE.send(channel, body);
+    }
+
+    /**
+     * Sends all pending messages of all channels and then sends the message to the websocket channel without delay.
+     *
+     * @param channel
+     *         name of the channel
+     * @param body
+     *         body of the message
+     */
+    public static void sendMessageNow(String channel, String body) {
+        INSTANCE.sendNow(channel, body);
+    }
+
+    void send(String channel, String body) {
+        synchronized (pending) {
+            final boolean idle = pending.isEmpty();
+            pending.computeIfAbsent(channel, c -> new ArrayList<>()).add(body);
+            if (idle) {
+                executor.schedule(this::flush, FLUSH_DELAY_MS, MILLISECONDS);
+            }
+        }
+    }
+
+    void sendNow(String channel, String body) {
+        synchronized (sendLock) {
+            flush();
+            sender.accept(createMessage(channel, Collections.singletonList(body)));
+        }
+    }
+
+    /** Sends all pending messages. */
+    void flush() {
+        // messages are sent under the lock, otherwise scheduled flush may be overtaken by immediate message
+        synchronized (sendLock) {
+            final Map<String, List<String>> toSend;
+            synchronized (pending) {
+                toSend = new LinkedHashMap<>(pending);
+                pending.clear();
+            }
+            for (Map.Entry<String, List<String>> entry : toSend.entrySet()) {
+                final List<String> bodies = entry.getValue();
+                for (int from = 0; from < bodies.size(); from += MAX_BATCH_SIZE) {
+                    final int to = Math.min(from + MAX_BATCH_SIZE, bodies.size());
+                    sender.accept(createMessage(entry.getKey(), bodies.subList(from, to)));
+                }
+            }
+        }
+    }
+
+    private static ChannelBroadcastMessage createMessage(String channel, List<String> bodies) {
+        final ChannelBroadcastMessage message;
+        if (bodies.size() == 1) {
+            message = new ChannelBroadcastMessage();
+            message.setBody(bodies.get(0));
+        } else {
+            final ChannelBatchMessage batchMessage = new ChannelBatchMessage();
+            batchMessage.setBatch(bodies.toArray(new String[bodies.size()]));
+            message = batchMessage;
+        }
+        message.setChannel(channel);
+        return message;
+    }
+
+    private static void broadcast(ChannelBroadcastMessage message) {
+        try {
+            WSConnectionContext.sendMessage(message);
+        } catch (Exception e) {
+            LOG.error("A problem occurred while sending websocket message", e);
+        }
+    }
+}
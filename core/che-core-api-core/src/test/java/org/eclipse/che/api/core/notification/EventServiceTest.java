@@ -17,6 +17,16 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.core.notification.EventService.OverflowPolicy.BLOCK;
+import static org.eclipse.che.api.core.notification.EventService.OverflowPolicy.COALESCE;
+import static org.eclipse.che.api.core.notification.EventService.OverflowPolicy.DROP;
 
 /**
  * @author andrew00x
@@ -157,4 +167,141 @@ public class EventServiceTest {
         bus.publish(new Event());
         Assert.assertEquals(events.size(), 0);
     }
+
+    @Test
+    public void testAsyncSubscriberReceivesEventsInOrder() throws Exception {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(100);
+        final List<String> expected = new ArrayList<>();
+        bus.subscribeAsync(new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                events.add(event);
+                delivered.countDown();
+            }
+        }, String.class, BLOCK, 10);
+        for (int i = 0; i < 100; i++) {
+            expected.add("event" + i);
+            bus.publish("event" + i);
+        }
+
+        Assert.assertTrue(delivered.await(10, SECONDS));
+        Assert.assertEquals(events, expected);
+        final EventSubscriberMetrics metrics = bus.getAsyncSubscribersMetrics().get(0);
+        Assert.assertEquals(metrics.getDropped(), 0);
+        Assert.assertEquals(metrics.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testAsyncSubscriberDropsEventsWhenQueueIsFull() throws Exception {
+        final SlowListener listener = new SlowListener(2);
+        bus.subscribeAsync(listener, String.class, DROP, 1);
+
+        bus.publish("1");
+        Assert.assertTrue(listener.started.await(10, SECONDS));
+        bus.publish("2");
+        bus.publish("3");
+        Assert.assertEquals(bus.getAsyncSubscribersMetrics().get(0).getQueueDepth(), 1);
+        listener.release.countDown();
+
+        Assert.assertTrue(listener.delivered.await(10, SECONDS));
+        Assert.assertEquals(listener.events, asList("1", "2"));
+        Assert.assertEquals(bus.getAsyncSubscribersMetrics().get(0).getDropped(), 1);
+    }
+
+    @Test
+    public void testAsyncSubscriberCoalescesEvents() throws Exception {
+        final SlowListener listener = new SlowListener(3);
+        bus.subscribeAsync(listener, String.class, COALESCE, 2);
+
+        bus.publish("1");
+        Assert.assertTrue(listener.started.await(10, SECONDS));
+        bus.publish("2");
+        bus.publish("2");
+        bus.publish("3");
+        bus.publish("4");
+        listener.release.countDown();
+
+        Assert.assertTrue(listener.delivered.await(10, SECONDS));
+        Assert.assertEquals(listener.events, asList("1", "3", "4"));
+        final EventSubscriberMetrics metrics = bus.getAsyncSubscribersMetrics().get(0);
+        Assert.assertEquals(metrics.getCoalesced(), 1);
+        Assert.assertEquals(metrics.getDropped(), 1);
+    }
+
+    @Test
+    public void testUnsubscribeAsyncSubscriber() throws Exception {
+        final SlowListener listener = new SlowListener(1);
+        bus.subscribeAsync(listener, BLOCK);
+        Assert.assertEquals(bus.getAsyncSubscribersMetrics().size(), 1);
+
+        bus.publish("1");
+        Assert.assertTrue(listener.started.await(10, SECONDS));
+        bus.publish("2");
+        bus.publish("3");
+        bus.unsubscribe(listener);
+        bus.publish("4");
+        listener.release.countDown();
+
+        Assert.assertTrue(listener.delivered.await(10, SECONDS));
+        Assert.assertTrue(bus.getAsyncSubscribersMetrics().isEmpty());
+        Assert.assertEquals(listener.events, asList("1"));
+    }
+
+    @Test
+    public void testStopClosesAsyncSubscribers() throws Exception {
+        final SlowListener listener = new SlowListener(1);
+        bus.subscribeAsync(listener, BLOCK);
+
+        bus.publish("1");
+        Assert.assertTrue(listener.started.await(10, SECONDS));
+        bus.publish("2");
+        bus.stop();
+        bus.publish("3");
+
+        Assert.assertTrue(listener.delivered.await(10, SECONDS));
+        Assert.assertEquals(listener.events, asList("1"));
+        Assert.assertEquals(bus.getAsyncSubscribersMetrics().get(0).getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testAsyncSubscriberIsRescheduledAfterRejectedExecution() throws Exception {
+        final AtomicBoolean reject = new AtomicBoolean(true);
+        final Listener listener = new Listener();
+        final AsyncEventSubscriber subscriber = new AsyncEventSubscriber(listener, BLOCK, 10, command -> {
+            if (reject.getAndSet(false)) {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        });
+
+        subscriber.onEvent("1");
+        Assert.assertTrue(listener.events.isEmpty());
+        subscriber.onEvent("2");
+
+        Assert.assertEquals(listener.events, asList("1", "2"));
+    }
+
+    static class SlowListener implements EventSubscriber<String> {
+        final List<String>   events  = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered;
+
+        SlowListener(int expectedEvents) {
+            delivered = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void onEvent(String event) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            delivered.countDown();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.io.CharStreams;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.testng.Assert.assertEquals;
+
+public class IndexedFileReaderTest {
+    private File logs;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        logs = Files.createTempFile("indexed", ".logs").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        logs.delete();
+        IndexedFileLineConsumer.getIndexFile(logs).delete();
+    }
+
+    @Test
+    public void shouldReadRangeOfLines() throws Exception {
+        writeLines("first", null, "third", "fourth");
+
+        assertEquals(read(0, 0), "first\n\nthird\nfourth\n");
+        assertEquals(read(1, 2), "\nthird\n");
+        assertEquals(read(3, 10), "fourth\n");
+        assertEquals(read(4, 10), "");
+    }
+
+    @Test
+    public void shouldIndexEachLineOfMultiLineEntry() throws Exception {
+        writeLines("first", "second\nthird\n", "fifth");
+
+        assertEquals(read(1, 1), "second\n");
+        assertEquals(read(2, 2), "third\n\n");
+        assertEquals(read(4, 10), "fifth\n");
+        assertEquals(read(5, 10), "");
+    }
+
+    @Test
+    public void shouldReadLinesWrittenAfterReaderStart() throws Exception {
+        try (IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(logs)) {
+            consumer.writeLine("first");
+            assertEquals(read(0, 0), "first\n");
+
+            consumer.writeLine("second");
+            assertEquals(read(1, 0), "second\n");
+        }
+    }
+
+    @Test
+    public void shouldReadRangeOfLinesOfFileWithoutIndex() throws Exception {
+        Files.write(logs.toPath(), "first\nsecond\nthird\n".getBytes());
+
+        assertEquals(read(1, 1), "second\n");
+        assertEquals(read(1, 0), "second\nthird\n");
+    }
+
+    @Test
+    public void shouldReadLinesWhichAreNotIndexedYet() throws Exception {
+        try (IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(logs)) {
+            for (int i = 0; i < 100; i++) {
+                consumer.writeLine("line " + i);
+            }
+
+            assertEquals(read(62, 3), "line 62\nline 63\nline 64\n");
+            assertEquals(read(98, 0), "line 98\nline 99\n");
+            assertEquals(read(99, 10), "line 99\n");
+            assertEquals(read(100, 10), "");
+        }
+    }
+
+    @Test
+    public void shouldNotReadIncompleteLine() throws Exception {
+        writeLines("first", "second");
+        Files.write(logs.toPath(), "thi".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(read(0, 0), "first\nsecond\n");
+        assertEquals(read(1, 5), "second\n");
+        assertEquals(read(2, 5), "");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldNotReadFromNegativeLine() throws Exception {
+        IndexedFileReader.readLines(logs, -1, 1);
+    }
+
+    private void writeLines(String... lines) throws IOException {
+        try (IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(logs)) {
+            for (String line : lines) {
+                consumer.writeLine(line);
+            }
+        }
+    }
+
+    private String read(int from, int limit) throws IOException {
+        try (Reader reader = IndexedFileReader.readLines(logs, from, limit)) {
+            return CharStreams.toString(reader);
+        }
+    }
+}
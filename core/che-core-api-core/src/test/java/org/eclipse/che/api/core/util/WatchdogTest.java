@@ -35,4 +35,13 @@ public class WatchdogTest {
         latch.await(2, TimeUnit.SECONDS); // wait 2 sec
         Assert.assertTrue(cancel[0], "cancellation failed"); // should be cancelled
     }
+
+    @Test
+    public void testStoppedWatchDogDoesNotCancel() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Watchdog watchdog = new Watchdog(100, TimeUnit.MILLISECONDS);
+        watchdog.start(latch::countDown);
+        watchdog.stop();
+        Assert.assertFalse(latch.await(500, TimeUnit.MILLISECONDS), "stopped watchdog must not cancel");
+    }
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChannelMessageBatcher}.
+ */
+public class ChannelMessageBatcherTest {
+
+    private ScheduledExecutorService      executor;
+    private List<ChannelBroadcastMessage> sent;
+    private ChannelMessageBatcher         batcher;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executor = mock(ScheduledExecutorService.class);
+        sent = new ArrayList<>();
+        batcher = new ChannelMessageBatcher(executor, sent::add);
+    }
+
+    @Test
+    public void shouldSendSingleMessageAsRegularMessage() throws Exception {
+        batcher.send("output", "line");
+        batcher.flush();
+
+        assertEquals(sent.size(), 1);
+        assertFalse(sent.get(0) instanceof ChannelBatchMessage);
+        assertEquals(sent.get(0).getChannel(), "output");
+        assertEquals(sent.get(0).getBody(), "line");
+    }
+
+    @Test
+    public void shouldBatchMessagesOfTheSameChannel() throws Exception {
+        batcher.send("output", "line1");
+        batcher.send("vfs", "event");
+        batcher.send("output", "line2");
+        batcher.flush();
+
+        assertEquals(sent.size(), 2);
+        assertTrue(sent.get(0) instanceof ChannelBatchMessage);
+        assertEquals(sent.get(0).getChannel(), "output");
+        assertNull(sent.get(0).getBody());
+        assertEquals(((ChannelBatchMessage)sent.get(0)).getBatch(), new String[]{"line1", "line2"});
+        assertEquals(sent.get(1).getChannel(), "vfs");
+        assertEquals(sent.get(1).getBody(), "event");
+    }
+
+    @Test
+    public void shouldSplitBigBatches() throws Exception {
+        for (int i = 0; i < ChannelMessageBatcher.MAX_BATCH_SIZE + 1; i++) {
+            batcher.send("output", "line" + i);
+        }
+        batcher.flush();
+
+        assertEquals(sent.size(), 2);
+        assertEquals(((ChannelBatchMessage)sent.get(0)).getBatch().length, ChannelMessageBatcher.MAX_BATCH_SIZE);
+        assertEquals(sent.get(1).getBody(), "line" + ChannelMessageBatcher.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void shouldScheduleFlushOncePerBatch() throws Exception {
+        batcher.send("output", "line1");
+        batcher.send("output", "line2");
+        batcher.flush();
+        batcher.send("output", "line3");
+
+        verify(executor, times(2)).schedule(any(Runnable.class), eq(ChannelMessageBatcher.FLUSH_DELAY_MS), eq(MILLISECONDS));
+    }
+
+    @Test
+    public void shouldSendPendingMessagesBeforeImmediateMessage() throws Exception {
+        batcher.send("output", "line1");
+        batcher.send("output", "line2");
+        batcher.sendNow("status", "stopped");
+
+        assertEquals(sent.size(), 2);
+        assertEquals(((ChannelBatchMessage)sent.get(0)).getBatch(), new String[]{"line1", "line2"});
+        assertFalse(sent.get(1) instanceof ChannelBatchMessage);
+        assertEquals(sent.get(1).getChannel(), "status");
+        assertEquals(sent.get(1).getBody(), "stopped");
+
+        batcher.flush();
+
+        assertEquals(sent.size(), 2);
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.che.ide.api.machine.events.WsAgentStateHandler;
 import org.eclipse.che.ide.api.project.ProjectServiceClient;
 import org.eclipse.che.api.project.shared.Constants;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.api.promises.client.Operation;
 import org.eclipse.che.api.promises.client.OperationException;
 import org.eclipse.che.api.promises.client.Promise;
@@ -82,6 +83,12 @@ import org.eclipse.che.ide.ui.smartTree.event.CollapseNodeEvent;
 import org.eclipse.che.ide.ui.smartTree.event.ExpandNodeEvent;
 import org.eclipse.che.ide.ui.toolbar.PresentationFactory;
 import org.eclipse.che.ide.util.loging.Log;
+import org.eclipse.che.ide.websocket.MessageBus;
+import org.eclipse.che.ide.websocket.MessageBusProvider;
+import org.eclipse.che.ide.websocket.WebSocketException;
+import org.eclipse.che.ide.websocket.events.ConnectionOpenedHandler;
+import org.eclipse.che.ide.websocket.rest.SubscriptionHandler;
+import org.eclipse.che.ide.websocket.rest.Unmarshallable;
 import org.vectomatic.dom.svg.ui.SVGResource;
 
 import javax.validation.constraints.NotNull;
@@ -90,6 +97,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent.VFS_CHANNEL;
 import static org.eclipse.che.api.promises.client.callback.PromiseHelper.newCallback;
 import static org.eclipse.che.api.promises.client.callback.PromiseHelper.newPromise;
 import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.FLOAT_MODE;
@@ -128,12 +137,17 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
     private final ProjectServiceClient         projectService;
     private final NotificationManager          notificationManager;
     private final Provider<EditorAgent>        editorAgentProvider;
+    private final MessageBusProvider           messageBusProvider;
 
     public static final int PART_SIZE = 250;
 
     private boolean hiddenFilesAreShown;
     private boolean showProjects;
 
+    private MessageBus                         vfsMessageBus;
+    private SubscriptionHandler<VfsWatchEvent> vfsWatchHandler;
+    private ConnectionOpenedHandler            vfsReconnectHandler;
+
     @Inject
     public ProjectExplorerPresenter(ProjectExplorerView view,
                                     EventBus eventBus,
@@ -148,7 +162,8 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
                                     ProjectServiceClient projectService,
                                     NotificationManager notificationManager,
                                     ProjectConfigSynchronizationListener synchronizationListener,
-                                    Provider<EditorAgent> editorAgentProvider) {
+                                    Provider<EditorAgent> editorAgentProvider,
+                                    MessageBusProvider messageBusProvider) {
         this.view = view;
         this.view.setDelegate(this);
 
@@ -164,6 +179,7 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
         this.projectService = projectService;
         this.notificationManager = notificationManager;
         this.editorAgentProvider = editorAgentProvider;
+        this.messageBusProvider = messageBusProvider;
 
         eventBus.addHandler(CreateProjectEvent.TYPE, this);
         eventBus.addHandler(DeleteProjectEvent.TYPE, this);
@@ -182,6 +198,7 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
     @Override
     public void onWsAgentStarted(WsAgentStateEvent event) {
         showProjects = true;
+        subscribeToVfsEvents();
 
         nodeManager.getProjectNodes().then(new Operation<List<Node>>() {
             @Override
@@ -211,6 +228,9 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
     }
 
     private void hideProjects() {
+        unsubscribeFromVfsEvents();
+        view.evictAllChildren();
+
         if (showProjects) {
             showProjects = false;
 
@@ -220,6 +240,86 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
         }
     }
 
+    /**
+     * Subscribes to the file watcher events of the workspace agent to evict cached children of changed folders. Children are
+     * cached only while subscription is active, events sent while connection was lost are missed, so cache is cleared on reconnect.
+     */
+    private void subscribeToVfsEvents() {
+        unsubscribeFromVfsEvents();
+
+        final MessageBus messageBus = messageBusProvider.getMachineMessageBus();
+        if (messageBus == null) {
+            return;
+        }
+
+        Unmarshallable<VfsWatchEvent> unmarshaller = dtoUnmarshaller.newWSUnmarshaller(VfsWatchEvent.class);
+        SubscriptionHandler<VfsWatchEvent> handler = new SubscriptionHandler<VfsWatchEvent>(unmarshaller) {
+            @Override
+            protected void onMessageReceived(VfsWatchEvent event) {
+                onVfsWatchEvent(event);
+            }
+
+            @Override
+            protected void onErrorReceived(Throwable exception) {
+                //some changes may be missed, so cached children can't be trusted anymore
+                view.evictAllChildren();
+                Log.error(getClass(), exception);
+            }
+        };
+
+        try {
+            messageBus.subscribe(VFS_CHANNEL, handler);
+        } catch (WebSocketException exception) {
+            Log.error(getClass(), exception);
+            return;
+        }
+
+        ConnectionOpenedHandler reconnectHandler = new ConnectionOpenedHandler() {
+            @Override
+            public void onOpen() {
+                view.evictAllChildren();
+            }
+        };
+        messageBus.addOnOpenHandler(reconnectHandler);
+
+        vfsMessageBus = messageBus;
+        vfsWatchHandler = handler;
+        vfsReconnectHandler = reconnectHandler;
+        view.setUseChildrenCache(true);
+    }
+
+    private void unsubscribeFromVfsEvents() {
+        if (vfsMessageBus == null) {
+            return;
+        }
+
+        view.setUseChildrenCache(false);
+        vfsMessageBus.removeOnOpenHandler(vfsReconnectHandler);
+        try {
+            vfsMessageBus.unsubscribe(VFS_CHANNEL, vfsWatchHandler);
+        } catch (WebSocketException exception) {
+            Log.error(getClass(), exception);
+        }
+
+        vfsMessageBus = null;
+        vfsWatchHandler = null;
+        vfsReconnectHandler = null;
+    }
+
+    private void onVfsWatchEvent(VfsWatchEvent event) {
+        final String path = event.getPath();
+
+        if (!event.isFile()) {
+            //nested folders are outdated only if folder itself has been created or deleted
+            view.evictChildren(path, event.getType() != MODIFIED);
+        }
+
+        int separator = path.lastIndexOf('/');
+        if (separator > 0) {
+            view.evictChildren(path.substring(0, separator), false);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onProjectCreated(CreateProjectEvent event) {
@@ -847,6 +947,7 @@ public class ProjectExplorerPresenter extends BasePresenter implements ActionDel
     public void onRefreshProjectsRequested() {
         //TODO method should be removed when new vfs will be implemented, but at this moment we need this method to handle refresh button
         //click to synchronize project state between client and server
+        view.evictAllChildren();
         nodeManager.getProjectNodes().then(new Operation<List<Node>>() {
             @Override
             public void apply(List<Node> nodes) throws OperationException {
@@ -181,6 +181,30 @@ public interface ProjectExplorerView extends View<ProjectExplorerView.ActionDele
 
     void reloadChildren(Node parent, boolean deep);
 
+    /**
+     * Evict cached children of the folder with specified path, so they will be loaded from the server next time.
+     *
+     * @param path
+     *         path of the folder
+     * @param deep
+     *         true if cached children of nested folders should be evicted too
+     */
+    void evictChildren(String path, boolean deep);
+
+    /**
+     * Evict all cached children, so they will be loaded from the server next time.
+     */
+    void evictAllChildren();
+
+    /**
+     * Turns on or off caching of loaded children. Caching should be on only while changes of folders are tracked
+     * and reported with {@link #evictChildren(String, boolean)}.
+     *
+     * @param useCache
+     *         true if loaded children should be cached
+     */
+    void setUseChildrenCache(boolean useCache);
+
     /**
      * Reload children by node type.
      * Useful method if you want to reload specified nodes, e.g. External Liraries.
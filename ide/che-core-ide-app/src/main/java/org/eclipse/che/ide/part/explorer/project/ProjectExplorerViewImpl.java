@@ -143,6 +143,8 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
         NodeLoader nodeLoader = new NodeLoader(nodeInterceptorSet);
 
         tree = new Tree(nodeStorage, nodeLoader);
+        //projects may contain thousands of files, so only visible rows are rendered
+        tree.setVirtualized(true);
         tree.setContextMenuInvocationHandler(new Tree.ContextMenuInvocationHandler() {
             @Override
             public void onInvokeContextMenu(int x, int y) {
@@ -412,11 +414,37 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
             }
 
             if (tree.isExpanded(node)) {
+                //children of the requested node are reloaded from the server, nested expanded nodes may be loaded from cache
+                evictChildren(node);
                 tree.getNodeLoader().loadChildren(node, deep);
             }
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void evictChildren(String path, boolean deep) {
+        tree.getNodeLoader().evictChildren(path, deep);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setUseChildrenCache(boolean useCache) {
+        tree.getNodeLoader().setUseCaching(useCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictAllChildren() {
+        tree.getNodeLoader().evictAllChildren();
+    }
+
+    private void evictChildren(Node node) {
+        if (node instanceof HasStorablePath) {
+            evictChildren(((HasStorablePath)node).getStorablePath(), false);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void reloadChildrenByType(Class<?> type) {
@@ -427,6 +455,7 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
                 if (child.getClass().equals(type)) {
                     NodeDescriptor nodeDescriptor = tree.getNodeDescriptor(child);
                     if (nodeDescriptor.isLoaded()) {
+                        evictChildren(child);
                         tree.getNodeLoader().loadChildren(child);
                     }
                 }
@@ -455,6 +484,8 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
     /** {@inheritDoc} */
     @Override
     public void showHiddenFiles(boolean show) {
+        evictAllChildren();
+
         for (Node node : tree.getRootNodes()) {
             if (node instanceof HasSettings) {
                 ((HasSettings)node).getSettings().setShowHiddenFiles(show);
@@ -473,6 +504,8 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
     /** {@inheritDoc} */
     @Override
     public void showHiddenFilesForAllExpandedNodes(boolean show) {
+        evictAllChildren();
+
         for (Node node : tree.getRootNodes()) {
             if (node instanceof HasSettings) {
                 ((HasSettings)node).getSettings().setShowHiddenFiles(show);
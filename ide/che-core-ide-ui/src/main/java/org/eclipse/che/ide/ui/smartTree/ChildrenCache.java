@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.ide.api.data.tree.Node;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of loaded children keyed by the path of parent node. When cache is full the least recently used
+ * entry is evicted. Entries expire after the time to live, so missed change events can't keep outdated children
+ * forever.
+ * <p/>
+ * Every eviction increments the cache version. Children loaded by the request, which has been started before
+ * eviction, may be already outdated, so they aren't stored if the version has changed meanwhile.
+ */
+class ChildrenCache {
+
+    private final Map<String, Entry> children;
+    private final long               timeToLive;
+
+    private long version;
+
+    /**
+     * @param maxSize
+     *         maximal number of cached parents
+     * @param timeToLive
+     *         time in milliseconds during which cached children are considered up to date
+     */
+    ChildrenCache(final int maxSize, long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.children = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param path
+     *         path of the parent node
+     * @return copy of the cached children or null if children of the given parent aren't cached
+     */
+    List<Node> get(String path) {
+        Entry cached = children.get(path);
+        if (cached == null) {
+            return null;
+        }
+        if (currentTime() - cached.storedAt > timeToLive) {
+            children.remove(path);
+            return null;
+        }
+        return new ArrayList<>(cached.children);
+    }
+
+    /**
+     * @return current version of the cache, should be obtained before children are requested
+     * @see #put(String, List, long)
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Stores children of the parent node unless cache has been invalidated after the request of children.
+     *
+     * @param path
+     *         path of the parent node
+     * @param loaded
+     *         loaded children
+     * @param requestVersion
+     *         version of the cache at the moment of the request
+     */
+    void put(String path, List<Node> loaded, long requestVersion) {
+        if (requestVersion == version) {
+            children.put(path, new Entry(new ArrayList<>(loaded), currentTime()));
+        }
+    }
+
+    /**
+     * Evicts cached children of the given parent.
+     *
+     * @param path
+     *         path of the parent node
+     * @param deep
+     *         true if cached children of all descendants of the parent should be evicted too
+     */
+    void evict(String path, boolean deep) {
+        version++;
+        children.remove(path);
+        if (deep) {
+            String prefix = path.endsWith("/") ? path : path + '/';
+            for (Iterator<String> iterator = children.keySet().iterator(); iterator.hasNext(); ) {
+                if (iterator.next().startsWith(prefix)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /** Evicts all cached children. */
+    void evictAll() {
+        version++;
+        children.clear();
+    }
+
+    /**
+     * @return number of cached parents
+     */
+    int size() {
+        return children.size();
+    }
+
+    /** Returns current time in milliseconds. */
+    long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private static class Entry {
+        final List<Node> children;
+        final long       storedAt;
+
+        Entry(List<Node> children, long storedAt) {
+            this.children = children;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.eclipse.che.api.promises.client.js.Promises;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.ide.api.data.tree.Node;
 import org.eclipse.che.ide.api.data.tree.NodeInterceptor;
+import org.eclipse.che.ide.api.project.node.HasStorablePath;
 import org.eclipse.che.ide.ui.smartTree.event.BeforeLoadEvent;
 import org.eclipse.che.ide.ui.smartTree.event.CancellableEvent;
 import org.eclipse.che.ide.ui.smartTree.handler.GroupingHandlerRegistration;
@@ -42,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,16 @@ import java.util.Set;
  * @see NodeInterceptor
  */
 public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
+    /**
+     * Maximal number of parents which children are kept in cache.
+     */
+    private static final int CHILDREN_CACHE_SIZE = 500;
+
+    /**
+     * Time in milliseconds during which cached children are considered up to date.
+     */
+    private static final long CHILDREN_CACHE_TTL = 60 * 1000;
+
     /**
      * Temporary storage for current requested nodes. When children have been loaded requested node removes from temporary set.
      */
@@ -72,10 +84,19 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
     private List<NodeInterceptor> nodeInterceptors;
 
     /**
-     * When caching is on nodes will be loaded from cache if they exist otherwise nodes will be loaded every time forcibly.
+     * When caching is on children of nodes with storable path will be loaded from cache if they exist, otherwise nodes will
+     * be loaded every time forcibly. Nodes without storable path are always loaded forcibly. Caching should be on only while
+     * the owner of the tree evicts changed children, e.g. on file watcher events.
      */
     private boolean useCaching = false;
 
+    /**
+     * Loaded children of nodes with storable path.
+     *
+     * @see HasStorablePath
+     */
+    private final ChildrenCache childrenCache = new ChildrenCache(CHILDREN_CACHE_SIZE, CHILDREN_CACHE_TTL);
+
     private Tree tree;
 
     private GroupingHandlerRegistration handlerRegistration;
@@ -175,16 +196,15 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
             return loadedChildren;
         }
 
+        final Set<String> existedKeys = new HashSet<>(existed.size() * 2);
+        for (NodeDescriptor nodeDescriptor : existed) {
+            existedKeys.add(getDiffKey(nodeDescriptor.getNode()));
+        }
+
         Iterable<Node> newItems = Iterables.filter(loadedChildren, new Predicate<Node>() {
             @Override
             public boolean apply(Node loadedChild) {
-                for (NodeDescriptor nodeDescriptor : existed) {
-                    if (nodeDescriptor.getNode().getName().equals(loadedChild.getName())
-                        && nodeDescriptor.getNode().getClass().equals(loadedChild.getClass())) {
-                        return false;
-                    }
-                }
-                return true;
+                return !existedKeys.contains(getDiffKey(loadedChild));
             }
         });
 
@@ -198,23 +218,29 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
             return Collections.emptyList();
         }
 
+        final Set<String> loadedKeys = new HashSet<>(loadedChildren.size() * 2);
+        for (Node loadedChild : loadedChildren) {
+            loadedKeys.add(getDiffKey(loadedChild));
+        }
+
         Iterable<NodeDescriptor> removedItems = Iterables.filter(existed, new Predicate<NodeDescriptor>() {
             @Override
             public boolean apply(NodeDescriptor existedChild) {
-                boolean found = false;
-                for (Node loadedChild : loadedChildren) {
-                    if (loadedChild.getName().equals(existedChild.getNode().getName())
-                        && loadedChild.getClass().equals(existedChild.getNode().getClass())) {
-                        found = true;
-                    }
-                }
-                return !found;
+                return !loadedKeys.contains(getDiffKey(existedChild.getNode()));
             }
         });
 
         return Lists.newArrayList(removedItems);
     }
 
+    /**
+     * Returns key to match loaded children with existed ones. Children are considered the same if they have
+     * the same name and type, so the lookup of each child doesn't depend on the amount of children.
+     */
+    private String getDiffKey(Node node) {
+        return node.getClass().getName() + '/' + node.getName();
+    }
+
     private SimpleEventBus eventBus;
 
     /**
@@ -340,15 +366,42 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
         if (fireEvent(new BeforeLoadEvent(parent))) {
             lastRequest = parent;
 
-            parent.getChildren(!useCaching)
-                  .then(interceptChildren(parent))
-                  .catchError(onLoadFailure(parent));
+            getChildren(parent).then(interceptChildren(parent))
+                               .catchError(onLoadFailure(parent));
             return true;
         }
 
         return false;
     }
 
+    /**
+     * Returns children of the given parent either from cache or from the server.
+     *
+     * @param parent
+     *         parent node
+     * @return promise with children
+     */
+    private Promise<List<Node>> getChildren(@NotNull Node parent) {
+        if (!useCaching || !(parent instanceof HasStorablePath)) {
+            return parent.getChildren(true);
+        }
+
+        final String path = ((HasStorablePath)parent).getStorablePath();
+        List<Node> cached = childrenCache.get(path);
+        if (cached != null) {
+            return Promises.resolve(cached);
+        }
+
+        final long version = childrenCache.getVersion();
+        return parent.getChildren(true).then(new Function<List<Node>, List<Node>>() {
+            @Override
+            public List<Node> apply(List<Node> children) throws FunctionException {
+                childrenCache.put(path, children, version);
+                return children;
+            }
+        });
+    }
+
     /**
      * Fires the given event.
      *
@@ -463,24 +516,48 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
     }
 
     /**
-     * Indicates that node value provider uses caching. It means that if node already has
-     * children they will be returned to the tree, otherwise children nodes will be forcibly
-     * loaded from the server.
+     * Indicates that node loader uses caching. It means that children of node with storable path are returned
+     * to the tree from cache if they were loaded before and weren't evicted, and didn't expire, otherwise they
+     * are loaded from the server. Children of nodes without storable path are always loaded from the server.
+     * Cached children are evicted with {@link #evictChildren(String, boolean)}, e.g. on file watcher events.
      *
-     * @return true if value provider uses caching, otherwise false
+     * @return true if node loader uses caching, otherwise false
      */
     public boolean isUseCaching() {
         return useCaching;
     }
 
     /**
-     * Set cache using.
+     * Set cache using. Turning caching off evicts all cached children.
      *
      * @param useCaching
-     *         true if value provider should use caching, otherwise false
+     *         true if node loader should use caching, otherwise false
      */
     public void setUseCaching(boolean useCaching) {
         this.useCaching = useCaching;
+        if (!useCaching) {
+            childrenCache.evictAll();
+        }
+    }
+
+    /**
+     * Evicts cached children of the node with given storable path, so they will be loaded from the server next time.
+     *
+     * @param path
+     *         storable path of the parent node
+     * @param deep
+     *         true if cached children of all descendants of the parent node should be evicted too
+     * @see HasStorablePath
+     */
+    public void evictChildren(@NotNull String path, boolean deep) {
+        childrenCache.evict(path, deep);
+    }
+
+    /**
+     * Evicts all cached children.
+     */
+    public void evictAllChildren() {
+        childrenCache.evictAll();
     }
 
     /**
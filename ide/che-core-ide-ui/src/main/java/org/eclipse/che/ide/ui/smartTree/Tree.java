@@ -67,8 +67,11 @@ import org.eclipse.che.ide.ui.status.StatusText;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -266,6 +269,26 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
      */
     private DelayedTask updateTask;
 
+    /**
+     * Delayed task to clear rendered nodes which have been scrolled out of the visible area.
+     */
+    private DelayedTask cleanTask;
+
+    /**
+     * Cached index of visible rows. Index is rebuilt on demand after nodes have been added, removed, expanded or collapsed.
+     */
+    private VisibleRows visibleRows;
+
+    /**
+     * When virtualization is on nodes are rendered as placeholders and real DOM is created only for the visible rows.
+     */
+    private boolean virtualized = false;
+
+    /**
+     * Unique IDs of nodes, which have been rendered in place of placeholders.
+     */
+    private Set<String> renderedRows = new HashSet<>();
+
     /**
      * Experimental feature that allow tree to simulate "Go Into" on non-leaf node if one's allow this by checking Node#supportGoInto().
      */
@@ -621,6 +644,26 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         return getPresentationRenderer().render(node, register(node), getJoint(node), depth);
     }
 
+    /**
+     * Enable or disable virtualized rendering. In virtualized mode only rows in the visible area and the cache
+     * (see {@link TreeView#getCacheSize()}) are rendered, other nodes are kept as lightweight placeholders.
+     * Useful for the trees with big amount of nodes. Should be set before nodes are rendered.
+     *
+     * @param virtualized true if only visible rows should be rendered, otherwise false
+     */
+    public void setVirtualized(boolean virtualized) {
+        this.virtualized = virtualized;
+    }
+
+    /**
+     * Returns true if only visible rows are rendered.
+     *
+     * @return true if virtualized rendering is on, otherwise false
+     */
+    public boolean isVirtualized() {
+        return virtualized;
+    }
+
     /**
      * Returns joint element for the specified node.
      *
@@ -766,6 +809,8 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             }
 
             nodesByDom.clear();
+            renderedRows.clear();
+            visibleRows = null;
             if (isAttached()) {
                 moveFocus(getContainer(null));
             }
@@ -859,6 +904,9 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         }
 
         ((HasPresentation) node).getPresentation(true); //update presentation
+        if (virtualized && !view.isRendered(nodeDescriptor)) {
+            return; //node will be rendered with updated presentation when it becomes visible
+        }
         Element el = getPresentationRenderer().render(node, nodeDescriptor.getDomId(), getJoint(node), nodeStorage.getDepth(node) - 1);
 
         view.onElementChanged(nodeDescriptor, el);
@@ -1016,31 +1064,51 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     protected void update() {
+        visibleRows = null;
+        scheduleUpdate();
+    }
+
+    /**
+     * Schedules rendering of the visible rows without rebuilding of the rows index, e.g. when tree is scrolled.
+     */
+    private void scheduleUpdate() {
         if (updateTask == null) {
             updateTask = new DelayedTask() {
                 @Override
                 public void onExecute() {
                     int count = getVisibleRowCount();
                     if (count > 0) {
-                        List<Node> rootItems = getRootNodes();
-                        List<Node> visible = getAllChildNodes(rootItems, true);
+                        VisibleRows visible = getRowsIndex();
                         int[] vr = getVisibleRows(visible, count);
 
                         for (int i = vr[0]; i <= vr[1]; i++) {
+                            Node node = visible.get(i);
+                            NodeDescriptor nodeDescriptor = getNodeDescriptor(node);
+                            if (nodeDescriptor == null) {
+                                continue;
+                            }
+                            if (!view.isRendered(nodeDescriptor)) {
+                                //node is already registered, so render it without resetting of its state
+                                Node parent = nodeStorage.getParent(node);
+                                Element html = getPresentationRenderer().render(node, nodeDescriptor.getDomId(), getJoint(node),
+                                                                                nodeStorage.getDepth(parent));
+                                view.onElementRendered(nodeDescriptor, html);
+                                if (virtualized) {
+                                    renderedRows.add(getUniqueId(node));
+                                }
+                            }
                             if (goInto.isActive()) {
                                 //constraint node indention
                                 int goIntoDirDepth = nodeStorage.getDepth(goInto.getLastUsed());
-                                int currentNodeDepth = nodeStorage.getDepth(visible.get(i));
+                                int currentNodeDepth = nodeStorage.getDepth(node);
 
-                                view.onDepthUpdated(getNodeDescriptor(visible.get(i)), currentNodeDepth - goIntoDirDepth);
-                            }
-                            if (!isRowRendered(i, visible)) {
-                                Node parent = nodeStorage.getParent(visible.get(i));
-                                Element html = renderNode(visible.get(i), nodeStorage.getDepth(parent));
-                                Element rootContainer = view.getRootContainer(getNodeDescriptor(visible.get(i)));
-                                rootContainer.replaceChild(rootContainer.getFirstChildElement(), html);
+                                view.onDepthUpdated(nodeDescriptor, currentNodeDepth - goIntoDirDepth);
                             }
                         }
+
+                        if (virtualized && !renderedRows.isEmpty()) {
+                            scheduleClean();
+                        }
                     }
                 }
             };
@@ -1048,6 +1116,43 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         updateTask.delay(view.getScrollDelay());
     }
 
+    /**
+     * Schedules clearing of the rendered rows which are out of the visible area and the cache.
+     */
+    private void scheduleClean() {
+        if (cleanTask == null) {
+            cleanTask = new DelayedTask() {
+                @Override
+                public void onExecute() {
+                    int count = getVisibleRowCount();
+                    if (count == 0) {
+                        return;
+                    }
+
+                    VisibleRows visible = getRowsIndex();
+                    int[] vr = getVisibleRows(visible, count);
+                    int first = vr[0] - view.getCacheSize();
+                    int last = vr[1] + view.getCacheSize();
+
+                    for (Iterator<String> iterator = renderedRows.iterator(); iterator.hasNext(); ) {
+                        String id = iterator.next();
+                        int row = visible.indexOf(id);
+                        if (row >= first && row <= last) {
+                            continue;
+                        }
+
+                        iterator.remove();
+                        NodeDescriptor nodeDescriptor = nodeStorage.getNodeMap().get(id);
+                        if (nodeDescriptor != null && view.isRendered(nodeDescriptor)) {
+                            view.onElementCleared(nodeDescriptor);
+                        }
+                    }
+                }
+            };
+        }
+        cleanTask.delay(view.getCleanDelay());
+    }
+
     protected Element getContainer(Node node) {
         if (node == null) {
             return rootContainer;
@@ -1207,7 +1312,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         }
 
         for (Node child : children) {
-            Element element = renderNode(child, depth);
+            Element element = virtualized ? view.createPlaceholder(register(child)) : renderNode(child, depth);
             container.appendChild(element);
         }
 
@@ -1320,9 +1425,11 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         DOM.sinkEvents((Element) focusEl.cast(), bits | Event.FOCUSEVENTS);
     }
 
-    private boolean isRowRendered(int i, List<Node> visible) {
-        Element e = view.getRootContainer(getNodeDescriptor(visible.get(i)));
-        return e != null && e.getFirstChild().hasChildNodes();
+    private VisibleRows getRowsIndex() {
+        if (visibleRows == null) {
+            visibleRows = new VisibleRows(getAllChildNodes(getRootNodes(), true), nodeStorage.getKeyProvider());
+        }
+        return visibleRows;
     }
 
     private int getVisibleRowCount() {
@@ -1341,7 +1448,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
 
-    private int[] getVisibleRows(List<Node> visible, int count) {
+    private int[] getVisibleRows(VisibleRows visible, int count) {
         int sc = getElement().getScrollTop();
         int start = (int) (sc == 0 ? 0 : Math.floor(sc / view.getCalculatedRowHeight()) - 1);
         int first = Math.max(start, 0);
@@ -1366,12 +1473,12 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             if (parent == null) {
                 for (Node child : event.getNodes()) {
                     if (index == 0) {
-                        container.insertFirst(renderNode(child, 0));
+                        container.insertFirst(renderAddedNode(child, 0));
                     } else if (index == getNodeStorage().getRootCount() - event.getNodes().size()) {
                         com.google.gwt.dom.client.Node lastChild = container.getLastChild();
-                        container.insertAfter(renderNode(child, 0), lastChild);
+                        container.insertAfter(renderAddedNode(child, 0), lastChild);
                     } else {
-                        container.insertBefore(renderNode(child, 0), container.getChild(index));
+                        container.insertBefore(renderAddedNode(child, 0), container.getChild(index));
                     }
                     scrollIntoView(child);
                 }
@@ -1386,12 +1493,12 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
                             setExpanded(descriptor.getNode(), true);
                         }
                         if (index == 0) {
-                            container.insertFirst(renderNode(child, parentDepth));
+                            container.insertFirst(renderAddedNode(child, parentDepth));
                         } else if (index == parentChildCount - event.getNodes().size()) {
                             com.google.gwt.dom.client.Node lastChild = container.getLastChild();
-                            container.insertAfter(renderNode(child, parentDepth), lastChild);
+                            container.insertAfter(renderAddedNode(child, parentDepth), lastChild);
                         } else {
-                            container.insertBefore(renderNode(child, parentDepth), container.getChild(index));
+                            container.insertBefore(renderAddedNode(child, parentDepth), container.getChild(index));
                         }
                         scrollIntoView(child);
                     }
@@ -1409,6 +1516,19 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         }
     }
 
+    /**
+     * Renders node which has been added to the storage. Added node is scrolled into view, so it is rendered at once
+     * even in virtualized mode, but then it is tracked as the other rendered rows and turned back into placeholder
+     * when it leaves the visible area.
+     */
+    private Element renderAddedNode(Node node, int depth) {
+        Element element = renderNode(node, depth);
+        if (virtualized) {
+            renderedRows.add(getUniqueId(node));
+        }
+        return element;
+    }
+
     @SuppressWarnings("unused") //temporary no need to use event parameter
     private void onClear(StoreClearEvent event) {
         clear();
@@ -1419,6 +1539,8 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     private void onRemove(StoreRemoveEvent se) {
+        visibleRows = null;
+
         NodeDescriptor nodeDescriptor = getNodeDescriptor(se.getNode());
         if (nodeDescriptor != null) {
             if (view.getRootContainer(nodeDescriptor) != null) {
@@ -1489,7 +1611,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     private void onScroll(Event event) {
-        update();
+        scheduleUpdate();
         constrainFocusElement();
     }
 
@@ -192,6 +192,55 @@ public class TreeView {
         onSelectChange(node.getNode(), tree.getSelectionModel().isSelected(node.getNode()));
     }
 
+    /**
+     * Creates lightweight row for the node which has not been rendered yet. Row keeps the root and descendants containers,
+     * so children of the node may be rendered as usual, but node container is empty and has only the row height.
+     *
+     * @param domId
+     *         registered dom id of the node
+     * @return placeholder element
+     * @see #onElementRendered(NodeDescriptor, Element)
+     */
+    public Element createPlaceholder(String domId) {
+        Element rootContainer = tree.getPresentationRenderer().getRootContainer(domId);
+        rootContainer.appendChild(createEmptyNodeContainer());
+        rootContainer.appendChild(tree.getPresentationRenderer().getDescendantsContainer());
+        return rootContainer;
+    }
+
+    /**
+     * Returns true if node container of the given node has been rendered, false if node is shown by placeholder
+     * or isn't shown at all.
+     */
+    public boolean isRendered(NodeDescriptor node) {
+        Element rootContainer = getRootContainer(node);
+        return rootContainer != null && rootContainer.getFirstChild().hasChildNodes();
+    }
+
+    /**
+     * Puts rendered node container in place of the current one. Unlike {@link #onElementChanged(NodeDescriptor, Element)}
+     * doesn't change selection or focus, state of the node is applied to the new container as is.
+     *
+     * @param node
+     *         node which has been rendered
+     * @param element
+     *         rendered node element
+     */
+    public void onElementRendered(NodeDescriptor node, Element element) {
+        replaceNodeContainer(node, element.getFirstChildElement());
+    }
+
+    /**
+     * Replaces rendered node container with the empty one, so that DOM of the node which isn't visible
+     * doesn't take memory and doesn't slow down layout.
+     *
+     * @param node
+     *         node to clear
+     */
+    public void onElementCleared(NodeDescriptor node) {
+        replaceNodeContainer(node, createEmptyNodeContainer());
+    }
+
     public void onJointChange(NodeDescriptor node, Tree.Joint joint) {
         Element currJointEl = getJointContainer(node);
 
@@ -298,6 +347,30 @@ public class TreeView {
         }
     }
 
+    private Element createEmptyNodeContainer() {
+        Element nodeContainer = tree.getPresentationRenderer().getNodeContainer();
+        nodeContainer.getStyle().setHeight(getCalculatedRowHeight(), Style.Unit.PX);
+        return nodeContainer;
+    }
+
+    private void replaceNodeContainer(NodeDescriptor node, Element nodeContainer) {
+        Element rootContainer = getRootContainer(node);
+        if (rootContainer == null || rootContainer.getFirstChildElement() == null) {
+            return;
+        }
+        rootContainer.replaceChild(nodeContainer, rootContainer.getFirstChildElement());
+
+        node.setNodeContainerElement(nodeContainer);
+        node.setJointContainerElement(null);
+        node.setIconContainerElement(null);
+        node.setUserElement(null);
+        node.setPresentableTextContainer(null);
+        node.setInfoTextContainer(null);
+
+        setClassName(nodeContainer, tree.getTreeStyles().styles().selected(), tree.getSelectionModel().isSelected(node.getNode()));
+        setClassName(nodeContainer, tree.getTreeStyles().styles().loading(), node.isLoading());
+    }
+
     private boolean isJointElement(Element element) {
         if (element instanceof SVGSVGElement) {
             SVGSVGElement joint = (SVGSVGElement)element;
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.ide.api.data.tree.Node;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat index of visible tree rows, i.e. root nodes and descendants of expanded nodes in the display order.
+ * Allows to find node by row and row by node in constant time. Index is immutable and should be rebuilt
+ * when nodes are added, removed, expanded or collapsed.
+ */
+class VisibleRows {
+
+    private final List<Node>              rows;
+    private final Map<String, Integer>    rowsByKey;
+    private final UniqueKeyProvider<Node> keyProvider;
+
+    /**
+     * @param rows
+     *         visible nodes in the display order
+     * @param keyProvider
+     *         provider of unique node keys
+     */
+    VisibleRows(List<Node> rows, UniqueKeyProvider<Node> keyProvider) {
+        this.rows = rows;
+        this.keyProvider = keyProvider;
+        this.rowsByKey = new HashMap<>(rows.size() * 2);
+        for (int i = 0; i < rows.size(); i++) {
+            rowsByKey.put(keyProvider.getKey(rows.get(i)), i);
+        }
+    }
+
+    /**
+     * @return number of visible rows
+     */
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * @param row
+     *         row index
+     * @return node displayed in the given row
+     */
+    Node get(int row) {
+        return rows.get(row);
+    }
+
+    /**
+     * @param node
+     *         node to find
+     * @return row of the given node or -1 if node isn't visible
+     */
+    int indexOf(Node node) {
+        return indexOf(keyProvider.getKey(node));
+    }
+
+    /**
+     * @param key
+     *         unique key of node to find
+     * @return row of the node with the given key or -1 if node isn't visible
+     */
+    int indexOf(String key) {
+        Integer row = rowsByKey.get(key);
+        return row == null ? -1 : row;
+    }
+}
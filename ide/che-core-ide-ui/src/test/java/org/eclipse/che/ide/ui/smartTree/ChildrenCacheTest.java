@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.ide.api.data.tree.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+public class ChildrenCacheTest {
+
+    private ChildrenCache cache;
+    private List<Node>    children;
+    private long          time;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new ChildrenCache(2, 1000) {
+            @Override
+            long currentTime() {
+                return time;
+            }
+        };
+        children = singletonList(mock(Node.class));
+    }
+
+    @Test
+    public void shouldReturnCachedChildren() throws Exception {
+        cache.put("/project", children, cache.getVersion());
+
+        assertEquals(children, cache.get("/project"));
+        assertNull(cache.get("/project/src"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedParent() throws Exception {
+        cache.put("/project", children, cache.getVersion());
+        cache.put("/project/src", children, cache.getVersion());
+        cache.get("/project");
+
+        cache.put("/project/test", children, cache.getVersion());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("/project"));
+        assertNull(cache.get("/project/src"));
+    }
+
+    @Test
+    public void shouldEvictDescendantsOnDeepEviction() throws Exception {
+        cache.put("/project/src", children, cache.getVersion());
+        cache.put("/project/src/main", children, cache.getVersion());
+
+        cache.evict("/project/src", false);
+        assertNotNull(cache.get("/project/src/main"));
+
+        cache.evict("/project/src", true);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldExpireCachedChildren() throws Exception {
+        cache.put("/project", children, cache.getVersion());
+
+        time = 1000;
+        assertNotNull(cache.get("/project"));
+
+        time = 1001;
+        assertNull(cache.get("/project"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotStoreChildrenRequestedBeforeEviction() throws Exception {
+        long version = cache.getVersion();
+
+        cache.evict("/project", false);
+        cache.put("/project", children, version);
+
+        assertNull(cache.get("/project"));
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+
+import org.eclipse.che.api.promises.client.Function;
+import org.eclipse.che.api.promises.client.Operation;
+import org.eclipse.che.api.promises.client.Promise;
+import org.eclipse.che.ide.api.data.tree.Node;
+import org.eclipse.che.ide.api.project.node.HasStorablePath;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class NodeLoaderTest {
+
+    @Mock
+    private Promise<List<Node>> promise;
+
+    private NodeLoader loader;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        when(promise.then(any(Operation.class))).thenReturn(promise);
+        when(promise.then(any(Function.class))).thenReturn(promise);
+
+        loader = new NodeLoader();
+        loader.setUseCaching(true);
+    }
+
+    @Test
+    public void shouldLoadChildrenOfNodeWithoutStorablePathForcibly() throws Exception {
+        Node node = mock(Node.class);
+        when(node.getChildren(anyBoolean())).thenReturn(promise);
+
+        loader.loadChildren(node);
+
+        verify(node).getChildren(true);
+    }
+
+    @Test
+    public void shouldLoadChildrenOfNodeWithStorablePathForciblyWhenTheyAreNotCached() throws Exception {
+        Node node = mock(Node.class, withSettings().extraInterfaces(HasStorablePath.class));
+        when(((HasStorablePath)node).getStorablePath()).thenReturn("/project/src");
+        when(node.getChildren(anyBoolean())).thenReturn(promise);
+
+        loader.loadChildren(node);
+
+        verify(node).getChildren(true);
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.ide.api.data.tree.Node;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class VisibleRowsTest {
+
+    private static final int ROWS = 50_000;
+
+    private static final UniqueKeyProvider<Node> KEY_PROVIDER = new UniqueKeyProvider<Node>() {
+        @Override
+        public String getKey(Node item) {
+            return item.getName();
+        }
+    };
+
+    @Test
+    public void shouldFindRowsOfBigTree() throws Exception {
+        List<Node> nodes = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            nodes.add(node("/project/file" + i));
+        }
+
+        VisibleRows rows = new VisibleRows(nodes, KEY_PROVIDER);
+
+        assertEquals(ROWS, rows.size());
+        assertEquals(0, rows.indexOf(nodes.get(0)));
+        assertEquals(ROWS / 2, rows.indexOf("/project/file" + ROWS / 2));
+        assertEquals(ROWS - 1, rows.indexOf(nodes.get(ROWS - 1)));
+        assertSame(nodes.get(ROWS - 1), rows.get(ROWS - 1));
+    }
+
+    @Test
+    public void shouldNotFindHiddenNode() throws Exception {
+        VisibleRows rows = new VisibleRows(singletonList(node("/project")), KEY_PROVIDER);
+
+        assertEquals(-1, rows.indexOf(node("/project/src")));
+        assertEquals(-1, rows.indexOf("/project/src"));
+    }
+
+    private static Node node(String name) {
+        Node node = mock(Node.class);
+        when(node.getName()).thenReturn(name);
+        return node;
+    }
+}
@@ -15,6 +15,7 @@ import com.google.gwt.http.client.RequestBuilder;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 
+import org.eclipse.che.ide.collections.js.JsoArray;
 import org.eclipse.che.ide.rest.HTTPHeader;
 import org.eclipse.che.ide.util.ListenerManager;
 import org.eclipse.che.ide.util.loging.Log;
@@ -205,7 +206,14 @@ abstract class AbstractMessageBus implements MessageBus {
 
         if (getChannel(message) != null) {
             // this is a message received by subscription
-            processSubscriptionMessage(message);
+            JsoArray<String> batch = message.getBatch();
+            if (batch == null) {
+                processSubscriptionMessage(message);
+            } else {
+                for (int i = 0; i < batch.size(); i++) {
+                    processSubscriptionMessage(getBatchPart(message, batch.get(i)));
+                }
+            }
         } else {
             String uuid = message.getStringField(MessageBuilder.UUID_FIELD);
             ReplyHandler replyCallback = replyCallbackMap.remove(uuid);
@@ -241,6 +249,23 @@ abstract class AbstractMessageBus implements MessageBus {
         }
     }
 
+    /**
+     * Create the {@link Message} delivered within the batch message.
+     *
+     * @param batchMessage
+     *         batch {@link Message}
+     * @param body
+     *         body of the delivered message
+     * @return {@link Message}
+     */
+    private Message getBatchPart(Message batchMessage, String body) {
+        Message message = Message.create();
+        message.setHeaders(batchMessage.getHeaders());
+        message.setResponseCode(batchMessage.getResponseCode());
+        message.setBody(body);
+        return message;
+    }
+
     /**
      * Parse text message to {@link Message} object.
      *
@@ -559,10 +584,11 @@ abstract class AbstractMessageBus implements MessageBus {
             });
 
             try {
-                for (String message : messages2send) {
-                    send(message);
+                // remove each message once it is sent, so it isn't sent again after failure of the next one
+                while (!messages2send.isEmpty() && getReadyState() == ReadyState.OPEN) {
+                    send(messages2send.get(0));
+                    messages2send.remove(0);
                 }
-                messages2send.clear();
             } catch (WebSocketException e) {
                 Log.error(MessageBusImpl.class, e);
             }
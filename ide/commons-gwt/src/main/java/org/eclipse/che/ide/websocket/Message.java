@@ -100,6 +100,15 @@ public class Message extends Jso {
         addField("headers", headers);
     }
 
+    /**
+     * Get bodies of the messages delivered within one batch message.
+     *
+     * @return bodies of the batched messages or <code>null</code> if it isn't a batch message
+     */
+    public final JsoArray<String> getBatch() {
+        return getArrayField("batch").cast();
+    }
+
     /**
      * Get response code.
      *
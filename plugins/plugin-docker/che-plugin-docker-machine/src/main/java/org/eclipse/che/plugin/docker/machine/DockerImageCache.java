@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Striped;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.Dockerfile;
+import org.eclipse.che.plugin.docker.client.json.Image;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
+import org.eclipse.che.plugin.docker.client.params.TagParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Named;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cache of images built from Dockerfile recipes.
+ * <p/>
+ * Images are content addressed: name of cached image is derived from hash of the rendered Dockerfile and id of its base image,
+ * so machines that use the same recipe share one image instead of building it again. Concurrent builds of the same recipe are
+ * deduplicated, the second builder waits until the first one finishes and reuses its result.
+ * <p/>
+ * Cached images are removed by periodical job when they become older than configured age or when number of cached images exceeds
+ * configured limit, least recently used images are removed first. Removal of cached image removes only its cache tag, images
+ * tagged by running machines stay untouched. Cached images left by previous runs of the server are taken into account by the
+ * same job, so they are reused until they expire.
+ * <p/>
+ * Key of cached image is computed from the local base image, so if base image should be updated it has to be pulled before
+ * the cache is asked for the image.
+ *
+ * @see DockerInstanceProvider
+ */
+@Singleton
+public class DockerImageCache implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(DockerImageCache.class);
+
+    /** Repository of cached images. */
+    public static final String CACHE_REPOSITORY = "eclipse-che-cache/";
+
+    /** Builds image with specified name. */
+    public interface ImageBuilder {
+        void build(String imageName) throws MachineException;
+    }
+
+    private final DockerConnector          docker;
+    private final boolean                  enabled;
+    private final int                      maxImages;
+    private final long                     maxAgeMs;
+    private final Striped<Lock>            buildLocks;
+    @VisibleForTesting
+    final         Map<String, CachedImage> images;
+
+    @Inject
+    public DockerImageCache(DockerConnector docker,
+                            @Named("machine.docker.build_cache.enabled") boolean enabled,
+                            @Named("machine.docker.build_cache.max_images") int maxImages,
+                            @Named("machine.docker.build_cache.max_age_min") long maxAgeMin) {
+        this.docker = docker;
+        this.enabled = enabled;
+        this.maxImages = maxImages;
+        this.maxAgeMs = TimeUnit.MINUTES.toMillis(maxAgeMin);
+        this.buildLocks = Striped.lazyWeakLock(64);
+        this.images = new ConcurrentHashMap<>();
+    }
+
+    /** Returns {@code true} if recipes should be built through this cache. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tags the cached image built from {@code dockerfile} with {@code targetImage}. If there is no such image it is built with
+     * {@code builder}. Cached image can't be removed from the cache until it is tagged.
+     *
+     * @param dockerfile
+     *         parsed Dockerfile recipe
+     * @param targetImage
+     *         name of the machine image
+     * @param output
+     *         consumer of the messages about the cache usage
+     * @param builder
+     *         builds image if it is not found in the cache
+     * @return name of the cached image
+     * @throws MachineException
+     *         if build or tagging of the image fails
+     */
+    public String getImage(Dockerfile dockerfile,
+                           String targetImage,
+                           LineConsumer output,
+                           ImageBuilder builder) throws MachineException {
+        final String baseImage = dockerfile.getImages().get(0).getFrom();
+        final String baseImageId = findImageId(baseImage);
+        final String key = computeKey(dockerfile, baseImageId != null ? baseImageId : baseImage);
+
+        final Lock lock = buildLocks.get(key);
+        if (!lock.tryLock()) {
+            writeLine(output, "[DOCKER] Image of the same recipe is being built for another machine, waiting for it");
+            lock.lock();
+        }
+        try {
+            final CachedImage cached = findCachedImage(key);
+            if (cached != null) {
+                cached.lastUsed = System.currentTimeMillis();
+                writeLine(output, "[DOCKER] Using cached image " + cached.name);
+                tag(cached.name, targetImage);
+                return cached.name;
+            }
+            final String imageName = CACHE_REPOSITORY + key;
+            builder.build(imageName);
+            images.put(key, new CachedImage(imageName, System.currentTimeMillis()));
+            if (baseImageId == null) {
+                // base image was pulled by build, so next time key will be computed from its id
+                addAlias(dockerfile, baseImage, imageName);
+            }
+            tag(imageName, targetImage);
+            return imageName;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes expired images and least recently used images which exceed limit of the cache. */
+    @ScheduleRate(periodParameterName = "machine.docker.build_cache.cleanup_period_min",
+                  initialDelayParameterName = "machine.docker.build_cache.cleanup_period_min",
+                  unit = TimeUnit.MINUTES)
+    @Override
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            indexExistingImages();
+            final long now = System.currentTimeMillis();
+            final List<Map.Entry<String, CachedImage>> alive = new ArrayList<>();
+            for (Map.Entry<String, CachedImage> entry : images.entrySet()) {
+                if (isExpired(entry.getValue(), now)) {
+                    evict(entry.getKey());
+                } else {
+                    alive.add(entry);
+                }
+            }
+            if (alive.size() > maxImages) {
+                alive.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsed));
+                for (Map.Entry<String, CachedImage> entry : alive.subList(0, alive.size() - maxImages)) {
+                    evict(entry.getKey());
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to clean up cached docker images", e);
+        }
+    }
+
+    @VisibleForTesting
+    static String computeKey(Dockerfile dockerfile, String baseImage) {
+        final StringBuilder content = new StringBuilder();
+        try {
+            dockerfile.writeDockerfile(content);
+        } catch (IOException e) {
+            // never happens with StringBuilder
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return Hashing.sha256()
+                      .newHasher()
+                      .putString(content, UTF_8)
+                      .putChar('\0')
+                      .putString(baseImage, UTF_8)
+                      .hash()
+                      .toString();
+    }
+
+    /**
+     * Finds image in memory or, since images survive restart of the server, in docker.
+     * Returns {@code null} if image is not found or expired.
+     */
+    private CachedImage findCachedImage(String key) {
+        CachedImage cached = images.get(key);
+        if (cached == null) {
+            final ImageInfo info = inspectImage(CACHE_REPOSITORY + key);
+            if (info == null) {
+                return null;
+            }
+            cached = new CachedImage(CACHE_REPOSITORY + key, parseCreated(info.getCreated()));
+            images.put(key, cached);
+        }
+        return isExpired(cached, System.currentTimeMillis()) ? null : cached;
+    }
+
+    private void addAlias(Dockerfile dockerfile, String baseImage, String imageName) {
+        final String baseImageId = findImageId(baseImage);
+        if (baseImageId == null) {
+            return;
+        }
+        final String aliasKey = computeKey(dockerfile, baseImageId);
+        final Lock lock = buildLocks.get(aliasKey);
+        // alias is optional, so don't wait for the lock which may be held by the thread waiting for our lock
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            docker.tag(TagParams.create(imageName, CACHE_REPOSITORY + aliasKey));
+            images.put(aliasKey, new CachedImage(CACHE_REPOSITORY + aliasKey, System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.warn("Failed to tag cached image {}. {}", imageName, e.getLocalizedMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void tag(String cachedImage, String targetImage) throws MachineException {
+        try {
+            docker.tag(TagParams.create(cachedImage, targetImage));
+        } catch (IOException e) {
+            throw new MachineException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    /** Adds cached images which are left by previous runs of the server, so they are reused or removed as usual. */
+    private void indexExistingImages() throws IOException {
+        for (Image image : docker.listImages()) {
+            if (image.getRepoTags() == null) {
+                continue;
+            }
+            for (String repoTag : image.getRepoTags()) {
+                if (repoTag.startsWith(CACHE_REPOSITORY)) {
+                    final int tagStart = repoTag.lastIndexOf(':');
+                    final String key = repoTag.substring(CACHE_REPOSITORY.length(), tagStart == -1 ? repoTag.length() : tagStart);
+                    images.putIfAbsent(key, new CachedImage(CACHE_REPOSITORY + key, TimeUnit.SECONDS.toMillis(image.getCreated())));
+                }
+            }
+        }
+    }
+
+    /** Removes image unless it is being built right now. */
+    private void evict(String key) {
+        final Lock lock = buildLocks.get(key);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            images.remove(key);
+            docker.removeImage(RemoveImageParams.create(CACHE_REPOSITORY + key).withForce(false));
+            LOG.info("Cached docker image {} was removed", CACHE_REPOSITORY + key);
+        } catch (IOException e) {
+            LOG.warn("Failed to remove cached docker image {}. {}", CACHE_REPOSITORY + key, e.getLocalizedMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(CachedImage image, long now) {
+        return now - image.created > maxAgeMs;
+    }
+
+    private String findImageId(String image) {
+        final ImageInfo info = inspectImage(image);
+        return info == null ? null : info.getId();
+    }
+
+    private ImageInfo inspectImage(String image) {
+        try {
+            return docker.inspectImage(image);
+        } catch (IOException e) {
+            LOG.debug(e.getLocalizedMessage(), e);
+            return null;
+        }
+    }
+
+    private static long parseCreated(String created) {
+        try {
+            return Instant.parse(created).toEpochMilli();
+        } catch (NullPointerException | DateTimeParseException e) {
+            return System.currentTimeMillis();
+        }
+    }
+
+    private static void writeLine(LineConsumer output, String line) {
+        try {
+            output.writeLine(line);
+        } catch (IOException e) {
+            LOG.error(e.getLocalizedMessage(), e);
+        }
+    }
+
+    @VisibleForTesting
+    static class CachedImage {
+        final String name;
+        final long   created;
+
+        volatile long lastUsed;
+
+        CachedImage(String name, long created) {
+            this.name = name;
+            this.created = created;
+            this.lastUsed = created;
+        }
+    }
+}
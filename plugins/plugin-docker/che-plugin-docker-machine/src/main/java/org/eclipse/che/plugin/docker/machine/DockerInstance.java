@@ -42,10 +42,14 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -82,6 +86,8 @@ public class DockerInstance extends AbstractInstance {
     private static final String GET_ALIVE_PROCESSES_COMMAND =
             format("for pidFile in $(find %s -print 2>/dev/null); do kill -0 \"$(cat ${pidFile})\" 2>/dev/null && echo \"${pidFile}\"; done",
                    format(PID_FILE_TEMPLATE, "*"));
+    /** Result of listing of processes running in container is shared by all callers during this period. */
+    private static final long   PROCESSES_RECONCILIATION_PERIOD_MS = TimeUnit.SECONDS.toMillis(10);
 
     private final DockerMachineFactory                        dockerMachineFactory;
     private final String                                      container;
@@ -95,8 +101,12 @@ public class DockerInstance extends AbstractInstance {
     private final DockerInstanceProcessesCleaner              processesCleaner;
     private final ConcurrentHashMap<Integer, InstanceProcess> machineProcesses;
     private final boolean                                     snapshotUseRegistry;
+    /** Number of processes listings served without execution of command in container. */
+    private final AtomicLong                                  avoidedProcessesExecs;
+    private final Object                                      aliveProcessesLock;
 
-    private MachineRuntimeInfoImpl machineRuntime;
+    private          MachineRuntimeInfoImpl machineRuntime;
+    private volatile AliveProcesses         aliveProcesses;
 
     @Inject
     public DockerInstance(DockerConnector docker,
@@ -123,6 +133,8 @@ public class DockerInstance extends AbstractInstance {
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
         this.processesCleaner = processesCleaner;
         this.machineProcesses = new ConcurrentHashMap<>();
+        this.avoidedProcessesExecs = new AtomicLong();
+        this.aliveProcessesLock = new Object();
         processesCleaner.trackProcesses(this);
         this.snapshotUseRegistry = snapshotUseRegistry;
     }
@@ -164,27 +176,77 @@ public class DockerInstance extends AbstractInstance {
         throw new NotFoundException(format("Process with pid %s not found", pid));
     }
 
+    /**
+     * Returns processes which are running in the machine.
+     * <p/>
+     * Processes which have finished are known from their {@link DockerProcess} instances. Processes which are killed
+     * inside the container are found by listing of processes running in container, this listing is executed at most once
+     * per {@link #PROCESSES_RECONCILIATION_PERIOD_MS} and its result is shared by all callers. Listing is executed again
+     * if any process was killed after the last one.
+     */
     @Override
     public List<InstanceProcess> getProcesses() throws MachineException {
-        List<InstanceProcess> processes = new LinkedList<>();
-        try {
-            final Exec exec = docker.createExec(container, false, "/bin/bash", "-c", GET_ALIVE_PROCESSES_COMMAND);
-            docker.startExec(exec.getId(), logMessage -> {
-                final String pidFilePath = logMessage.getContent().trim();
-                final Matcher matcher = PID_FILE_PATH_PATTERN.matcher(pidFilePath);
-                if (matcher.matches()) {
-                    final int virtualPid = Integer.parseInt(matcher.group(1));
-                    final InstanceProcess dockerProcess = machineProcesses.get(virtualPid);
-                    if (dockerProcess != null) {
-                        processes.add(dockerProcess);
-                    } else {
-                        LOG.warn("Machine process {} exists in container but missing in processes map", virtualPid);
-                    }
+        final List<InstanceProcess> unfinished = new LinkedList<>();
+        long lastKillTime = 0;
+        for (InstanceProcess process : machineProcesses.values()) {
+            if (process instanceof DockerProcess) {
+                final DockerProcess dockerProcess = (DockerProcess)process;
+                if (dockerProcess.isFinished()) {
+                    continue;
                 }
-            });
-            return processes;
-        } catch (IOException e) {
-            throw new MachineException(e);
+                lastKillTime = Math.max(lastKillTime, dockerProcess.getKillTime());
+            }
+            unfinished.add(process);
+        }
+        if (unfinished.isEmpty()) {
+            avoidedProcessesExecs.incrementAndGet();
+            return unfinished;
+        }
+        final AliveProcesses alive = getAliveProcesses(lastKillTime);
+        final List<InstanceProcess> processes = new LinkedList<>();
+        for (InstanceProcess process : unfinished) {
+            if (alive.isAlive(process.getPid())) {
+                processes.add(process);
+            }
+        }
+        return processes;
+    }
+
+    /** Returns number of processes listings which were served without execution of command in container. */
+    long getAvoidedProcessesExecs() {
+        return avoidedProcessesExecs.get();
+    }
+
+    private AliveProcesses getAliveProcesses(long lastKillTime) throws MachineException {
+        AliveProcesses alive = aliveProcesses;
+        if (alive != null && alive.isFresh(lastKillTime)) {
+            avoidedProcessesExecs.incrementAndGet();
+            return alive;
+        }
+        synchronized (aliveProcessesLock) {
+            alive = aliveProcesses;
+            if (alive != null && alive.isFresh(lastKillTime)) {
+                avoidedProcessesExecs.incrementAndGet();
+                return alive;
+            }
+            // processes created after this point are considered alive until the next listing
+            final int lastCreatedPid = pidSequence.get() - 1;
+            final long listingTime = System.currentTimeMillis();
+            final Set<Integer> pids = new HashSet<>();
+            try {
+                final Exec exec = docker.createExec(container, false, "/bin/bash", "-c", GET_ALIVE_PROCESSES_COMMAND);
+                docker.startExec(exec.getId(), logMessage -> {
+                    final String pidFilePath = logMessage.getContent().trim();
+                    final Matcher matcher = PID_FILE_PATH_PATTERN.matcher(pidFilePath);
+                    if (matcher.matches()) {
+                        pids.add(Integer.parseInt(matcher.group(1)));
+                    }
+                });
+            } catch (IOException e) {
+                throw new MachineException(e);
+            }
+            aliveProcesses = alive = new AliveProcesses(listingTime, lastCreatedPid, pids);
+            return alive;
         }
     }
 
@@ -264,6 +326,9 @@ public class DockerInstance extends AbstractInstance {
 
         machineProcesses.clear();
         processesCleaner.untrackProcesses(getId());
+        LOG.debug("Processes of machine {} were listed {} times without command execution in container",
+                  getId(),
+                  avoidedProcessesExecs.get());
         dockerInstanceStopDetector.stopDetection(container);
         try {
             if (getConfig().isDev()) {
@@ -315,8 +380,9 @@ public class DockerInstance extends AbstractInstance {
             throw new MachineException("Impossible to read file " + limit + " lines from " + startFrom + " line");
         }
 
-        // command sed getting file content from startFrom line to (startFrom + limit)
-        String bashCommand = format("sed -n \'%1$2s, %2$2sp\' %3$2s", startFrom, startFrom + limit, filePath);
+        // command sed getting file content from startFrom line to (startFrom + limit),
+        // sed quits after the last required line instead of reading the rest of the file
+        String bashCommand = format("sed -n \'%1$2s, %2$2sp; %2$2sq\' %3$2s", startFrom, startFrom + limit, filePath);
 
         final String[] command = {"/bin/bash", "-c", bashCommand};
 
@@ -377,4 +443,26 @@ public class DockerInstance extends AbstractInstance {
     String getContainer() {
         return container;
     }
+
+    /** Processes found running in container by the last listing. */
+    private static class AliveProcesses {
+        final long         time;
+        final int          lastCreatedPid;
+        final Set<Integer> pids;
+
+        AliveProcesses(long time, int lastCreatedPid, Set<Integer> pids) {
+            this.time = time;
+            this.lastCreatedPid = lastCreatedPid;
+            this.pids = pids;
+        }
+
+        /** Returns true if listing isn't outdated and was made after the last kill of process. */
+        boolean isFresh(long lastKillTime) {
+            return time > lastKillTime && System.currentTimeMillis() - time < PROCESSES_RECONCILIATION_PERIOD_MS;
+        }
+
+        boolean isAlive(int pid) {
+            return pid > lastCreatedPid || pids.contains(pid);
+        }
+    }
 }
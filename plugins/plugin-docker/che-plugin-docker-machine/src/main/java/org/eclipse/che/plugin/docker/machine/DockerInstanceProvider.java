@@ -50,6 +50,8 @@ import org.eclipse.che.plugin.docker.client.json.HostConfig;
 import org.eclipse.che.plugin.docker.client.params.PullParams;
 import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
 import org.eclipse.che.plugin.docker.client.params.TagParams;
+import org.eclipse.che.plugin.docker.client.parser.DockerImageIdentifier;
+import org.eclipse.che.plugin.docker.client.parser.DockerImageIdentifierParser;
 import org.eclipse.che.plugin.docker.machine.node.DockerNode;
 import org.eclipse.che.plugin.docker.machine.node.WorkspaceFolderPathProvider;
 import org.slf4j.Logger;
@@ -118,6 +120,7 @@ public class DockerInstanceProvider implements InstanceProvider {
     private final String                                        projectFolderPath;
     private final boolean                                       snapshotUseRegistry;
     private final RecipeRetriever                               recipeRetriever;
+    private final DockerImageCache                              imageCache;
     private final double                                        memorySwapMultiplier;
 
     @Inject
@@ -128,6 +131,7 @@ public class DockerInstanceProvider implements InstanceProvider {
                                   DockerInstanceStopDetector dockerInstanceStopDetector,
                                   DockerContainerNameGenerator containerNameGenerator,
                                   RecipeRetriever recipeRetriever,
+                                  DockerImageCache imageCache,
                                   @Named("machine.docker.dev_machine.machine_servers") Set<ServerConf> devMachineServers,
                                   @Named("machine.docker.machine_servers") Set<ServerConf> allMachinesServers,
                                   @Named("machine.docker.dev_machine.machine_volumes") Set<String> devMachineSystemVolumes,
@@ -147,6 +151,7 @@ public class DockerInstanceProvider implements InstanceProvider {
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
         this.containerNameGenerator = containerNameGenerator;
         this.recipeRetriever = recipeRetriever;
+        this.imageCache = imageCache;
         this.workspaceFolderPathProvider = workspaceFolderPathProvider;
         this.doForcePullOnBuild = doForcePullOnBuild;
         this.privilegeMode = privilegeMode;
@@ -315,7 +320,25 @@ public class DockerInstanceProvider implements InstanceProvider {
         final String machineImageName = "eclipse-che/" + machineContainerName;
         final long memoryLimit = (long)machine.getConfig().getLimits().getRam() * 1024 * 1024;
 
-        buildImage(dockerfile, creationLogsOutput, machineImageName, doForcePullOnBuild, memoryLimit, -1);
+        if (imageCache.isEnabled()) {
+            if (doForcePullOnBuild) {
+                // cache key depends on the local base image, so it has to be up to date before the cache lookup
+                pullBaseImage(dockerfile, creationLogsOutput);
+            }
+            // cached image is tagged with generated name, so removal of the machine image doesn't affect the cache,
+            // base image is already pulled if it's needed, so build doesn't pull it again
+            imageCache.getImage(dockerfile,
+                                machineImageName,
+                                creationLogsOutput,
+                                imageName -> buildImage(dockerfile,
+                                                        creationLogsOutput,
+                                                        imageName,
+                                                        false,
+                                                        memoryLimit,
+                                                        -1));
+        } else {
+            buildImage(dockerfile, creationLogsOutput, machineImageName, doForcePullOnBuild, memoryLimit, -1);
+        }
 
         return createInstance(machineContainerName,
                               machine,
@@ -424,6 +447,25 @@ public class DockerInstanceProvider implements InstanceProvider {
         }
     }
 
+    /**
+     * Pulls base image of the recipe unless it is referenced by digest, i.e. it can't change.
+     * Failure of the pull isn't fatal since the base image may be available locally only.
+     */
+    private void pullBaseImage(Dockerfile dockerfile, LineConsumer creationLogsOutput) {
+        final String baseImage = dockerfile.getImages().get(0).getFrom();
+        try {
+            final DockerImageIdentifier identifier = DockerImageIdentifierParser.parse(baseImage);
+            if (identifier.getDigest() != null) {
+                return;
+            }
+            pullImage(new DockerMachineSource(identifier.getRepository()).withRegistry(identifier.getRegistry())
+                                                                         .withTag(identifier.getTag()),
+                      creationLogsOutput);
+        } catch (DockerFileException | MachineException e) {
+            LOG.warn("Failed to pull base image {}. {}", baseImage, e.getLocalizedMessage());
+        }
+    }
+
     private void pullImage(final DockerMachineSource dockerMachineSource, final LineConsumer creationLogsOutput) throws MachineException {
         if (dockerMachineSource.getRepository() == null) {
             throw new MachineException(String.format("Machine creation failed. Machine source is invalid. No repository is defined. Found %s.", dockerMachineSource));
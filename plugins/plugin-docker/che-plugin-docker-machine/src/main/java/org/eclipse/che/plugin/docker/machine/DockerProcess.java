@@ -47,6 +47,8 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
     private final String              commandLine;
 
     private volatile boolean started;
+    private volatile boolean finished;
+    private volatile long    killTime;
 
     @Inject
     public DockerProcess(DockerConnector docker,
@@ -65,7 +67,7 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
 
     @Override
     public boolean isAlive() {
-        if (!started) {
+        if (!started || finished) {
             return false;
         }
         try {
@@ -104,6 +106,10 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
         started = true;
         try {
             docker.startExec(exec.getId(), output == null ? null : new LogMessagePrinter(output));
+            if (output != null) {
+                // attached exec returns when process is finished, there is no need to ask container about it any more
+                finished = true;
+            }
         } catch (IOException e) {
             if (output != null && e instanceof SocketTimeoutException) {
                 throw new MachineException(getErrorMessage());
@@ -116,6 +122,9 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
 
     @Override
     public void checkAlive() throws MachineException, NotFoundException {
+        if (finished) {
+            throw new NotFoundException(format("Process with pid %s not found", getPid()));
+        }
         // Read pid from file and run 'kill -0 [pid]' command.
         final String isAliveCmd = format("[ -r %1$s ] && kill -0 $(cat %1$s) || echo 'Unable read PID file'", pidFilePath);
         final ListLineConsumer output = new ListLineConsumer();
@@ -147,7 +156,8 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
             final String[] command = {"/bin/bash", "-c", killCmd};
             Exec exec;
             try {
-                exec = docker.createExec(container, true, command);
+                // exec is attached, so signal is already sent when kill returns
+                exec = docker.createExec(container, false, command);
             } catch (IOException e) {
                 throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
                                                   Arrays.toString(command), container, e.getMessage()), e);
@@ -158,9 +168,20 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
                 throw new MachineException(format("Error occurs while executing command %s in docker container %s: %s",
                                                   Arrays.toString(exec.getCommand()), container, e.getMessage()), e);
             }
+            killTime = System.currentTimeMillis();
         }
     }
 
+    /** Returns {@code true} if process was started attached to its output and has already finished. */
+    boolean isFinished() {
+        return finished;
+    }
+
+    /** Returns time when process was killed for the last time or {@code 0} if it was never killed. */
+    long getKillTime() {
+        return killTime;
+    }
+
     private String getErrorMessage() {
         final StringBuilder errorMessage = new StringBuilder("Command output read timeout is reached.");
         try {
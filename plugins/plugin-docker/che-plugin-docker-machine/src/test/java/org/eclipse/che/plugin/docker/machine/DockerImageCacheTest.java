@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.Dockerfile;
+import org.eclipse.che.plugin.docker.client.DockerfileParser;
+import org.eclipse.che.plugin.docker.client.json.Image;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
+import org.eclipse.che.plugin.docker.client.params.TagParams;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.plugin.docker.machine.DockerImageCache.CACHE_REPOSITORY;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DockerImageCache}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class DockerImageCacheTest {
+    private static final String BASE_IMAGE    = "codenvy/ubuntu_jdk8";
+    private static final String BASE_IMAGE_ID = "sha256:123";
+    private static final String MACHINE_IMAGE = "eclipse-che/machine";
+
+    @Mock
+    private DockerConnector docker;
+    @Mock
+    private LineConsumer    output;
+
+    private DockerImageCache cache;
+    private List<String>     builtImages;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        final ImageInfo baseImageInfo = new ImageInfo();
+        baseImageInfo.setId(BASE_IMAGE_ID);
+        when(docker.inspectImage(BASE_IMAGE)).thenReturn(baseImageInfo);
+        cache = new DockerImageCache(docker, true, 2, 60);
+        builtImages = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void shouldBuildImageOnceForTheSameRecipe() throws Exception {
+        final String first = cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, builtImages::add);
+        final String second = cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, builtImages::add);
+
+        assertEquals(second, first);
+        assertEquals(builtImages.size(), 1);
+        assertTrue(first.startsWith(CACHE_REPOSITORY));
+    }
+
+    @Test
+    public void shouldTagCachedImageWithMachineImageName() throws Exception {
+        final String first = cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, builtImages::add);
+        final String second = cache.getImage(dockerfile("RUN echo hello"), "eclipse-che/machine2", output, builtImages::add);
+
+        verify(docker).tag(TagParams.create(first, MACHINE_IMAGE));
+        verify(docker).tag(TagParams.create(second, "eclipse-che/machine2"));
+    }
+
+    @Test
+    public void shouldBuildDifferentImagesForDifferentRecipes() throws Exception {
+        final String first = cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, builtImages::add);
+        final String second = cache.getImage(dockerfile("RUN echo bye"), MACHINE_IMAGE, output, builtImages::add);
+
+        assertNotEquals(second, first);
+        assertEquals(builtImages.size(), 2);
+    }
+
+    @Test
+    public void shouldReuseImageWhichIsFoundInDocker() throws Exception {
+        final Dockerfile dockerfile = dockerfile("RUN echo hello");
+        final String imageName = CACHE_REPOSITORY + DockerImageCache.computeKey(dockerfile, BASE_IMAGE_ID);
+        when(docker.inspectImage(imageName)).thenReturn(new ImageInfo());
+
+        assertEquals(cache.getImage(dockerfile, MACHINE_IMAGE, output, builtImages::add), imageName);
+        assertTrue(builtImages.isEmpty());
+    }
+
+    @Test
+    public void shouldRebuildExpiredImage() throws Exception {
+        final Dockerfile dockerfile = dockerfile("RUN echo hello");
+        final String key = DockerImageCache.computeKey(dockerfile, BASE_IMAGE_ID);
+        cache.images.put(key, new DockerImageCache.CachedImage(CACHE_REPOSITORY + key, 0));
+
+        cache.getImage(dockerfile, MACHINE_IMAGE, output, builtImages::add);
+
+        assertEquals(builtImages.size(), 1);
+    }
+
+    @Test(timeOut = 10_000)
+    public void shouldBuildImageOnceWhenTheSameRecipeIsBuiltConcurrently() throws Exception {
+        final CountDownLatch buildStarted = new CountDownLatch(1);
+        final CountDownLatch finishBuild = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> first = executor.submit(() -> cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, imageName -> {
+                buildStarted.countDown();
+                try {
+                    finishBuild.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                builtImages.add(imageName);
+            }));
+            buildStarted.await();
+            final Future<String> second = executor.submit(() -> cache.getImage(dockerfile("RUN echo hello"), MACHINE_IMAGE, output, builtImages::add));
+            finishBuild.countDown();
+
+            assertEquals(second.get(), first.get());
+            assertEquals(builtImages.size(), 1);
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldRemoveLeastRecentlyUsedImagesWhenLimitIsExceeded() throws Exception {
+        final String first = cache.getImage(dockerfile("RUN echo 1"), MACHINE_IMAGE, output, builtImages::add);
+        final String second = cache.getImage(dockerfile("RUN echo 2"), MACHINE_IMAGE, output, builtImages::add);
+        final String third = cache.getImage(dockerfile("RUN echo 3"), MACHINE_IMAGE, output, builtImages::add);
+        cache.images.values().forEach(image -> image.lastUsed = image.name.equals(first) ? 0 : System.currentTimeMillis());
+
+        cache.run();
+
+        verify(docker).removeImage(RemoveImageParams.create(first).withForce(false));
+        verify(docker, never()).removeImage(RemoveImageParams.create(second).withForce(false));
+        verify(docker, never()).removeImage(RemoveImageParams.create(third).withForce(false));
+        assertEquals(cache.images.size(), 2);
+    }
+
+    @Test
+    public void shouldKeepImagesLeftByPreviousRunOfServer() throws Exception {
+        final Image image = new Image();
+        image.setRepoTags(new String[] {CACHE_REPOSITORY + "hash:latest"});
+        image.setCreated(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        when(docker.listImages()).thenReturn(singletonList(image));
+
+        cache.run();
+
+        verify(docker, never()).removeImage(any(RemoveImageParams.class));
+        assertEquals(cache.images.get("hash").name, CACHE_REPOSITORY + "hash");
+    }
+
+    @Test
+    public void shouldRemoveExpiredImagesLeftByPreviousRunOfServer() throws Exception {
+        final Image image = new Image();
+        image.setRepoTags(new String[] {CACHE_REPOSITORY + "hash:latest"});
+        image.setCreated(0);
+        when(docker.listImages()).thenReturn(singletonList(image));
+
+        cache.run();
+
+        verify(docker).removeImage(RemoveImageParams.create(CACHE_REPOSITORY + "hash").withForce(false));
+        assertTrue(cache.images.isEmpty());
+    }
+
+    @Test
+    public void shouldNotRemoveImagesWhenCacheIsDisabled() throws Exception {
+        cache = new DockerImageCache(docker, false, 0, 0);
+
+        cache.run();
+
+        verify(docker, never()).removeImage(any(RemoveImageParams.class));
+    }
+
+    private static Dockerfile dockerfile(String instruction) throws Exception {
+        return DockerfileParser.parse("FROM " + BASE_IMAGE + "\n" + instruction);
+    }
+}
@@ -31,6 +31,7 @@ import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
+import org.eclipse.che.plugin.docker.client.Dockerfile;
 import org.eclipse.che.plugin.docker.client.UserSpecificDockerRegistryCredentialsProvider;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
 import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
@@ -44,6 +45,7 @@ import org.eclipse.che.plugin.docker.machine.node.DockerNode;
 import org.eclipse.che.plugin.docker.machine.node.WorkspaceFolderPathProvider;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
@@ -67,10 +69,13 @@ import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKE
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_IMAGE_TYPE;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -123,6 +128,9 @@ public class DockerInstanceProviderTest {
     @Mock
     private RecipeRetriever recipeRetriever;
 
+    @Mock
+    private DockerImageCache imageCache;
+
     private DockerInstanceProvider dockerInstanceProvider;
 
     @BeforeMethod
@@ -136,6 +144,7 @@ public class DockerInstanceProviderTest {
                                                                 dockerInstanceStopDetector,
                                                                 containerNameGenerator,
                                                                 recipeRetriever,
+                                                                imageCache,
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
@@ -201,6 +210,120 @@ public class DockerInstanceProviderTest {
                                            anyVararg());
     }
 
+    @Test
+    public void shouldGetMachineImageFromCacheOnInstanceCreationFromRecipeWhenBuildCacheIsEnabled() throws Exception {
+        String generatedContainerId = "genContainerId";
+        doReturn(generatedContainerId).when(containerNameGenerator).generateContainerName(eq(WORKSPACE_ID),
+                                                                                          eq(MACHINE_ID),
+                                                                                          eq(USER_NAME),
+                                                                                          eq(MACHINE_NAME));
+        when(imageCache.isEnabled()).thenReturn(true);
+        when(imageCache.getImage(any(Dockerfile.class),
+                                 anyString(),
+                                 any(LineConsumer.class),
+                                 any(DockerImageCache.ImageBuilder.class))).thenReturn("eclipse-che-cache/hash");
+
+
+        createInstanceFromRecipe();
+
+
+        verify(dockerConnector, never()).buildImage(anyString(),
+                                                    any(ProgressMonitor.class),
+                                                    any(AuthConfigs.class),
+                                                    anyBoolean(),
+                                                    anyLong(),
+                                                    anyLong(),
+                                                    anyVararg());
+        verify(dockerConnector, never()).pull(any(PullParams.class), any(ProgressMonitor.class));
+        verify(imageCache).getImage(any(Dockerfile.class),
+                                    eq("eclipse-che/" + generatedContainerId),
+                                    any(LineConsumer.class),
+                                    any(DockerImageCache.ImageBuilder.class));
+    }
+
+    @Test
+    public void shouldPullBaseImageBeforeCacheLookupWhenForcePullIsEnabled() throws Exception {
+        dockerInstanceProvider = spy(new DockerInstanceProvider(dockerConnector,
+                                                                dockerConnectorConfiguration,
+                                                                credentialsReader,
+                                                                dockerMachineFactory,
+                                                                dockerInstanceStopDetector,
+                                                                containerNameGenerator,
+                                                                recipeRetriever,
+                                                                imageCache,
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                null,
+                                                                workspaceFolderPathProvider,
+                                                                PROJECT_FOLDER_PATH,
+                                                                true,
+                                                                false,
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                SNAPSHOT_USE_REGISTRY,
+                                                                MEMORY_SWAP_MULTIPLIER));
+        when(imageCache.isEnabled()).thenReturn(true);
+
+
+        createInstanceFromRecipe();
+
+
+        InOrder inOrder = inOrder(dockerConnector, imageCache);
+        inOrder.verify(dockerConnector).pull(eq(PullParams.create("codenvy").withTag("latest")), any(ProgressMonitor.class));
+        inOrder.verify(imageCache).getImage(any(Dockerfile.class),
+                                            anyString(),
+                                            any(LineConsumer.class),
+                                            any(DockerImageCache.ImageBuilder.class));
+    }
+
+    @Test
+    public void shouldPullBaseImageOnlyOnceOnCacheMissWhenForcePullIsEnabled() throws Exception {
+        dockerInstanceProvider = spy(new DockerInstanceProvider(dockerConnector,
+                                                                dockerConnectorConfiguration,
+                                                                credentialsReader,
+                                                                dockerMachineFactory,
+                                                                dockerInstanceStopDetector,
+                                                                containerNameGenerator,
+                                                                recipeRetriever,
+                                                                imageCache,
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                null,
+                                                                workspaceFolderPathProvider,
+                                                                PROJECT_FOLDER_PATH,
+                                                                true,
+                                                                false,
+                                                                Collections.emptySet(),
+                                                                Collections.emptySet(),
+                                                                SNAPSHOT_USE_REGISTRY,
+                                                                MEMORY_SWAP_MULTIPLIER));
+        when(imageCache.isEnabled()).thenReturn(true);
+        doAnswer(invoke -> {
+            ((DockerImageCache.ImageBuilder)invoke.getArguments()[3]).build("eclipse-che-cache/hash");
+            return "eclipse-che-cache/hash";
+        }).when(imageCache).getImage(any(Dockerfile.class),
+                                     anyString(),
+                                     any(LineConsumer.class),
+                                     any(DockerImageCache.ImageBuilder.class));
+
+
+        createInstanceFromRecipe();
+
+
+        verify(dockerConnector).pull(any(PullParams.class), any(ProgressMonitor.class));
+        verify(dockerConnector).buildImage(eq("eclipse-che-cache/hash"),
+                                           any(ProgressMonitor.class),
+                                           any(AuthConfigs.class),
+                                           eq(false),
+                                           anyLong(),
+                                           anyLong(),
+                                           anyVararg());
+    }
+
     @Test
     public void shouldPullDockerImageOnInstanceCreationFromSnapshot() throws Exception {
         String repo = "repo";
@@ -312,6 +435,7 @@ public class DockerInstanceProviderTest {
                                                                 dockerInstanceStopDetector,
                                                                 containerNameGenerator,
                                                                 recipeRetriever,
+                                                                imageCache,
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
@@ -498,6 +622,7 @@ public class DockerInstanceProviderTest {
                                                                 dockerInstanceStopDetector,
                                                                 containerNameGenerator,
                                                                 recipeRetriever,
+                                                                imageCache,
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
@@ -563,6 +688,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             devServers,
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -605,6 +731,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -653,6 +780,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             devServers,
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -695,6 +823,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -738,6 +867,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -784,6 +914,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -830,6 +961,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -876,6 +1008,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -917,6 +1050,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -958,6 +1092,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -998,6 +1133,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1038,6 +1174,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1085,6 +1222,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1133,6 +1271,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1180,6 +1319,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1225,6 +1365,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1270,6 +1411,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1315,6 +1457,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1360,6 +1503,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1407,6 +1551,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1523,6 +1668,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1560,6 +1706,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1602,6 +1749,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1639,6 +1787,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1678,6 +1827,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1725,6 +1875,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1772,6 +1923,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1819,6 +1971,7 @@ public class DockerInstanceProviderTest {
                                                             dockerInstanceStopDetector,
                                                             containerNameGenerator,
                                                             recipeRetriever,
+                                                            imageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1940,6 +2093,7 @@ public class DockerInstanceProviderTest {
                                               dockerInstanceStopDetector,
                                               containerNameGenerator,
                                               recipeRetriever,
+                                              imageCache,
                                               Collections.emptySet(),
                                               Collections.emptySet(),
                                               Collections.emptySet(),
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.machine;
 
+import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.machine.MachineSource;
@@ -20,6 +21,7 @@ import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
+import org.eclipse.che.api.machine.server.spi.InstanceProcess;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.Exec;
 import org.eclipse.che.plugin.docker.client.LogMessage;
@@ -37,12 +39,15 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 
 import static java.lang.String.format;
+import static java.util.Collections.singletonList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,6 +85,8 @@ public class DockerInstanceTest {
     @Mock
     private DockerInstanceStopDetector dockerInstanceStopDetectorMock;
     @Mock
+    private DockerMachineFactory       dockerMachineFactoryMock;
+    @Mock
     private LineConsumer               outputConsumer;
 
     private DockerInstance dockerInstance;
@@ -139,6 +146,42 @@ public class DockerInstanceTest {
         assertEquals(res.trim(), content);
     }
 
+    @Test
+    public void shouldShareListingOfProcessesRunningInContainer() throws Exception {
+        final InstanceProcess process = mock(InstanceProcess.class);
+        when(dockerMachineFactoryMock.createProcess(any(), anyString(), anyString(), anyString(), anyInt())).thenReturn(process);
+        when(logMessageMock.getContent()).thenReturn("/tmp/docker-exec-0.pid");
+        dockerInstance.createProcess(mock(Command.class), "channel");
+
+        assertEquals(dockerInstance.getProcesses(), singletonList(process));
+        assertEquals(dockerInstance.getProcesses(), singletonList(process));
+
+        verify(dockerConnectorMock, times(1)).createExec(anyString(), anyBoolean(), anyVararg());
+        assertEquals(dockerInstance.getAvoidedProcessesExecs(), 1);
+    }
+
+    @Test
+    public void shouldListProcessesInContainerAgainAfterProcessIsKilled() throws Exception {
+        final DockerProcess process = mock(DockerProcess.class);
+        when(dockerMachineFactoryMock.createProcess(any(), anyString(), anyString(), anyString(), anyInt())).thenReturn(process);
+        when(logMessageMock.getContent()).thenReturn("/tmp/docker-exec-0.pid");
+        dockerInstance.createProcess(mock(Command.class), "channel");
+        assertEquals(dockerInstance.getProcesses(), singletonList(process));
+
+        when(process.getKillTime()).thenReturn(System.currentTimeMillis());
+        when(logMessageMock.getContent()).thenReturn("");
+
+        assertTrue(dockerInstance.getProcesses().isEmpty());
+        verify(dockerConnectorMock, times(2)).createExec(anyString(), anyBoolean(), anyVararg());
+    }
+
+    @Test
+    public void shouldNotListProcessesInContainerWhenNoProcessIsRunning() throws Exception {
+        assertTrue(dockerInstance.getProcesses().isEmpty());
+
+        verify(dockerConnectorMock, never()).createExec(anyString(), anyBoolean(), anyVararg());
+    }
+
     @Test
     public void shouldCreateDockerImageLocally() throws Exception {
         final String comment = format("Suspended at %1$ta %1$tb %1$td %1$tT %1$tZ %1$tY",
@@ -212,7 +255,7 @@ public class DockerInstanceTest {
         return new DockerInstance(dockerConnectorMock,
                                   registry,
                                   USERNAME,
-                                  mock(DockerMachineFactory.class),
+                                  dockerMachineFactoryMock,
                                   machine,
                                   container,
                                   image,
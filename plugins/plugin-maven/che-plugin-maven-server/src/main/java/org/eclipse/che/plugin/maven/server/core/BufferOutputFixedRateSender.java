@@ -13,7 +13,7 @@ package org.eclipse.che.plugin.maven.server.core;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.util.ListLineConsumer;
-import org.everrest.websockets.WSConnectionContext;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,7 +66,7 @@ public class BufferOutputFixedRateSender extends ListLineConsumer {
 
     private void sendMessageToWS(final ChannelBroadcastMessage message) {
         try {
-            WSConnectionContext.sendMessage(message);
+            ChannelMessageBatcher.sendMessageNow(message.getChannel(), message.getBody());
         } catch (Exception exception) {
             LOG.error(getClass() + " A problem occurred while sending websocket message", exception);
         }
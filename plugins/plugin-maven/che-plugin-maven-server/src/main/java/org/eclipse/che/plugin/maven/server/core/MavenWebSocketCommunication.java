@@ -14,18 +14,13 @@ import com.google.gson.JsonObject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.shared.MavenAttributes;
 import org.eclipse.che.plugin.maven.shared.MessageType;
 import org.eclipse.che.plugin.maven.shared.dto.NotificationMessage;
 import org.eclipse.che.plugin.maven.shared.dto.ProjectsUpdateMessage;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import javax.websocket.EncodeException;
-import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,8 +31,6 @@ import java.util.stream.Collectors;
 @Singleton
 public class MavenWebSocketCommunication implements MavenCommunication {
 
-    private static final Logger LOG = LoggerFactory.getLogger(MavenWebSocketCommunication.class);
-
     @Override
     public void sendUpdateMassage(Set<MavenProject> updated, List<MavenProject> removed) {
         ProjectsUpdateMessage dto = DtoFactory.newDto(ProjectsUpdateMessage.class);
@@ -61,19 +54,7 @@ public class MavenWebSocketCommunication implements MavenCommunication {
 
     @Override
     public void send(JsonObject dto, MessageType type) {
-        try {
-
-            ChannelBroadcastMessage message = new ChannelBroadcastMessage();
-            message.setChannel(MavenAttributes.MAVEN_CHANEL_NAME);
-
-
-            dto.addProperty("$type", type.getType());
-
-            message.setBody(dto.toString());
-
-            WSConnectionContext.sendMessage(message);
-        } catch (EncodeException | IOException e) {
-            LOG.error("Can't send maven message:", e);
-        }
+        dto.addProperty("$type", type.getType());
+        ChannelMessageBatcher.sendMessageNow(MavenAttributes.MAVEN_CHANEL_NAME, dto.toString());
     }
 }
@@ -52,7 +52,7 @@ public interface SshClient {
     /**
      * Copies file(s) from local machine to remote machine using SSH protocol.
      *
-     * <p/>Copying can be performed using SCP or SFTP.
+     * <p/>Copying can be performed using SCP, SFTP or archive streamed to remote {@code tar}.
      *
      * @param sourcePath
      *         path on localhost that should be copied
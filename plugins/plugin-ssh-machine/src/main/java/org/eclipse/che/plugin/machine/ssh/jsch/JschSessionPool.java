@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.UserInfo;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Sessions of one ssh machine which are shared by channels of {@link JschSshClient}.
+ * <p/>
+ * Number of channels opened in one session is limited, because ssh servers limit it too (see MaxSessions of sshd).
+ * If all the sessions have maximal number of channels, new session is opened, if there are maximal number of sessions
+ * opening of the channel waits until one of the channels is closed. Channels aren't returned to the pool, channel
+ * is freed when it is disconnected by client or closed by server.
+ * <p/>
+ * Sessions send keep alive messages, session which doesn't respond to them is disconnected by JSch and is replaced
+ * with a new session on the next opening of channel. One connected SFTP channel is kept for reuse.
+ * <p/>
+ * New session takes its slot in the pool before it is connected, connection is established outside of the pool lock,
+ * so channels of the other sessions may be opened meanwhile.
+ */
+class JschSessionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(JschSessionPool.class);
+
+    private static final long CHANNEL_WAIT_TIMEOUT_MS   = MINUTES.toMillis(1);
+    private static final long CHANNEL_RECHECK_PERIOD_MS = 100;
+    /** Channel which isn't connected during this period after opening is considered abandoned. */
+    private static final long PENDING_CHANNEL_TIMEOUT_MS = SECONDS.toMillis(30);
+    private static final int  KEEP_ALIVE_COUNT_MAX       = 3;
+
+    private final JSch     jsch;
+    private final UserInfo user;
+    private final String   host;
+    private final int      port;
+    private final String   username;
+    private final int      connectionTimeout;
+    private final int      maxSessions;
+    private final int      maxChannelsPerSession;
+    private final int      keepAliveInterval;
+
+    private final List<PooledSession> sessions;
+    private final AtomicLong          channelWaits;
+    private final AtomicLong          channelWaitTimeNanos;
+
+    private ChannelSftp idleSftp;
+    private boolean     closed;
+
+    JschSessionPool(JSch jsch,
+                    UserInfo user,
+                    String host,
+                    int port,
+                    String username,
+                    int connectionTimeout,
+                    int maxSessions,
+                    int maxChannelsPerSession,
+                    int keepAliveInterval) {
+        this.jsch = jsch;
+        this.user = user;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.connectionTimeout = connectionTimeout;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.maxChannelsPerSession = Math.max(1, maxChannelsPerSession);
+        this.keepAliveInterval = keepAliveInterval;
+        this.sessions = new ArrayList<>();
+        this.channelWaits = new AtomicLong();
+        this.channelWaitTimeNanos = new AtomicLong();
+    }
+
+    /** Opens the first session to check that machine is accessible. Pool which was closed may be started again. */
+    void start() throws JSchException, MachineException {
+        final PooledSession session;
+        synchronized (this) {
+            closed = false;
+            if (!sessions.isEmpty()) {
+                return;
+            }
+            session = reserveSession();
+        }
+        connect(session);
+    }
+
+    /** Opens exec channel, it should be connected by caller. */
+    ChannelExec openExec() throws JSchException, MachineException {
+        return (ChannelExec)openChannel("exec");
+    }
+
+    /** Returns connected SFTP channel, it should be returned with {@link #releaseSftp(ChannelSftp)}. */
+    ChannelSftp acquireSftp() throws JSchException, MachineException {
+        synchronized (this) {
+            final ChannelSftp sftp = idleSftp;
+            idleSftp = null;
+            if (sftp != null && sftp.isConnected()) {
+                return sftp;
+            }
+        }
+        final ChannelSftp sftp = (ChannelSftp)openChannel("sftp");
+        try {
+            sftp.connect(connectionTimeout);
+        } catch (JSchException e) {
+            sftp.disconnect();
+            throw e;
+        }
+        return sftp;
+    }
+
+    /** Keeps the channel for reuse or disconnects it if there is already idle SFTP channel. */
+    void releaseSftp(ChannelSftp sftp) {
+        synchronized (this) {
+            if (!closed && idleSftp == null && sftp.isConnected()) {
+                idleSftp = sftp;
+                return;
+            }
+        }
+        sftp.disconnect();
+    }
+
+    /** Disconnects all the sessions, channels of the sessions are closed too. */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            idleSftp = null;
+            sessions.forEach(PooledSession::disconnect);
+            sessions.clear();
+            notifyAll();
+        }
+        LOG.debug("Ssh sessions of {}:{} are closed, opening of channels waited {} times, {} ms in total",
+                  host,
+                  port,
+                  getChannelWaits(),
+                  getChannelWaitTimeMillis());
+    }
+
+    /** Returns number of openings of channel which waited for a free channel. */
+    long getChannelWaits() {
+        return channelWaits.get();
+    }
+
+    /** Returns total time spent by openings of channel in waiting for a free channel. */
+    long getChannelWaitTimeMillis() {
+        return NANOSECONDS.toMillis(channelWaitTimeNanos.get());
+    }
+
+    private Channel openChannel(String type) throws JSchException, MachineException {
+        final long start = System.nanoTime();
+        boolean waited = false;
+        while (true) {
+            final PooledSession newSession;
+            synchronized (this) {
+                if (closed) {
+                    throw new MachineException("Ssh connection to " + host + " is closed");
+                }
+                final PooledSession session = findFreeSession();
+                if (session != null && !session.isConnecting()) {
+                    if (waited) {
+                        channelWaits.incrementAndGet();
+                        channelWaitTimeNanos.addAndGet(System.nanoTime() - start);
+                    }
+                    return session.openChannel(type);
+                }
+                if (session == null) {
+                    final long remaining = MILLISECONDS.toNanos(CHANNEL_WAIT_TIMEOUT_MS) - (System.nanoTime() - start);
+                    if (remaining <= 0) {
+                        channelWaits.incrementAndGet();
+                        channelWaitTimeNanos.addAndGet(System.nanoTime() - start);
+                        throw new MachineException(format("All %s ssh sessions to %s have %s open channels. " +
+                                                          "No channel was closed in %s seconds",
+                                                          maxSessions,
+                                                          host,
+                                                          maxChannelsPerSession,
+                                                          MILLISECONDS.toSeconds(CHANNEL_WAIT_TIMEOUT_MS)));
+                    }
+                    waited = true;
+                    // channels aren't returned to the pool, so they are rechecked periodically
+                    try {
+                        wait(Math.min(NANOSECONDS.toMillis(remaining) + 1, CHANNEL_RECHECK_PERIOD_MS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new MachineException("Opening of ssh channel was interrupted");
+                    }
+                    continue;
+                }
+                newSession = session;
+            }
+            connect(newSession);
+            synchronized (this) {
+                if (!closed && newSession.isConnected() && newSession.getChannelsCount() < maxChannelsPerSession) {
+                    return newSession.openChannel(type);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns connected session which may open one more channel, new session which should be connected by caller
+     * or {@code null} if no session can be opened.
+     */
+    private PooledSession findFreeSession() throws JSchException {
+        for (Iterator<PooledSession> it = sessions.iterator(); it.hasNext(); ) {
+            final PooledSession session = it.next();
+            if (session.isConnecting()) {
+                continue;
+            }
+            if (!session.isConnected()) {
+                // connection is lost or server didn't respond to keep alive messages
+                it.remove();
+                session.disconnect();
+            } else if (session.getChannelsCount() < maxChannelsPerSession) {
+                return session;
+            }
+        }
+        if (sessions.size() < maxSessions) {
+            return reserveSession();
+        }
+        return null;
+    }
+
+    /** Adds not connected session to the pool, it isn't used by other callers until {@link #connect(PooledSession)}. */
+    private PooledSession reserveSession() throws JSchException {
+        final Session session = jsch.getSession(username, host, port);
+        session.setUserInfo(user);
+        if (keepAliveInterval > 0) {
+            session.setServerAliveInterval(keepAliveInterval);
+            session.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+        }
+        final PooledSession pooled = new PooledSession(session);
+        sessions.add(pooled);
+        return pooled;
+    }
+
+    /** Connects reserved session, must be called without holding the pool lock. */
+    private void connect(PooledSession pooled) throws JSchException, MachineException {
+        try {
+            pooled.session.connect(connectionTimeout);
+        } catch (JSchException e) {
+            synchronized (this) {
+                sessions.remove(pooled);
+                notifyAll();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            pooled.connecting = false;
+            notifyAll();
+            // pool might be closed, or closed and started again, while session was connecting
+            if (closed || !sessions.contains(pooled)) {
+                sessions.remove(pooled);
+                pooled.disconnect();
+                throw new MachineException("Ssh connection to " + host + " is closed");
+            }
+        }
+    }
+
+    private static class PooledSession {
+        private final Session       session;
+        private final List<Channel> channels;
+        private final List<Long>    openingTimes;
+
+        /** Session has taken its slot in the pool but isn't connected yet. */
+        private boolean connecting;
+
+        PooledSession(Session session) {
+            this.session = session;
+            this.channels = new ArrayList<>();
+            this.openingTimes = new ArrayList<>();
+            this.connecting = true;
+        }
+
+        Channel openChannel(String type) throws JSchException {
+            final Channel channel = session.openChannel(type);
+            channels.add(channel);
+            openingTimes.add(System.currentTimeMillis());
+            return channel;
+        }
+
+        /** Returns number of channels which are connected or are going to be connected soon. */
+        int getChannelsCount() {
+            final long pendingSince = System.currentTimeMillis() - PENDING_CHANNEL_TIMEOUT_MS;
+            for (int i = channels.size() - 1; i >= 0; i--) {
+                final Channel channel = channels.get(i);
+                if (!channel.isConnected() && (channel.isClosed() || openingTimes.get(i) < pendingSince)) {
+                    channels.remove(i);
+                    openingTimes.remove(i);
+                }
+            }
+            return channels.size();
+        }
+
+        boolean isConnecting() {
+            return connecting;
+        }
+
+        boolean isConnected() {
+            return session.isConnected();
+        }
+
+        void disconnect() {
+            session.disconnect();
+        }
+    }
+}
@@ -15,10 +15,13 @@ import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.ListLineConsumer;
+import org.eclipse.che.api.core.util.StreamPump;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.plugin.machine.ssh.SshClient;
@@ -26,11 +29,13 @@ import org.eclipse.che.plugin.machine.ssh.SshMachineRecipe;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -38,6 +43,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import static java.lang.String.format;
 
@@ -49,34 +55,43 @@ import static java.lang.String.format;
 // todo think about replacement JSch with Apace SSHD
 // todo tests for ssh library that ensures that it works as expected
 public class JschSshClient implements SshClient {
-    private final JSch                jsch;
-    private final JschUserInfoImpl    user;
     private final String              host;
-    private final int                 port;
-    private final String              username;
     private final Map<String, String> envVars;
     private final int                 connectionTimeout;
+    private final boolean             compressCopy;
+    private final JschSessionPool     sessionPool;
 
-    private Session session;
+    private volatile Boolean tarAvailable;
 
     @Inject
     public JschSshClient(@Assisted SshMachineRecipe sshMachineRecipe,
                          @Assisted Map<String, String> envVars,
                          JSch jsch,
-                         @Named("machine.ssh.connection_timeout_ms") int connectionTimeoutMs) {
+                         @Named("machine.ssh.connection_timeout_ms") int connectionTimeoutMs,
+                         @Named("machine.ssh.copy.compress") boolean compressCopy,
+                         @Named("machine.ssh.max_sessions") int maxSessions,
+                         @Named("machine.ssh.max_channels_per_session") int maxChannelsPerSession,
+                         @Named("machine.ssh.keep_alive_interval_ms") int keepAliveIntervalMs) {
         this.envVars = envVars;
         this.connectionTimeout = connectionTimeoutMs;
-        this.user = JschUserInfoImpl.builder()
-                                    .password(sshMachineRecipe.getPassword())
-                                    .promptPassword(true)
-                                    .passphrase(null)
-                                    .promptPassphrase(false)
-                                    .promptYesNo(true)
-                                    .build();
-        this.jsch = jsch;
+        this.compressCopy = compressCopy;
         this.host = sshMachineRecipe.getHost();
-        this.port = sshMachineRecipe.getPort();
-        this.username = sshMachineRecipe.getUsername();
+        final JschUserInfoImpl user = JschUserInfoImpl.builder()
+                                                      .password(sshMachineRecipe.getPassword())
+                                                      .promptPassword(true)
+                                                      .passphrase(null)
+                                                      .promptPassphrase(false)
+                                                      .promptYesNo(true)
+                                                      .build();
+        this.sessionPool = new JschSessionPool(jsch,
+                                               user,
+                                               host,
+                                               sshMachineRecipe.getPort(),
+                                               sshMachineRecipe.getUsername(),
+                                               connectionTimeoutMs,
+                                               maxSessions,
+                                               maxChannelsPerSession,
+                                               keepAliveIntervalMs);
     }
 
     @Override
@@ -87,12 +102,8 @@ public class JschSshClient implements SshClient {
     @Override
     public void start() throws MachineException {
         try {
-            session = jsch.getSession(username, host, port);
-            session.setUserInfo(user);
             // todo remember parent pid of shell to be able to kill all processes on client stop
-            if (!session.isConnected()) {
-                session.connect(connectionTimeout);
-            }
+            sessionPool.start();
         } catch (JSchException e) {
             throw new MachineException("Ssh machine creation failed because ssh of machine is inaccessible. Error: " +
                                        e.getLocalizedMessage());
@@ -110,13 +121,13 @@ public class JschSshClient implements SshClient {
 
     @Override
     public void stop() throws MachineException {
-        session.disconnect();
+        sessionPool.close();
     }
 
     @Override
     public JschSshProcess createProcess(String commandLine) throws MachineException {
         try {
-            ChannelExec exec = (ChannelExec)session.openChannel("exec");
+            ChannelExec exec = sessionPool.openExec();
             exec.setCommand(commandLine);
             envVars.entrySet()
                    .stream()
@@ -157,24 +168,134 @@ public class JschSshClient implements SshClient {
         // not normalized paths don't work
         final String targetAbsolutePath = getAbsolutePath(targetFolder);
 
-        // copy files
+        if (isTarAvailable()) {
+            copyAsTar(sourceFolder, targetAbsolutePath);
+        } else {
+            copyWithSftp(sourceFolder, targetAbsolutePath);
+        }
+    }
+
+    /**
+     * Streams content of the folder as tar archive to {@code tar} running on the remote machine,
+     * so all the files are copied over one channel instead of one SFTP request per file.
+     */
+    private void copyAsTar(String sourceFolder, String targetAbsolutePath) throws MachineException {
+        final Path source = Paths.get(sourceFolder);
+        ChannelExec exec = null;
+        try {
+            exec = sessionPool.openExec();
+            exec.setCommand(format("tar -x%sf - -C %s", compressCopy ? "z" : "", quote(targetAbsolutePath)));
+
+            try (InputStream inStream = exec.getInputStream();
+                 InputStream erStream = exec.getErrStream()) {
+
+                final OutputStream remoteTarInput = exec.getOutputStream();
+                exec.connect(connectionTimeout);
+
+                // outputs are read while archive is written, otherwise remote tar blocks on full channel window
+                final StreamPump outPump = new StreamPump();
+                outPump.start(inStream, LineConsumer.DEV_NULL);
+                final ListLineConsumer error = new ListLineConsumer();
+                final StreamPump errPump = new StreamPump();
+                errPump.start(erStream, error);
+
+                // closing of the archive sends EOF to remote tar
+                try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(compress(new BufferedOutputStream(remoteTarInput)))) {
+                    tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                    tarOut.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+                    Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                            if (!dir.equals(source)) {
+                                tarOut.putArchiveEntry(new TarArchiveEntry(dir.toFile(), getEntryName(source, dir)));
+                                tarOut.closeArchiveEntry();
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                            final File ioFile = file.toFile();
+                            if (ioFile.isFile()) {
+                                final TarArchiveEntry entry = new TarArchiveEntry(ioFile, getEntryName(source, file));
+                                // keep type bits of the entry, permissions are the same as on SFTP copying
+                                entry.setMode((entry.getMode() & ~0777) | getPermissions(ioFile));
+                                tarOut.putArchiveEntry(entry);
+                                Files.copy(file, tarOut);
+                                tarOut.closeArchiveEntry();
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                }
+
+                // wait until tar finishes its work
+                outPump.await();
+                errPump.await();
+                if (exec.getExitStatus() != 0) {
+                    throw new MachineException(format("Copying of folder %s failed. Exit code is %s. Error: %s",
+                                                      sourceFolder,
+                                                      exec.getExitStatus(),
+                                                      error.getText()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MachineException(format("Copying of folder %s was interrupted", sourceFolder));
+        } catch (JSchException | IOException e) {
+            throw new MachineException(format("Copying of folder %s failed. Error: %s", sourceFolder, e.getLocalizedMessage()));
+        } finally {
+            if (exec != null) {
+                exec.disconnect();
+            }
+        }
+    }
+
+    /** Quotes argument of shell command, so it is passed to the command as is. */
+    private static String quote(String argument) {
+        return '\'' + argument.replace("'", "'\\''") + '\'';
+    }
+
+    private OutputStream compress(OutputStream out) throws IOException {
+        return compressCopy ? new GZIPOutputStream(out) : out;
+    }
+
+    private static String getEntryName(Path root, Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private void copyWithSftp(String sourceFolder, String targetAbsolutePath) throws MachineException {
+        final Path source = Paths.get(sourceFolder);
         ChannelSftp sftp = null;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = sessionPool.acquireSftp();
 
             final ChannelSftp finalSftp = sftp;
-            Files.walkFileTree(Paths.get(sourceFolder), new SimpleFileVisitor<Path>() {
+            Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(source)) {
+                        final String targetDir = targetAbsolutePath + '/' + getEntryName(source, dir);
+                        try {
+                            finalSftp.stat(targetDir);
+                        } catch (SftpException notFound) {
+                            try {
+                                finalSftp.mkdir(targetDir);
+                            } catch (SftpException e) {
+                                throw new IOException(format("Sftp creation of folder %s failed. Error: %s",
+                                                             targetDir,
+                                                             e.getLocalizedMessage()));
+                            }
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
                 @Override
                 public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
                     try {
-                        if (!attrs.isDirectory()) {
-                            copyFile(file.toString(),
-                                     Paths.get(targetAbsolutePath, file.getFileName().toString()).toString(), finalSftp);
-                        } else {
-                            finalSftp.mkdir(file.normalize().toString());
-                        }
-                    } catch (MachineException | SftpException e) {
+                        copyFile(file.toString(), targetAbsolutePath + '/' + getEntryName(source, file), finalSftp);
+                    } catch (MachineException e) {
                         throw new IOException(format("Sftp copying of file %s failed. Error: %s", file, e.getLocalizedMessage()));
                     }
                     return FileVisitResult.CONTINUE;
@@ -184,23 +305,37 @@ public class JschSshClient implements SshClient {
             throw new MachineException("Copying failed. Error: " + e.getLocalizedMessage());
         } finally {
             if (sftp != null) {
-                sftp.disconnect();
+                sessionPool.releaseSftp(sftp);
+            }
+        }
+    }
+
+    /** Checks once whether folders may be copied with tar, tar and gzip are usually installed but aren't mandatory. */
+    private boolean isTarAvailable() throws MachineException {
+        // concurrent copies may check it simultaneously, the result is the same so any of them may be kept
+        Boolean available = tarAvailable;
+        if (available == null) {
+            try {
+                available = execAndGetCode(compressCopy ? "command -v tar && command -v gzip" : "command -v tar") == 0;
+            } catch (JSchException | IOException e) {
+                available = false;
             }
+            tarAvailable = available;
         }
+        return available;
     }
 
     private void copyFile(String sourcePath, String targetPath) throws MachineException {
         ChannelSftp sftp = null;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = sessionPool.acquireSftp();
             String absoluteTargetPath = getAbsolutePath(targetPath);
             copyFile(sourcePath, absoluteTargetPath, sftp);
         } catch (JSchException e) {
             throw new MachineException("Sftp copying failed. Error: " + e.getLocalizedMessage());
         } finally {
             if (sftp != null) {
-                sftp.disconnect();
+                sessionPool.releaseSftp(sftp);
             }
         }
     }
@@ -210,18 +345,7 @@ public class JschSshClient implements SshClient {
             channelSftp.put(sourcePath, absoluteTargetPath);
 
             // apply permissions
-            File file = new File(sourcePath);
-            // read
-            int permissions = 256;
-            // execute
-            if (file.canExecute()) {
-                permissions += 64;
-            }
-            // write
-            if (file.canWrite()) {
-                permissions += 128;
-            }
-            channelSftp.chmod(permissions, absoluteTargetPath);
+            channelSftp.chmod(getPermissions(new File(sourcePath)), absoluteTargetPath);
         } catch (SftpException e) {
             throw new MachineException(format("Sftp copying of file %s failed. Error: %s",
                                               absoluteTargetPath,
@@ -229,6 +353,20 @@ public class JschSshClient implements SshClient {
         }
     }
 
+    private static int getPermissions(File file) {
+        // read
+        int permissions = 256;
+        // execute
+        if (file.canExecute()) {
+            permissions += 64;
+        }
+        // write
+        if (file.canWrite()) {
+            permissions += 128;
+        }
+        return permissions;
+    }
+
     private String getAbsolutePath(String path) throws MachineException {
         try {
             return execAndGetOutput("cd " + path + "; pwd");
@@ -237,8 +375,8 @@ public class JschSshClient implements SshClient {
         }
     }
 
-    private int execAndGetCode(String command) throws JSchException, IOException {
-        ChannelExec exec = (ChannelExec)session.openChannel("exec");
+    private int execAndGetCode(String command) throws JSchException, MachineException, IOException {
+        ChannelExec exec = sessionPool.openExec();
         exec.setCommand(command);
 
         try (InputStream inStream = exec.getInputStream();
@@ -257,7 +395,7 @@ public class JschSshClient implements SshClient {
     }
 
     private String execAndGetOutput(String command) throws JSchException, MachineException, IOException {
-        ChannelExec exec = (ChannelExec)session.openChannel("exec");
+        ChannelExec exec = sessionPool.openExec();
         exec.setCommand(command);
 
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(exec.getInputStream()));
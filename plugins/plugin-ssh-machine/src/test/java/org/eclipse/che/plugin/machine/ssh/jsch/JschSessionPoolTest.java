@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.UserInfo;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+@Listeners(MockitoTestNGListener.class)
+public class JschSessionPoolTest {
+    @Mock
+    private JSch    jsch;
+    @Mock
+    private Session firstSession;
+    @Mock
+    private Session secondSession;
+
+    private JschSessionPool pool;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(jsch.getSession(anyString(), anyString(), anyInt())).thenReturn(firstSession, secondSession);
+        for (Session session : new Session[] {firstSession, secondSession}) {
+            when(session.isConnected()).thenReturn(true);
+            when(session.openChannel("exec")).thenAnswer(invocation -> mock(ChannelExec.class));
+            when(session.openChannel("sftp")).thenAnswer(invocation -> mock(ChannelSftp.class));
+        }
+        pool = new JschSessionPool(jsch, mock(UserInfo.class), "localhost", 22, "user", 1000, 2, 2, 0);
+        pool.start();
+    }
+
+    @Test
+    public void shouldOpenNewSessionWhenSessionHasMaximalNumberOfChannels() throws Exception {
+        pool.openExec();
+        pool.openExec();
+        pool.openExec();
+
+        verify(firstSession, times(2)).openChannel("exec");
+        verify(secondSession).openChannel("exec");
+        verify(jsch, times(2)).getSession(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void shouldReuseSessionWhenItsChannelIsClosed() throws Exception {
+        ChannelExec exec = pool.openExec();
+        pool.openExec();
+        when(exec.isClosed()).thenReturn(true);
+
+        pool.openExec();
+
+        verify(firstSession, times(3)).openChannel("exec");
+        verify(jsch).getSession(anyString(), anyString(), anyInt());
+        assertEquals(pool.getChannelWaits(), 0);
+    }
+
+    @Test
+    public void shouldReplaceDisconnectedSession() throws Exception {
+        when(firstSession.isConnected()).thenReturn(false);
+
+        pool.openExec();
+
+        verify(firstSession).disconnect();
+        verify(secondSession).openChannel("exec");
+    }
+
+    @Test
+    public void shouldReuseSftpChannel() throws Exception {
+        ChannelSftp sftp = pool.acquireSftp();
+        when(sftp.isConnected()).thenReturn(true);
+        pool.releaseSftp(sftp);
+
+        assertSame(pool.acquireSftp(), sftp);
+        verify(firstSession).openChannel("sftp");
+        verify(sftp).connect(1000);
+    }
+
+    @Test
+    public void shouldDisconnectSessionsOnClose() throws Exception {
+        pool.openExec();
+        pool.openExec();
+        pool.openExec();
+
+        pool.close();
+
+        verify(firstSession).disconnect();
+        verify(secondSession).disconnect();
+    }
+
+    @Test
+    public void shouldOpenChannelsOfConnectedSessionWhileNewSessionIsConnecting() throws Exception {
+        final CountDownLatch connecting = new CountDownLatch(1);
+        final CountDownLatch connected = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            connecting.countDown();
+            connected.await(10, SECONDS);
+            return null;
+        }).when(secondSession).connect(anyInt());
+        final ChannelExec exec = pool.openExec();
+        pool.openExec();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ChannelExec> opening = executor.submit(pool::openExec);
+            assertTrue(connecting.await(10, SECONDS));
+            when(exec.isClosed()).thenReturn(true);
+
+            pool.openExec();
+
+            verify(firstSession, times(3)).openChannel("exec");
+            connected.countDown();
+            opening.get(10, SECONDS);
+            verify(secondSession).openChannel("exec");
+        } finally {
+            connected.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReleaseSlotOfSessionWhichFailedToConnect() throws Exception {
+        doThrow(new JSchException("connection refused")).doNothing().when(secondSession).connect(anyInt());
+        pool.openExec();
+        pool.openExec();
+
+        try {
+            pool.openExec();
+            fail("Connection of the second session should fail");
+        } catch (JSchException expected) {
+        }
+        pool.openExec();
+
+        verify(secondSession, times(2)).connect(anyInt());
+        verify(secondSession).openChannel("exec");
+    }
+
+    @Test
+    public void shouldBeAbleToStartAfterClose() throws Exception {
+        pool.close();
+
+        pool.start();
+        pool.openExec();
+
+        verify(secondSession).connect(anyInt());
+        verify(secondSession).openChannel("exec");
+    }
+
+    @Test(expectedExceptions = MachineException.class)
+    public void shouldNotOpenChannelsWhenClosed() throws Exception {
+        pool.close();
+
+        pool.openExec();
+    }
+}
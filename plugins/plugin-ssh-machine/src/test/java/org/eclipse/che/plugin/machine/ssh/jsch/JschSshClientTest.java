@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.machine.ssh.SshMachineRecipe;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+@Listeners(MockitoTestNGListener.class)
+public class JschSshClientTest {
+    private static final String TARGET_PATH = "/home/user/target";
+
+    @Mock
+    private JSch        jsch;
+    @Mock
+    private Session     session;
+    @Mock
+    private ChannelExec exec;
+    @Mock
+    private ChannelSftp sftp;
+
+    private ByteArrayOutputStream remoteTarInput;
+    private Path                  source;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        remoteTarInput = new ByteArrayOutputStream();
+        when(jsch.getSession(anyString(), anyString(), anyInt())).thenReturn(session);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(exec);
+        when(session.openChannel("sftp")).thenReturn(sftp);
+        when(exec.getErrStream()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[0]));
+        when(exec.getOutputStream()).thenReturn(remoteTarInput);
+
+        source = Files.createTempDirectory("source");
+        Files.createDirectories(source.resolve("a/b"));
+        Files.write(source.resolve("a/b/file.txt"), "content".getBytes());
+        Files.write(source.resolve("top.txt"), "top".getBytes());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(source.toFile());
+    }
+
+    @Test
+    public void shouldCopyFolderAsTarArchiveOverOneChannel() throws Exception {
+        // mkdir, pwd, check of tar, tar
+        when(exec.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]),
+                                               new ByteArrayInputStream((TARGET_PATH + '\n').getBytes()),
+                                               new ByteArrayInputStream("/bin/tar\n".getBytes()),
+                                               new ByteArrayInputStream(new byte[0]));
+        when(exec.getExitStatus()).thenReturn(0);
+        JschSshClient client = createClient();
+
+        client.copy(source.toString(), "target");
+
+        verify(exec).setCommand("tar -xf - -C '" + TARGET_PATH + "'");
+        verify(session, never()).openChannel("sftp");
+        Map<String, String> entries = readEntries(remoteTarInput.toByteArray());
+        assertEquals(entries.size(), 4);
+        assertNull(entries.get("a/"));
+        assertNull(entries.get("a/b/"));
+        assertEquals(entries.get("a/b/file.txt"), "content");
+        assertEquals(entries.get("top.txt"), "top");
+    }
+
+    @Test
+    public void shouldCopyFolderWithSftpIfTarIsNotAvailable() throws Exception {
+        // mkdir, pwd, check of tar
+        when(exec.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]),
+                                               new ByteArrayInputStream((TARGET_PATH + '\n').getBytes()),
+                                               new ByteArrayInputStream(new byte[0]));
+        when(exec.getExitStatus()).thenReturn(0, 0, 1);
+        JschSshClient client = createClient();
+
+        client.copy(source.toString(), "target");
+
+        verify(sftp).put(source.resolve("top.txt").toString(), TARGET_PATH + "/top.txt");
+        verify(sftp).put(source.resolve("a/b/file.txt").toString(), TARGET_PATH + "/a/b/file.txt");
+        verify(exec, never()).setCommand(eq("tar -xf - -C '" + TARGET_PATH + "'"));
+    }
+
+    private JschSshClient createClient() throws Exception {
+        JschSshClient client = new JschSshClient(new SshMachineRecipe("localhost", 22, "user", "password"),
+                                                 new HashMap<>(),
+                                                 jsch,
+                                                 1000,
+                                                 false,
+                                                 1,
+                                                 10,
+                                                 0);
+        client.start();
+        return client;
+    }
+
+    /** Returns content of files by names of entries, directories are mapped to {@code null}. */
+    private Map<String, String> readEntries(byte[] tar) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (TarArchiveInputStream tarIn = new TarArchiveInputStream(new ByteArrayInputStream(tar))) {
+            TarArchiveEntry entry;
+            while ((entry = tarIn.getNextTarEntry()) != null) {
+                entries.put(entry.getName(), entry.isDirectory() ? null : IoUtil.readStream(tarIn));
+            }
+        }
+        return entries;
+    }
+}
@@ -17,6 +17,7 @@ import com.google.common.net.MediaType;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -27,11 +28,13 @@ import org.eclipse.che.plugin.svn.server.credentials.CredentialsException;
 import org.eclipse.che.plugin.svn.server.credentials.CredentialsProvider;
 import org.eclipse.che.plugin.svn.server.credentials.CredentialsProvider.Credentials;
 import org.eclipse.che.plugin.svn.server.repository.RepositoryUrlProvider;
+import org.eclipse.che.plugin.svn.server.upstream.CommandLineOutputReader;
 import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
+import org.eclipse.che.plugin.svn.server.upstream.LimitedLinesReader;
 import org.eclipse.che.plugin.svn.server.upstream.UpstreamUtils;
-import org.eclipse.che.plugin.svn.server.utils.InfoUtils;
 import org.eclipse.che.plugin.svn.server.utils.SshEnvironment;
 import org.eclipse.che.plugin.svn.server.utils.SubversionUtils;
+import org.eclipse.che.plugin.svn.server.utils.XmlOutputUtils;
 import org.eclipse.che.plugin.svn.shared.AddRequest;
 import org.eclipse.che.plugin.svn.shared.CLIOutputResponse;
 import org.eclipse.che.plugin.svn.shared.CLIOutputResponseList;
@@ -58,6 +61,7 @@ import org.eclipse.che.plugin.svn.shared.ResolveRequest;
 import org.eclipse.che.plugin.svn.shared.RevertRequest;
 import org.eclipse.che.plugin.svn.shared.ShowDiffRequest;
 import org.eclipse.che.plugin.svn.shared.ShowLogRequest;
+import org.eclipse.che.plugin.svn.shared.ShowLogResponse;
 import org.eclipse.che.plugin.svn.shared.StatusRequest;
 import org.eclipse.che.plugin.svn.shared.SubversionItem;
 import org.eclipse.che.plugin.svn.shared.UpdateRequest;
@@ -75,10 +79,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
@@ -368,12 +370,18 @@ public class SubversionApi {
         // Command Name
         cliArgs.add("status");
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath,
-                                                    addWorkingCopyPathIfNecessary(request.getPaths()));
+        // "svn status" can't be limited, so output after the limit is skipped without keeping it
+        final CommandLineResult result;
+        final LimitedLinesReader outputReader;
+        try (LineConsumer lineConsumer = newOutputLineConsumer()) {
+            outputReader = new LimitedLinesReader(lineConsumer, request.getLimit());
+            result = runCommand(null, cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()),
+                                outputReader);
+        }
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
-                         .withOutput(result.getStdout())
+                         .withOutput(outputReader.getLines())
                          .withErrOutput(result.getStderr());
     }
 
@@ -415,7 +423,8 @@ public class SubversionApi {
     }
 
     /**
-     * Perform an "svn log" based on the request.
+     * Perform an "svn log" based on the request. If the log is limited, the response contains the revision range of
+     * the next part of the log.
      *
      * @param request
      *         the request
@@ -425,20 +434,33 @@ public class SubversionApi {
      * @throws SubversionException
      *         if there is a Subversion issue
      */
-    public CLIOutputResponse showLog(final ShowLogRequest request) throws IOException, SubversionException {
+    public ShowLogResponse showLog(final ShowLogRequest request) throws IOException, SubversionException {
         final File projectPath = new File(request.getProjectPath());
 
         final List<String> uArgs = defaultArgs();
 
         addOption(uArgs, "--revision", request.getRevision());
+        if (request.getLimit() > 0) {
+            addOption(uArgs, "--limit", String.valueOf(request.getLimit()));
+        }
         uArgs.add("log");
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, request.getPaths());
+        final CommandLineResult result;
+        final LimitedLinesReader outputReader;
+        try (LineConsumer lineConsumer = newOutputLineConsumer()) {
+            outputReader = new LimitedLinesReader(lineConsumer, 0);
+            result = runCommand(null, uArgs, projectPath, request.getPaths(), outputReader);
+        }
 
-        return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
+        final List<Long> revisions = SubversionUtils.getLogRevisions(outputReader.getLines());
+
+        return DtoFactory.getInstance().createDto(ShowLogResponse.class)
                          .withCommand(result.getCommandLine().toString())
-                         .withOutput(result.getStdout())
-                         .withErrOutput(result.getStderr());
+                         .withOutput(outputReader.getLines())
+                         .withErrOutput(result.getStderr())
+                         .withNextRevision(SubversionUtils.getNextLogRevisionRange(request.getRevision(),
+                                                                                  revisions,
+                                                                                  request.getLimit()));
     }
 
     public CLIOutputResponse lockUnlock(final LockRequest request, final boolean lock) throws IOException, SubversionException {
@@ -839,6 +861,10 @@ public class SubversionApi {
         return args;
     }
 
+    private LineConsumer newOutputLineConsumer() {
+        return svnOutputPublisherFactory != null ? svnOutputPublisherFactory.newLineConsumer() : LineConsumer.DEV_NULL;
+    }
+
     private List<String> addWorkingCopyPathIfNecessary(List<String> paths) {
         if (paths == null) {
             paths = new ArrayList<>();
@@ -858,7 +884,20 @@ public class SubversionApi {
                                          List<String> paths) throws IOException, SubversionException {
         String[] credentials = getCredentialArgs(projectPath.getAbsolutePath());
         String repoUrl = getRepositoryUrl(projectPath.getAbsolutePath());
-        return runCommand(env, args, projectPath, paths, credentials, repoUrl);
+        return runCommand(env, args, projectPath, paths, credentials, repoUrl, null);
+    }
+
+    /**
+     * Runs the command passing its standard output to the {@code outputReader}, std output of the result is empty.
+     */
+    private CommandLineResult runCommand(Map<String, String> env,
+                                         List<String> args,
+                                         File projectPath,
+                                         List<String> paths,
+                                         CommandLineOutputReader outputReader) throws IOException, SubversionException {
+        String[] credentials = getCredentialArgs(projectPath.getAbsolutePath());
+        String repoUrl = getRepositoryUrl(projectPath.getAbsolutePath());
+        return runCommand(env, args, projectPath, paths, credentials, repoUrl, outputReader);
     }
 
     private CommandLineResult runCommand(Map<String, String> env,
@@ -867,6 +906,16 @@ public class SubversionApi {
                                          List<String> paths,
                                          String[] credentials,
                                          String repoUrl) throws IOException, SubversionException {
+        return runCommand(env, args, projectPath, paths, credentials, repoUrl, null);
+    }
+
+    private CommandLineResult runCommand(Map<String, String> env,
+                                         List<String> args,
+                                         File projectPath,
+                                         List<String> paths,
+                                         String[] credentials,
+                                         String repoUrl,
+                                         CommandLineOutputReader outputReader) throws IOException, SubversionException {
         final List<String> lines = new ArrayList<>();
         final CommandLineResult result;
         final StringBuffer buffer;
@@ -894,13 +943,23 @@ public class SubversionApi {
         }
 
         try {
-            result = UpstreamUtils.executeCommandLine(env,
-                                                      "svn",
-                                                      args.toArray(new String[args.size()]),
-                                                      credentialsArgs,
-                                                      -1,
-                                                      projectPath,
-                                                      svnOutputPublisherFactory);
+            if (outputReader != null) {
+                result = UpstreamUtils.executeCommandLineAndReadOutput(env,
+                                                                       "svn",
+                                                                       args.toArray(new String[args.size()]),
+                                                                       credentialsArgs,
+                                                                       -1,
+                                                                       projectPath,
+                                                                       outputReader);
+            } else {
+                result = UpstreamUtils.executeCommandLine(env,
+                                                          "svn",
+                                                          args.toArray(new String[args.size()]),
+                                                          credentialsArgs,
+                                                          -1,
+                                                          projectPath,
+                                                          svnOutputPublisherFactory);
+            }
         } finally {
             if (sshEnvironment != null) {
                 sshEnvironment.cleanUp();
@@ -970,11 +1029,14 @@ public class SubversionApi {
         }
 
         args.add("info");
+        args.add("--xml");
 
         List<String> paths = new ArrayList<String>();
         paths.add(request.getTarget());
+        final List<SubversionItem> items = new ArrayList<SubversionItem>();
         final CommandLineResult result = runCommand(null, args, new File(request.getProjectPath()),
-                                                    addWorkingCopyPathIfNecessary(paths));
+                                                    addWorkingCopyPathIfNecessary(paths),
+                                                    output -> items.addAll(XmlOutputUtils.readInfo(output)));
 
         final InfoResponse response = DtoFactory.getInstance().createDto(InfoResponse.class)
                                                 .withCommand(result.getCommandLine().toString())
@@ -982,39 +1044,7 @@ public class SubversionApi {
                                                 .withErrorOutput(result.getStderr());
 
         if (result.getExitCode() == 0) {
-            List<SubversionItem> items = new ArrayList<SubversionItem>();
             response.withItems(items);
-
-            Iterator<String> iterator = result.getStdout().iterator();
-            List<String> itemProperties = new ArrayList<String>();
-
-            while (iterator.hasNext()) {
-                String propertyLine = iterator.next();
-
-                if (propertyLine.isEmpty()) {
-                    // create Subversion item filling properties from the list
-                    final SubversionItem item = DtoFactory.getInstance().createDto(SubversionItem.class)
-                                                          .withPath(InfoUtils.getPath(itemProperties))
-                                                          .withName(InfoUtils.getName(itemProperties))
-                                                          .withURL(InfoUtils.getUrl(itemProperties))
-                                                          .withRelativeURL(InfoUtils.getRelativeUrl(itemProperties))
-                                                          .withRepositoryRoot(InfoUtils.getRepositoryRoot(itemProperties))
-                                                          .withRepositoryUUID(InfoUtils.getRepositoryUUID(itemProperties))
-                                                          .withRevision(InfoUtils.getRevision(itemProperties))
-                                                          .withNodeKind(InfoUtils.getNodeKind(itemProperties))
-                                                          .withSchedule(InfoUtils.getSchedule(itemProperties))
-                                                          .withLastChangedRev(InfoUtils.getLastChangedRev(itemProperties))
-                                                          .withLastChangedDate(InfoUtils.getLastChangedDate(itemProperties));
-                    items.add(item);
-
-                    // clear item properties
-                    itemProperties.clear();
-                } else {
-                    // add property line to property list
-                    itemProperties.add(propertyLine);
-                }
-            }
-
         } else {
             response.withErrorOutput(result.getStderr());
         }
@@ -1074,8 +1104,11 @@ public class SubversionApi {
 
         addOption(uArgs, "--revision", request.getRevisionRange());
         uArgs.add("log");
+        uArgs.add("--xml");
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final List<String> revisions = new ArrayList<>();
+        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()),
+                                                    output -> revisions.addAll(XmlOutputUtils.readLogRevisions(output)));
 
         final GetRevisionsResponse response = DtoFactory.getInstance().createDto(GetRevisionsResponse.class)
                                                 .withCommand(result.getCommandLine().toString())
@@ -1083,10 +1116,6 @@ public class SubversionApi {
                                                 .withErrOutput(result.getStderr());
 
         if (result.getExitCode() == 0) {
-            List<String> revisions = result.getStdout().parallelStream()
-                                           .filter(line -> line.split("\\|").length == 4)
-                                           .map(line -> line.split("\\|")[0].trim())
-                                           .collect(Collectors.toList());
             response.withRevisions(revisions);
         }
 
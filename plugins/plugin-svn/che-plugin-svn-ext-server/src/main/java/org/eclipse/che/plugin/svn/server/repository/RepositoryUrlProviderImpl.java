@@ -13,19 +13,24 @@ package org.eclipse.che.plugin.svn.server.repository;
 import java.io.File;
 import java.io.IOException;
 
-import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
-import org.eclipse.che.plugin.svn.server.upstream.UpstreamUtils;
-import org.eclipse.che.plugin.svn.server.utils.InfoUtils;
+import javax.inject.Inject;
+
+import org.eclipse.che.plugin.svn.server.repository.WorkingCopyMetadataCache.WorkingCopyMetadata;
 
 
 public class RepositoryUrlProviderImpl implements RepositoryUrlProvider {
 
+    private final WorkingCopyMetadataCache workingCopyMetadataCache;
+
+    @Inject
+    public RepositoryUrlProviderImpl(WorkingCopyMetadataCache workingCopyMetadataCache) {
+        this.workingCopyMetadataCache = workingCopyMetadataCache;
+    }
+
     @Override
     public String getRepositoryUrl(final String projectPath) throws IOException {
-        final File projectPathFile = new File(projectPath);
-        final CommandLineResult clResult = UpstreamUtils.executeCommandLine(null, "svn", new String[]{"info"},
-                                                                            null, -1L, projectPathFile);
-        return InfoUtils.getUrl(clResult.getStdout());
+        final WorkingCopyMetadata metadata = workingCopyMetadataCache.getMetadata(new File(projectPath));
+        return metadata == null ? null : metadata.getUrl();
     }
 
 }
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.repository;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
+import org.eclipse.che.plugin.svn.server.upstream.UpstreamUtils;
+import org.eclipse.che.plugin.svn.server.utils.XmlOutputUtils;
+import org.eclipse.che.plugin.svn.shared.SubversionItem;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps metadata of Subversion working copies which is needed on every Subversion command: URL of the working copy,
+ * root of the repository and revision.
+ * <p/>
+ * Metadata is read with single "svn info --xml" command. Cached metadata is dropped when file watcher reports changes
+ * inside of the {@code .svn} folder of the working copy, which happens on every command that changes the working copy
+ * (update, switch, commit, relocate etc.). While file watcher isn't running metadata is read on every request.
+ */
+@Singleton
+public class WorkingCopyMetadataCache {
+    private static final String DOT_SVN = ".svn";
+
+    private final FileWatcherNotificationHandler  fileWatcherNotificationHandler;
+    private final FileWatcherNotificationListener fileWatcherListener;
+    private final Map<File, WorkingCopyMetadata>  metadata;
+    /** Incremented on every invalidation, protects from caching metadata that was changed while it was read. */
+    private final AtomicLong                      invalidations;
+
+    private volatile boolean watching;
+
+    @Inject
+    public WorkingCopyMetadataCache(FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this.fileWatcherNotificationHandler = fileWatcherNotificationHandler;
+        this.metadata = new ConcurrentHashMap<>();
+        this.invalidations = new AtomicLong();
+        this.fileWatcherListener = new FileWatcherNotificationListener(VirtualFileFilter.ACCEPT_ALL) {
+            @Override
+            public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                onFileChanged(virtualFile.toIoFile());
+            }
+
+            @Override
+            public void onFileWatcherStarted() {
+                invalidateAll();
+                watching = true;
+            }
+
+            @Override
+            public void onFileWatcherError(Throwable cause) {
+                watching = false;
+                invalidateAll();
+            }
+        };
+        fileWatcherNotificationHandler.addNotificationListener(fileWatcherListener);
+    }
+
+    @PreDestroy
+    public void stop() {
+        fileWatcherNotificationHandler.removeNotificationListener(fileWatcherListener);
+        invalidateAll();
+    }
+
+    /**
+     * Returns metadata of the working copy which contains the {@code folder} or {@code null} if the folder isn't
+     * a part of working copy.
+     *
+     * @throws IOException
+     *         if "svn info" command can't be run
+     */
+    public WorkingCopyMetadata getMetadata(File folder) throws IOException {
+        final File key = folder.getAbsoluteFile();
+        if (!isInWorkingCopy(key)) {
+            if (metadata.containsKey(key)) {
+                invalidate(key);
+            }
+            return null;
+        }
+        if (!watching) {
+            return readMetadata(key);
+        }
+        WorkingCopyMetadata workingCopyMetadata = metadata.get(key);
+        if (workingCopyMetadata == null) {
+            final long invalidationsBeforeRead = invalidations.get();
+            workingCopyMetadata = readMetadata(key);
+            if (workingCopyMetadata != null) {
+                synchronized (this) {
+                    if (invalidations.get() == invalidationsBeforeRead) {
+                        metadata.put(key, workingCopyMetadata);
+                    }
+                }
+            }
+        }
+        return workingCopyMetadata;
+    }
+
+    @VisibleForTesting
+    void onFileChanged(File file) {
+        File current = file.getAbsoluteFile();
+        while (current != null) {
+            if (DOT_SVN.equals(current.getName())) {
+                // since Subversion 1.7 there is single .svn folder in the root of working copy
+                invalidateUnder(current.getParentFile());
+                return;
+            }
+            current = current.getParentFile();
+        }
+    }
+
+    @VisibleForTesting
+    void setWatching(boolean watching) {
+        this.watching = watching;
+    }
+
+    @VisibleForTesting
+    int size() {
+        return metadata.size();
+    }
+
+    /** Reads metadata of the folder, returns {@code null} if the folder isn't a part of working copy. */
+    @VisibleForTesting
+    WorkingCopyMetadata readMetadata(File folder) throws IOException {
+        final List<SubversionItem> items = new ArrayList<>();
+        final CommandLineResult result = UpstreamUtils.executeCommandLineAndReadOutput(null,
+                                                                                       "svn",
+                                                                                       new String[]{"info", "--xml"},
+                                                                                       null,
+                                                                                       -1L,
+                                                                                       folder,
+                                                                                       output -> items.addAll(XmlOutputUtils.readInfo(output)));
+        if (result.getExitCode() != 0 || items.isEmpty()) {
+            return null;
+        }
+        final SubversionItem item = items.get(0);
+        return new WorkingCopyMetadata(item.getURL(), item.getRepositoryRoot(), item.getRevision());
+    }
+
+    private synchronized void invalidate(File folder) {
+        invalidations.incrementAndGet();
+        metadata.remove(folder);
+    }
+
+    private synchronized void invalidateUnder(File workingCopyRoot) {
+        invalidations.incrementAndGet();
+        metadata.keySet().removeIf(folder -> folder.toPath().startsWith(workingCopyRoot.toPath()));
+    }
+
+    private synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        metadata.clear();
+    }
+
+    /** Returns {@code true} if the folder or one of its parents contains .svn folder. */
+    private static boolean isInWorkingCopy(File folder) {
+        for (File current = folder; current != null; current = current.getParentFile()) {
+            if (new File(current, DOT_SVN).isDirectory()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Immutable metadata of Subversion working copy. */
+    public static class WorkingCopyMetadata {
+        private final String url;
+        private final String repositoryRoot;
+        private final String revision;
+
+        WorkingCopyMetadata(String url, String repositoryRoot, String revision) {
+            this.url = url;
+            this.repositoryRoot = repositoryRoot;
+            this.revision = revision;
+        }
+
+        /** Returns URL of the working copy folder in the repository. */
+        public String getUrl() {
+            return url;
+        }
+
+        /** Returns URL of the repository root. */
+        public String getRepositoryRoot() {
+            return repositoryRoot;
+        }
+
+        /** Returns revision of the working copy folder. */
+        public String getRevision() {
+            return revision;
+        }
+    }
+}
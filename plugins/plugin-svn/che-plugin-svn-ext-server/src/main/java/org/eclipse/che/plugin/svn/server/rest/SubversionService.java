@@ -48,6 +48,7 @@ import org.eclipse.che.plugin.svn.shared.RevertRequest;
 import org.eclipse.che.plugin.svn.shared.SaveCredentialsRequest;
 import org.eclipse.che.plugin.svn.shared.ShowDiffRequest;
 import org.eclipse.che.plugin.svn.shared.ShowLogRequest;
+import org.eclipse.che.plugin.svn.shared.ShowLogResponse;
 import org.eclipse.che.plugin.svn.shared.StatusRequest;
 import org.eclipse.che.plugin.svn.shared.UpdateRequest;
 
@@ -251,7 +252,7 @@ public class SubversionService extends Service {
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces({MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN})
-    public CLIOutputResponse showLog(final ShowLogRequest request) throws ApiException, IOException {
+    public ShowLogResponse showLog(final ShowLogRequest request) throws ApiException, IOException {
         request.setProjectPath(getAbsoluteProjectPath(request.getProjectPath()));
         return this.subversionApi.showLog(request);
     }
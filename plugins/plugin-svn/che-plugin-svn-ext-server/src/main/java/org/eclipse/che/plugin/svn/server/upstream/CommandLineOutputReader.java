@@ -8,27 +8,22 @@
  * Contributors:
  *   Codenvy, S.A. - initial API and implementation
  *******************************************************************************/
-package org.eclipse.che.api.vfs.util;
-
-import org.junit.Rule;
-import org.junit.Test;
-import org.junit.rules.ExpectedException;
+package org.eclipse.che.plugin.svn.server.upstream;
 
 import java.io.IOException;
 import java.io.InputStream;
 
-public class ZipContentTest {
-
-//    @Rule
-    public ExpectedException thrown = ExpectedException.none();
-
-//    @Test
-    public void failsWhenDetectZipBomb() throws Exception {
-        try (InputStream fileIn = Thread.currentThread().getContextClassLoader().getResourceAsStream("zipbomb.zip")) {
-            thrown.expect(IOException.class);
-            thrown.expectMessage("Zip bomb detected");
+/**
+ * Reads standard output of command line while the command is running, instead of collecting it as list of lines.
+ */
+public interface CommandLineOutputReader {
 
-            ZipContent.of(fileIn);
-        }
-    }
-}
\ No newline at end of file
+    /**
+     * Reads output of the command. Reader may stop before the end of output, the rest of output is skipped.
+     *
+     * @param output standard output of the command, it is closed by caller
+     *
+     * @throws IOException if output can't be read or parsed
+     */
+    void read(InputStream output) throws IOException;
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.upstream;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads lines of command output up to the limit. Every line is passed to the consumer as soon as it is read, the rest
+ * of output after the limit is neither kept nor passed to the consumer.
+ */
+public class LimitedLinesReader implements CommandLineOutputReader {
+
+    private final LineConsumer lineConsumer;
+    private final int          limit;
+    private final List<String> lines;
+
+    /**
+     * @param lineConsumer the consumer of read lines
+     * @param limit the maximal number of lines to read, 0 or negative value means no limit
+     */
+    public LimitedLinesReader(final LineConsumer lineConsumer, final int limit) {
+        this.lineConsumer = lineConsumer;
+        this.limit = limit;
+        this.lines = new ArrayList<>();
+    }
+
+    @Override
+    public void read(final InputStream output) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(output, UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+            lineConsumer.writeLine(line);
+            if (limit > 0 && lines.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the read lines
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+}
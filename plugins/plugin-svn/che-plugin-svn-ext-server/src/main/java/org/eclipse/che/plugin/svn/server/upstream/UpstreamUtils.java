@@ -18,6 +18,7 @@ import org.eclipse.che.commons.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -101,7 +102,115 @@ public class UpstreamUtils {
                                                        @Nullable final File workingDirectory,
                                                        @Nullable LineConsumerFactory lineConsumerFactory)
             throws IOException {
-        CommandLine command = new CommandLine(cmd);
+        final CommandLine command = createCommandLine(cmd, args);
+        final ProcessBuilder processBuilder = createProcessBuilder(env, command, redactedArgs, workingDirectory);
+
+        LineConsumer lineConsumer = LineConsumer.DEV_NULL;
+        if (lineConsumerFactory != null) {
+            lineConsumer = lineConsumerFactory.newLineConsumer();
+        }
+
+        final CommandLineOutputProcessor stdOutConsumer = new CommandLineOutputProcessor(new ArrayList<String>());
+        final CommandLineOutputProcessor stdErrConsumer = new CommandLineOutputProcessor(new ArrayList<String>());
+
+        final Process process = processBuilder.start();
+
+        Watchdog watcher = null;
+
+        if (timeout > 0) {
+            watcher = new Watchdog(timeout, TimeUnit.MILLISECONDS);
+
+            watcher.start(new CancellableProcessWrapper(process));
+        }
+
+        try (LineConsumer consumer = new CompositeLineConsumer(lineConsumer, stdOutConsumer)) {
+            ProcessUtil.process(process, consumer, stdErrConsumer);
+            process.waitFor();
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        } finally {
+            if (watcher != null) {
+                watcher.stop();
+            }
+        }
+
+        return new CommandLineResult(command, process.exitValue(), stdOutConsumer.getOutput(), stdErrConsumer.getOutput());
+    }
+
+    /**
+     * Executes a command line executable based on the arguments specified. Standard output of the command is passed
+     * to the {@code outputReader} while the command is running and isn't included in the result.
+     *
+     * @param env the optional environment variables
+     * @param cmd the command to run
+     * @param args the optional command arguments
+     * @param redactedArgs additional command arguments that will not be shown in result
+     * @param timeout the optional timeout in milliseconds
+     * @param workingDirectory the optional working directory
+     * @param outputReader the reader of std output
+     *
+     * @return the command line result, with empty std output
+     *
+     * @throws IOException if something goes wrong or if output of successfully finished command can't be read
+     */
+    public static CommandLineResult executeCommandLineAndReadOutput(@Nullable final Map<String, String> env,
+                                                                    final String cmd,
+                                                                    @Nullable final String[] args,
+                                                                    @Nullable final String[] redactedArgs,
+                                                                    final long timeout,
+                                                                    @Nullable final File workingDirectory,
+                                                                    final CommandLineOutputReader outputReader)
+            throws IOException {
+        final CommandLine command = createCommandLine(cmd, args);
+        final ProcessBuilder processBuilder = createProcessBuilder(env, command, redactedArgs, workingDirectory);
+
+        final CommandLineOutputProcessor stdErrConsumer = new CommandLineOutputProcessor(new ArrayList<String>());
+
+        final Process process = processBuilder.start();
+
+        Watchdog watcher = null;
+
+        if (timeout > 0) {
+            watcher = new Watchdog(timeout, TimeUnit.MILLISECONDS);
+
+            watcher.start(new CancellableProcessWrapper(process));
+        }
+
+        // error output is read by shared pump thread, otherwise command may block on writing to full pipe
+        final StreamPump stdErrPump = new StreamPump();
+        stdErrPump.start(process.getErrorStream(), stdErrConsumer);
+
+        IOException readError = null;
+        try (InputStream stdOut = process.getInputStream()) {
+            try {
+                outputReader.read(stdOut);
+            } catch (IOException e) {
+                // output of failed command is usually incomplete, exit code and error output tell more
+                readError = e;
+            }
+            final byte[] skipBuffer = new byte[8192];
+            while (stdOut.read(skipBuffer) != -1) {
+                // skip the rest of output to let the command finish
+            }
+            process.waitFor();
+            stdErrPump.await();
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        } finally {
+            if (watcher != null) {
+                watcher.stop();
+            }
+        }
+
+        if (readError != null && process.exitValue() == 0) {
+            throw readError;
+        }
+
+        return new CommandLineResult(command, process.exitValue(), new ArrayList<String>(), stdErrConsumer.getOutput());
+    }
+
+    private static CommandLine createCommandLine(final String cmd, @Nullable final String[] args) {
+        final CommandLine command = new CommandLine(cmd);
 
         if (args != null) {
             for (String arg: args) {
@@ -109,6 +218,13 @@ public class UpstreamUtils {
             }
         }
 
+        return command;
+    }
+
+    private static ProcessBuilder createProcessBuilder(@Nullable final Map<String, String> env,
+                                                       final CommandLine command,
+                                                       @Nullable final String[] redactedArgs,
+                                                       @Nullable final File workingDirectory) {
         CommandLine redactedCommand = new CommandLine(command);
         if (redactedArgs != null) {
             for (String arg: redactedArgs) {
@@ -129,31 +245,6 @@ public class UpstreamUtils {
 
         processBuilder.directory(workingDirectory);
 
-        LineConsumer lineConsumer = LineConsumer.DEV_NULL;
-        if (lineConsumerFactory != null) {
-            lineConsumer = lineConsumerFactory.newLineConsumer();
-        }
-
-        final CommandLineOutputProcessor stdOutConsumer = new CommandLineOutputProcessor(new ArrayList<String>());
-        final CommandLineOutputProcessor stdErrConsumer = new CommandLineOutputProcessor(new ArrayList<String>());
-
-        final Process process = processBuilder.start();
-
-        final Watchdog watcher;
-
-        if (timeout > 0) {
-            watcher = new Watchdog(timeout, TimeUnit.MILLISECONDS);
-
-            watcher.start(new CancellableProcessWrapper(process));
-        }
-
-        try (LineConsumer consumer = new CompositeLineConsumer(lineConsumer, stdOutConsumer)) {
-            ProcessUtil.process(process, consumer, stdErrConsumer);
-            process.waitFor();
-        } catch (InterruptedException e) {
-            throw new IOException(e);
-        }
-
-        return new CommandLineResult(command, process.exitValue(), stdOutConsumer.getOutput(), stdErrConsumer.getOutput());
+        return processBuilder;
     }
 }
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.svn.server.utils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,6 +24,10 @@ public class SubversionUtils {
     private static Pattern CHECKOUT_REV_NUM_PATTERN = Pattern.compile("^Checked out revision ([0-9]+).*");
     private static Pattern COMMIT_REV_NUM_PATTERN = Pattern.compile("^Committed revision ([0-9]+).*");
     private static Pattern UPDATE_REV_NUM_PATTERN = Pattern.compile("^Updated to revision ([0-9]+).*");
+    private static Pattern LOG_ENTRY_REV_NUM_PATTERN = Pattern.compile("^r([0-9]+) \\| .*");
+    private static Pattern NUMBER_PATTERN = Pattern.compile("[0-9]+");
+
+    private static final String LOG_ENTRY_SEPARATOR = "------------------------------------------------------------------------";
 
     private SubversionUtils() { }
 
@@ -88,4 +93,127 @@ public class SubversionUtils {
         return revision;
     }
 
+    /**
+     * Returns the revision numbers of the log entries from the log output. Only header lines which follow the separator
+     * of entries are parsed, so log messages which look like headers are skipped.
+     *
+     * @param output the log output
+     *
+     * @return the revision numbers in order of output
+     */
+    public static List<Long> getLogRevisions(final List<String> output) {
+        final List<Long> revisions = new ArrayList<>();
+        boolean header = false;
+
+        for (final String line : output) {
+            if (header) {
+                final Matcher matcher = LOG_ENTRY_REV_NUM_PATTERN.matcher(line);
+
+                if (matcher.matches()) {
+                    revisions.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+            header = LOG_ENTRY_SEPARATOR.equals(line);
+        }
+
+        return revisions;
+    }
+
+    /**
+     * Returns the revision range which continues the limited log.
+     *
+     * @param range the revision range of the shown log, e.g. HEAD:1, {@code null} means BASE:1
+     * @param revisions the revision numbers of the shown log entries
+     * @param limit the limit of the shown log
+     *
+     * @return the revision range of the next part of the log or {@code null} if the whole range is shown
+     */
+    public static String getNextLogRevisionRange(final String range, final List<Long> revisions, final int limit) {
+        if (limit <= 0 || revisions.isEmpty() || revisions.size() < limit) {
+            return null;
+        }
+
+        final String start;
+        final String end;
+        if (range == null || range.trim().isEmpty()) {
+            start = "BASE";
+            end = "1";
+        } else {
+            final int separator = findRangeSeparator(range.trim());
+            if (separator < 0) {
+                // single revision
+                return null;
+            }
+            start = range.trim().substring(0, separator);
+            end = range.trim().substring(separator + 1);
+        }
+
+        final long last = revisions.get(revisions.size() - 1);
+        final boolean descending;
+        if (NUMBER_PATTERN.matcher(end).matches()) {
+            final long endRevision = Long.parseLong(end);
+            if (last == endRevision) {
+                return null;
+            }
+            descending = last > endRevision;
+        } else {
+            descending = isDescendingRange(start, end, revisions);
+        }
+
+        if (descending) {
+            return last > 0 ? (last - 1) + ":" + end : null;
+        }
+        return (last + 1) + ":" + end;
+    }
+
+    /**
+     * Returns {@code true} if the range with HEAD, BASE, COMMITTED, PREV or date end goes from newer revisions to
+     * older ones. The direction is taken from the requested range and from the shown entries only when the range
+     * itself doesn't tell it.
+     */
+    private static boolean isDescendingRange(final String start, final String end, final List<Long> revisions) {
+        if ("HEAD".equals(end)) {
+            return false;
+        }
+        if ("HEAD".equals(start)) {
+            return true;
+        }
+        if (isDate(start) && isDate(end)) {
+            // dates are compared in the ISO 8601 form, e.g. {2016-05-12 10:00}
+            return start.compareTo(end) > 0;
+        }
+        final long first = revisions.get(0);
+        if (NUMBER_PATTERN.matcher(start).matches() && first != Long.parseLong(start)) {
+            // the first shown entry is the newest one not after the start or the oldest one not before it
+            return first < Long.parseLong(start);
+        }
+        return revisions.size() > 1 && first > revisions.get(revisions.size() - 1);
+    }
+
+    private static boolean isDate(final String revision) {
+        return revision.startsWith("{") && revision.endsWith("}");
+    }
+
+    /**
+     * Returns index of the colon which separates revisions of the range, colons in dates, e.g. {2016-05-12 10:00},
+     * are skipped.
+     */
+    private static int findRangeSeparator(final String range) {
+        boolean inDate = false;
+
+        for (int i = 0; i < range.length(); i++) {
+            final char c = range.charAt(i);
+
+            if (c == '{') {
+                inDate = true;
+            } else if (c == '}') {
+                inDate = false;
+            } else if (c == ':' && !inDate) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
 }
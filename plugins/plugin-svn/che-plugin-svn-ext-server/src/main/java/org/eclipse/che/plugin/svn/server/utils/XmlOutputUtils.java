@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.utils;
+
+import org.eclipse.che.plugin.svn.shared.SubversionItem;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Utilities for reading the {@code --xml} output of Subversion commands. Output is read with StAX reader while command
+ * is running, so large output isn't kept in memory.
+ */
+public class XmlOutputUtils {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY;
+
+    static {
+        XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private XmlOutputUtils() {
+    }
+
+    /**
+     * Reads items of "svn info --xml" output. Values of the items are the same as values of the plain "svn info"
+     * output, except of the last changed date which is in ISO 8601 format.
+     *
+     * @param output the output of command
+     * @return the items in order of output
+     * @throws IOException if output isn't valid XML
+     */
+    public static List<SubversionItem> readInfo(final InputStream output) throws IOException {
+        final List<SubversionItem> items = new ArrayList<>();
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(output);
+            try {
+                SubversionItem item = null;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == START_ELEMENT && "entry".equals(reader.getLocalName())) {
+                        item = newDto(SubversionItem.class).withPath(reader.getAttributeValue(null, "path"))
+                                                           .withRevision(reader.getAttributeValue(null, "revision"))
+                                                           .withNodeKind(getNodeKind(reader.getAttributeValue(null, "kind")));
+                        if ("file".equals(item.getNodeKind())) {
+                            item.setName(getName(item.getPath()));
+                        }
+                    } else if (event == START_ELEMENT && item != null) {
+                        switch (reader.getLocalName()) {
+                            case "url":
+                                item.setURL(reader.getElementText());
+                                break;
+                            case "relative-url":
+                                item.setRelativeURL(reader.getElementText());
+                                break;
+                            case "root":
+                                item.setRepositoryRoot(reader.getElementText());
+                                break;
+                            case "uuid":
+                                item.setRepositoryUUID(reader.getElementText());
+                                break;
+                            case "schedule":
+                                item.setSchedule(reader.getElementText());
+                                break;
+                            case "commit":
+                                item.setLastChangedRev(reader.getAttributeValue(null, "revision"));
+                                break;
+                            case "date":
+                                item.setLastChangedDate(reader.getElementText());
+                                break;
+                        }
+                    } else if (event == END_ELEMENT && "entry".equals(reader.getLocalName()) && item != null) {
+                        items.add(item);
+                        item = null;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Unable to read output of svn info: " + e.getMessage(), e);
+        }
+        return items;
+    }
+
+    /**
+     * Reads revisions of "svn log --xml" output.
+     *
+     * @param output the output of command
+     * @return the revisions in order of output, prefixed with "r" like in plain "svn log" output, e.g. r42
+     * @throws IOException if output isn't valid XML
+     */
+    public static List<String> readLogRevisions(final InputStream output) throws IOException {
+        final List<String> revisions = new ArrayList<>();
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(output);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == START_ELEMENT && "logentry".equals(reader.getLocalName())) {
+                        revisions.add("r" + reader.getAttributeValue(null, "revision"));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Unable to read output of svn log: " + e.getMessage(), e);
+        }
+        return revisions;
+    }
+
+    /** Plain "svn info" output calls folders "directory" while XML output calls them "dir". */
+    private static String getNodeKind(final String kind) {
+        return "dir".equals(kind) ? "directory" : kind;
+    }
+
+    private static String getName(final String path) {
+        return path == null ? null : path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.repository;
+
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.svn.server.repository.WorkingCopyMetadataCache.WorkingCopyMetadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link WorkingCopyMetadataCache}.
+ */
+public class WorkingCopyMetadataCacheTest {
+
+    private File          workingCopy;
+    private File          project;
+    private CountingCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        workingCopy = Files.createTempDirectory("working-copy").toFile();
+        project = new File(workingCopy, "project");
+        project.mkdirs();
+        cache = new CountingCache();
+        cache.setWatching(true);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(workingCopy);
+    }
+
+    /**
+     * Folders outside of working copy don't have metadata and "svn info" isn't run for them.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testNoMetadataOutsideOfWorkingCopy() throws Exception {
+        assertNull(cache.getMetadata(project));
+        assertEquals(0, cache.reads);
+    }
+
+    /**
+     * Metadata is read once and kept until changes of .svn folder are reported.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testMetadataIsKeptUntilWorkingCopyIsChanged() throws Exception {
+        new File(workingCopy, ".svn").mkdir();
+
+        assertEquals("url-1", cache.getMetadata(project).getUrl());
+        assertEquals("url-1", cache.getMetadata(project).getUrl());
+        assertEquals(1, cache.reads);
+
+        cache.onFileChanged(new File(project, "README"));
+        assertEquals(1, cache.size());
+
+        cache.onFileChanged(new File(workingCopy, ".svn/wc.db"));
+        assertEquals(0, cache.size());
+        assertEquals("url-2", cache.getMetadata(project).getUrl());
+    }
+
+    /**
+     * Metadata is read on every request while file watcher isn't running.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testMetadataIsNotCachedWithoutFileWatcher() throws Exception {
+        new File(workingCopy, ".svn").mkdir();
+        cache.setWatching(false);
+
+        cache.getMetadata(project);
+        cache.getMetadata(project);
+
+        assertEquals(2, cache.reads);
+        assertEquals(0, cache.size());
+    }
+
+    private static class CountingCache extends WorkingCopyMetadataCache {
+        int reads;
+
+        CountingCache() {
+            super(mock(FileWatcherNotificationHandler.class));
+        }
+
+        @Override
+        WorkingCopyMetadata readMetadata(File folder) {
+            reads++;
+            return new WorkingCopyMetadata("url-" + reads, "root", "1");
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.Test;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  * Unit tests for {@link SubversionUtils}.
@@ -75,4 +76,70 @@ public class SubversionUtilsTest {
         )));
     }
 
+    /**
+     * Test for {@link SubversionUtils#getLogRevisions(List)}.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testGetLogRevisions() throws Exception {
+        assertEquals(ImmutableList.of(42L, 7L), SubversionUtils.getLogRevisions(ImmutableList.of(
+                "------------------------------------------------------------------------",
+                "r42 | user | 2016-05-12 10:15:30 +0000 (Thu, 12 May 2016) | 2 lines",
+                "",
+                "First line",
+                "r5 | not a header | in the message | 1 line",
+                "------------------------------------------------------------------------",
+                "r7 | user | 2016-05-11 08:00:00 +0000 (Wed, 11 May 2016) | 1 line",
+                "",
+                "Message",
+                "------------------------------------------------------------------------"
+        )));
+    }
+
+    /**
+     * Test for {@link SubversionUtils#getNextLogRevisionRange(String, List, int)}.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testGetNextLogRevisionRange() throws Exception {
+        // the whole log is shown
+        assertNull(SubversionUtils.getNextLogRevisionRange("HEAD:1", ImmutableList.of(42L, 7L), 0));
+        assertNull(SubversionUtils.getNextLogRevisionRange("HEAD:1", ImmutableList.of(42L, 7L), 3));
+        assertNull(SubversionUtils.getNextLogRevisionRange("42:7", ImmutableList.of(42L, 7L), 2));
+        assertNull(SubversionUtils.getNextLogRevisionRange("42", ImmutableList.of(42L), 1));
+
+        // descending log
+        assertEquals("6:1", SubversionUtils.getNextLogRevisionRange(null, ImmutableList.of(42L, 7L), 2));
+        assertEquals("6:1", SubversionUtils.getNextLogRevisionRange("HEAD:1", ImmutableList.of(42L, 7L), 2));
+
+        // ascending log
+        assertEquals("43:HEAD", SubversionUtils.getNextLogRevisionRange("7:HEAD", ImmutableList.of(7L, 42L), 2));
+        assertEquals("43:100", SubversionUtils.getNextLogRevisionRange("7:100", ImmutableList.of(42L), 1));
+        assertEquals("43:{2016-05-12 10:00}",
+                     SubversionUtils.getNextLogRevisionRange("{2016-01-01 10:00}:{2016-05-12 10:00}",
+                                                             ImmutableList.of(7L, 42L), 2));
+    }
+
+    /**
+     * Test for {@link SubversionUtils#getNextLogRevisionRange(String, List, int)} when a page contains a single entry.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testGetNextLogRevisionRangeForSingleEntryPage() throws Exception {
+        // descending log
+        assertEquals("41:{2016-01-01}", SubversionUtils.getNextLogRevisionRange("HEAD:{2016-01-01}", ImmutableList.of(42L), 1));
+        assertEquals("41:{2016-01-01}",
+                     SubversionUtils.getNextLogRevisionRange("{2016-05-12 10:00}:{2016-01-01}", ImmutableList.of(42L), 1));
+        assertEquals("41:{2016-01-01}", SubversionUtils.getNextLogRevisionRange("50:{2016-01-01}", ImmutableList.of(42L), 1));
+
+        // ascending log
+        assertEquals("8:HEAD", SubversionUtils.getNextLogRevisionRange("{2016-01-01}:HEAD", ImmutableList.of(7L), 1));
+        assertEquals("8:{2016-05-12 10:00}",
+                     SubversionUtils.getNextLogRevisionRange("{2016-01-01}:{2016-05-12 10:00}", ImmutableList.of(7L), 1));
+        assertEquals("8:{2016-05-12 10:00}", SubversionUtils.getNextLogRevisionRange("5:{2016-05-12 10:00}", ImmutableList.of(7L), 1));
+    }
+
 }
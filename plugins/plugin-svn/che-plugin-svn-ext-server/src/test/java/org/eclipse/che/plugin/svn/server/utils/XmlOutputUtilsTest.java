@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.utils;
+
+import org.eclipse.che.plugin.svn.shared.SubversionItem;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit tests for {@link XmlOutputUtils}.
+ */
+public class XmlOutputUtilsTest {
+
+    private static final String INFO_OUTPUT =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<info>\n" +
+            "<entry kind=\"dir\" path=\".\" revision=\"3\">\n" +
+            "<url>file:///tmp/repo/trunk</url>\n" +
+            "<relative-url>^/trunk</relative-url>\n" +
+            "<repository>\n" +
+            "<root>file:///tmp/repo</root>\n" +
+            "<uuid>7f6b9a2e-4b0a-4f6e-9a5c-2f1d8e3c4b5a</uuid>\n" +
+            "</repository>\n" +
+            "<wc-info>\n" +
+            "<wcroot-abspath>/projects/test</wcroot-abspath>\n" +
+            "<schedule>normal</schedule>\n" +
+            "<depth>infinity</depth>\n" +
+            "</wc-info>\n" +
+            "<commit revision=\"2\">\n" +
+            "<author>user</author>\n" +
+            "<date>2016-05-12T10:15:30.123456Z</date>\n" +
+            "</commit>\n" +
+            "</entry>\n" +
+            "<entry kind=\"file\" path=\"A/mu\" revision=\"3\">\n" +
+            "<url>file:///tmp/repo/trunk/A/mu</url>\n" +
+            "<relative-url>^/trunk/A/mu</relative-url>\n" +
+            "<repository>\n" +
+            "<root>file:///tmp/repo</root>\n" +
+            "</repository>\n" +
+            "<wc-info>\n" +
+            "<schedule>add</schedule>\n" +
+            "</wc-info>\n" +
+            "<commit revision=\"1\">\n" +
+            "<date>2016-05-11T08:00:00.000000Z</date>\n" +
+            "</commit>\n" +
+            "</entry>\n" +
+            "</info>\n";
+
+    private static final String LOG_OUTPUT =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<log>\n" +
+            "<logentry revision=\"3\">\n" +
+            "<author>user</author>\n" +
+            "<date>2016-05-12T10:15:30.123456Z</date>\n" +
+            "<msg>Message with | separators | in it</msg>\n" +
+            "</logentry>\n" +
+            "<logentry revision=\"1\">\n" +
+            "<msg></msg>\n" +
+            "</logentry>\n" +
+            "</log>\n";
+
+    /**
+     * Test for {@link XmlOutputUtils#readInfo(InputStream)}.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testReadInfo() throws Exception {
+        final List<SubversionItem> items = XmlOutputUtils.readInfo(toStream(INFO_OUTPUT));
+
+        assertEquals(2, items.size());
+
+        final SubversionItem folder = items.get(0);
+        assertEquals(".", folder.getPath());
+        assertNull(folder.getName());
+        assertEquals("directory", folder.getNodeKind());
+        assertEquals("3", folder.getRevision());
+        assertEquals("file:///tmp/repo/trunk", folder.getURL());
+        assertEquals("^/trunk", folder.getRelativeURL());
+        assertEquals("file:///tmp/repo", folder.getRepositoryRoot());
+        assertEquals("7f6b9a2e-4b0a-4f6e-9a5c-2f1d8e3c4b5a", folder.getRepositoryUUID());
+        assertEquals("normal", folder.getSchedule());
+        assertEquals("2", folder.getLastChangedRev());
+        assertEquals("2016-05-12T10:15:30.123456Z", folder.getLastChangedDate());
+
+        final SubversionItem file = items.get(1);
+        assertEquals("A/mu", file.getPath());
+        assertEquals("mu", file.getName());
+        assertEquals("file", file.getNodeKind());
+        assertEquals("add", file.getSchedule());
+        assertEquals("1", file.getLastChangedRev());
+    }
+
+    /**
+     * Test for {@link XmlOutputUtils#readLogRevisions(InputStream)}.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testReadLogRevisions() throws Exception {
+        assertEquals(Arrays.asList("r3", "r1"), XmlOutputUtils.readLogRevisions(toStream(LOG_OUTPUT)));
+    }
+
+    /**
+     * Test for {@link XmlOutputUtils#readInfo(InputStream)} with output which isn't XML.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test(expected = IOException.class)
+    public void testReadInfoFailsOnInvalidOutput() throws Exception {
+        XmlOutputUtils.readInfo(toStream("svn: E155007: '/tmp' is not a working copy"));
+    }
+
+    private static InputStream toStream(String output) {
+        return new ByteArrayInputStream(output.getBytes(UTF_8));
+    }
+}
@@ -81,4 +81,21 @@ public interface ShowLogRequest {
      * @return the request
      */
     ShowLogRequest withDepth(@NotNull final String depth);
+
+    /**
+     * @return the maximal number of log entries to show, 0 or negative value means all the entries
+     */
+    int getLimit();
+
+    /**
+     * @param limit the maximal number of log entries to set
+     */
+    void setLimit(final int limit);
+
+    /**
+     * @param limit the maximal number of log entries
+     *
+     * @return the request
+     */
+    ShowLogRequest withLimit(final int limit);
 }
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.shared;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * DTO for responses of "svn log". Output of the limited log may be continued with the next revision range.
+ */
+@DTO
+public interface ShowLogResponse {
+
+    /**
+     * @return the executed command
+     */
+    String getCommand();
+
+    /**
+     * @param command the executed command
+     */
+    void setCommand(@NotNull final String command);
+
+    /**
+     * @param command the executed command
+     *
+     * @return the response
+     */
+    ShowLogResponse withCommand(@NotNull final String command);
+
+    /**
+     * @return the log output
+     */
+    List<String> getOutput();
+
+    /**
+     * @param output the log output to set
+     */
+    void setOutput(@NotNull final List<String> output);
+
+    /**
+     * @param output the log output to use
+     *
+     * @return the response
+     */
+    ShowLogResponse withOutput(@NotNull final List<String> output);
+
+    /**
+     * @return the log error output
+     */
+    List<String> getErrOutput();
+
+    /**
+     * @param errors the log error output to set
+     */
+    void setErrOutput(@NotNull final List<String> errors);
+
+    /**
+     * @param errors the log error output to use
+     *
+     * @return the response
+     */
+    ShowLogResponse withErrOutput(@NotNull final List<String> errors);
+
+    /**
+     * @return the revision range of the next part of the log, e.g. 41:1, or {@code null} if the whole log is shown
+     */
+    String getNextRevision();
+
+    /**
+     * @param nextRevision the revision range of the next part of the log
+     */
+    void setNextRevision(final String nextRevision);
+
+    /**
+     * @param nextRevision the revision range of the next part of the log
+     *
+     * @return the response
+     */
+    ShowLogResponse withNextRevision(final String nextRevision);
+}
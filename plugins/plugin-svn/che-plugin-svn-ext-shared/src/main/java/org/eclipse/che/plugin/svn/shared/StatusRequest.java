@@ -162,4 +162,21 @@ public interface StatusRequest {
      */
     StatusRequest withChangeLists(final List<String> changeLists);
 
+    /**
+     * @return the maximal number of output lines to return, 0 or negative value means all the lines
+     */
+    int getLimit();
+
+    /**
+     * @param limit the maximal number of output lines to set
+     */
+    void setLimit(final int limit);
+
+    /**
+     * @param limit the maximal number of output lines
+     *
+     * @return the request
+     */
+    StatusRequest withLimit(final int limit);
+
 }
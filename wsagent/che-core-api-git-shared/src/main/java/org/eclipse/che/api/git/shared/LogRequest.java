@@ -35,6 +35,41 @@ public interface LogRequest extends GitRequest {
     
     void setRevisionRangeSince(String revisionRangeSince);
     void setRevisionRangeUntil(String revisionRangeUntil);	
+
+    /** @return number of commits to skip before starting to show the commit output */
+    int getSkip();
+
+    void setSkip(int skip);
+
+    LogRequest withSkip(int skip);
+
+    /** @return max number of commits to show, {@code 0} means that number of commits isn't limited */
+    int getMaxCount();
+
+    void setMaxCount(int maxCount);
+
+    LogRequest withMaxCount(int maxCount);
+
+    /** @return show only commits which author name or email contains this string */
+    String getAuthorFilter();
+
+    void setAuthorFilter(String authorFilter);
+
+    LogRequest withAuthorFilter(String authorFilter);
+
+    /** @return show only commits committed after this time in milliseconds, {@code 0} means no limit */
+    long getSinceTime();
+
+    void setSinceTime(long sinceTime);
+
+    LogRequest withSinceTime(long sinceTime);
+
+    /** @return show only commits committed before this time in milliseconds, {@code 0} means no limit */
+    long getUntilTime();
+
+    void setUntilTime(long untilTime);
+
+    LogRequest withUntilTime(long untilTime);
     // private List<String> fileFilter;
     // private boolean noRenames = true;
     // private int renameLimit;
@@ -36,6 +36,7 @@ public class GitModule extends AbstractModule {
 
         Multibinder<ValueProviderFactory> multiBinder = Multibinder.newSetBinder(binder(), ValueProviderFactory.class);
         multiBinder.addBinding().to(GitValueProviderFactory.class);
+        bind(GitRepositoryMetadataCache.class);
 
         bind(GitService.class);
         bind(BranchListWriter.class);
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.git;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.eclipse.che.api.git.shared.Remote;
+import org.eclipse.che.api.git.shared.RemoteListRequest;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Keeps metadata of git repositories which is needed for git project attributes: current branch and remote URLs.
+ * <p/>
+ * Current branch is read directly from {@code HEAD} file of the repository. Remote URLs are read through git connection,
+ * so that all the config features, e.g. includes and comments, are handled by git implementation, and are kept until
+ * modification time or size of the {@code config} file is changed.
+ * <p/>
+ * Cached metadata is dropped when file watcher reports changes of {@code HEAD}, {@code config}, {@code packed-refs} or
+ * {@code refs} of the repository. While file watcher isn't running metadata is read on every request.
+ */
+@Singleton
+public class GitRepositoryMetadataCache {
+    private static final String DOT_GIT     = ".git";
+    private static final String HEAD        = "HEAD";
+    private static final String CONFIG      = "config";
+    private static final String PACKED_REFS = "packed-refs";
+    private static final String REFS        = "refs";
+    private static final String REF_PREFIX  = "ref: ";
+    private static final String HEADS       = "refs/heads/";
+
+    private final GitConnectionFactory            gitConnectionFactory;
+    private final FileWatcherNotificationHandler  fileWatcherNotificationHandler;
+    private final FileWatcherNotificationListener fileWatcherListener;
+    private final Map<File, RepositoryMetadata>   metadata;
+    private final Map<File, RemoteUrls>           remoteUrls;
+    /** Incremented on every invalidation, protects from caching metadata that was changed while it was read. */
+    private final AtomicLong                      invalidations;
+
+    private volatile boolean watching;
+
+    @Inject
+    public GitRepositoryMetadataCache(GitConnectionFactory gitConnectionFactory,
+                                      FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this.gitConnectionFactory = gitConnectionFactory;
+        this.fileWatcherNotificationHandler = fileWatcherNotificationHandler;
+        this.metadata = new ConcurrentHashMap<>();
+        this.remoteUrls = new ConcurrentHashMap<>();
+        this.invalidations = new AtomicLong();
+        this.fileWatcherListener = new FileWatcherNotificationListener(VirtualFileFilter.ACCEPT_ALL) {
+            @Override
+            public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                onFileChanged(virtualFile.toIoFile());
+            }
+
+            @Override
+            public void onFileWatcherStarted() {
+                invalidateAll();
+                watching = true;
+            }
+
+            @Override
+            public void onFileWatcherError(Throwable cause) {
+                watching = false;
+                invalidateAll();
+            }
+        };
+        fileWatcherNotificationHandler.addNotificationListener(fileWatcherListener);
+    }
+
+    @PreDestroy
+    public void stop() {
+        fileWatcherNotificationHandler.removeNotificationListener(fileWatcherListener);
+        invalidateAll();
+    }
+
+    /**
+     * Returns metadata of git repository located in the {@code workTree} folder or {@code null} if the folder doesn't
+     * contain git repository.
+     *
+     * @throws GitException
+     *         if metadata of existing repository can't be read
+     */
+    public RepositoryMetadata getMetadata(File workTree) throws GitException {
+        final File gitDir = new File(workTree, DOT_GIT).getAbsoluteFile();
+        if (!isGitRepository(gitDir)) {
+            if (metadata.containsKey(gitDir) || remoteUrls.containsKey(gitDir)) {
+                invalidate(gitDir);
+            }
+            return null;
+        }
+        if (!watching) {
+            return readMetadata(workTree, gitDir);
+        }
+        RepositoryMetadata repositoryMetadata = metadata.get(gitDir);
+        if (repositoryMetadata == null) {
+            final long invalidationsBeforeRead = invalidations.get();
+            repositoryMetadata = readMetadata(workTree, gitDir);
+            synchronized (this) {
+                if (invalidations.get() == invalidationsBeforeRead) {
+                    metadata.put(gitDir, repositoryMetadata);
+                }
+            }
+        }
+        return repositoryMetadata;
+    }
+
+    @VisibleForTesting
+    void onFileChanged(File file) {
+        File current = file.getAbsoluteFile();
+        String relativePath = null;
+        while (current != null) {
+            if (DOT_GIT.equals(current.getName())) {
+                if (relativePath == null
+                    || HEAD.equals(relativePath)
+                    || CONFIG.equals(relativePath)
+                    || PACKED_REFS.equals(relativePath)
+                    || relativePath.equals(REFS)
+                    || relativePath.startsWith(REFS + '/')) {
+                    invalidate(current);
+                }
+                return;
+            }
+            relativePath = relativePath == null ? current.getName() : current.getName() + '/' + relativePath;
+            current = current.getParentFile();
+        }
+    }
+
+    @VisibleForTesting
+    void setWatching(boolean watching) {
+        this.watching = watching;
+    }
+
+    @VisibleForTesting
+    int size() {
+        return metadata.size();
+    }
+
+    private synchronized void invalidate(File gitDir) {
+        invalidations.incrementAndGet();
+        metadata.remove(gitDir);
+        remoteUrls.remove(gitDir);
+    }
+
+    private synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        metadata.clear();
+        remoteUrls.clear();
+    }
+
+    private static boolean isGitRepository(File gitDir) {
+        return new File(gitDir, HEAD).isFile()
+               && new File(gitDir, REFS).isDirectory()
+               && new File(gitDir, "objects").isDirectory();
+    }
+
+    private RepositoryMetadata readMetadata(File workTree, File gitDir) throws GitException {
+        final String branchName;
+        try {
+            branchName = readBranchName(gitDir);
+        } catch (IOException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+        return new RepositoryMetadata(branchName, readRemoteUrls(workTree, gitDir));
+    }
+
+    /** Returns short name of the current branch or {@code HEAD} if HEAD is detached, the same as JGit does. */
+    private static String readBranchName(File gitDir) throws IOException {
+        final String head = new String(Files.readAllBytes(new File(gitDir, HEAD).toPath()), UTF_8).trim();
+        if (head.startsWith(REF_PREFIX)) {
+            final String ref = head.substring(REF_PREFIX.length()).trim();
+            return ref.startsWith(HEADS) ? ref.substring(HEADS.length()) : ref;
+        }
+        return HEAD;
+    }
+
+    /** Returns URLs of remotes, they are read through git connection if {@code config} file was changed since the last read. */
+    private List<String> readRemoteUrls(File workTree, File gitDir) throws GitException {
+        final File config = new File(gitDir, CONFIG);
+        final long lastModified = config.lastModified();
+        final long length = config.length();
+        final RemoteUrls cached = remoteUrls.get(gitDir);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            return cached.urls;
+        }
+        final long invalidationsBeforeRead = invalidations.get();
+        final List<String> urls;
+        try (GitConnection connection = gitConnectionFactory.getConnection(workTree)) {
+            urls = connection.remoteList(newDto(RemoteListRequest.class))
+                             .stream()
+                             .map(Remote::getUrl)
+                             .collect(Collectors.toList());
+        }
+        synchronized (this) {
+            if (invalidations.get() == invalidationsBeforeRead) {
+                remoteUrls.put(gitDir, new RemoteUrls(lastModified, length, urls));
+            }
+        }
+        return urls;
+    }
+
+    /** Remote URLs read from the {@code config} file with the given modification time and size. */
+    private static class RemoteUrls {
+        final long         lastModified;
+        final long         length;
+        final List<String> urls;
+
+        RemoteUrls(long lastModified, long length, List<String> urls) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.urls = urls;
+        }
+    }
+
+    /** Immutable metadata of git repository. */
+    public static class RepositoryMetadata {
+        private final String       branchName;
+        private final List<String> remoteUrls;
+
+        RepositoryMetadata(String branchName, List<String> remoteUrls) {
+            this.branchName = branchName;
+            this.remoteUrls = Collections.unmodifiableList(remoteUrls);
+        }
+
+        /** Returns name of the current branch or id of the current commit if HEAD is detached. */
+        public String getBranchName() {
+            return branchName;
+        }
+
+        /** Returns URLs of the repository remotes. */
+        public List<String> getRemoteUrls() {
+            return remoteUrls;
+        }
+    }
+}
@@ -13,9 +13,7 @@ package org.eclipse.che.api.git;
 import com.google.inject.Inject;
 
 import org.eclipse.che.api.core.ApiException;
-import org.eclipse.che.api.git.shared.Remote;
-import org.eclipse.che.api.git.shared.RemoteListRequest;
-import org.eclipse.che.api.git.shared.StatusFormat;
+import org.eclipse.che.api.git.GitRepositoryMetadataCache.RepositoryMetadata;
 import org.eclipse.che.api.project.server.FolderEntry;
 import org.eclipse.che.api.project.server.type.ReadonlyValueProvider;
 import org.eclipse.che.api.project.server.type.ValueProvider;
@@ -23,14 +21,13 @@ import org.eclipse.che.api.project.server.type.ValueProviderFactory;
 import org.eclipse.che.api.project.server.type.ValueStorageException;
 
 import javax.inject.Singleton;
+import java.io.File;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.eclipse.che.api.git.GitProjectType.GIT_CURRENT_BRANCH_NAME;
 import static org.eclipse.che.api.git.GitProjectType.GIT_REPOSITORY_REMOTES;
 import static org.eclipse.che.api.git.GitProjectType.VCS_PROVIDER_NAME;
-import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
  * @author Roman Nikitenko
@@ -39,7 +36,7 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 public class GitValueProviderFactory implements ValueProviderFactory {
 
     @Inject
-    private GitConnectionFactory gitConnectionFactory;
+    private GitRepositoryMetadataCache metadataCache;
 
     @Override
     public ValueProvider newInstance(final FolderEntry folder) {
@@ -49,9 +46,10 @@ public class GitValueProviderFactory implements ValueProviderFactory {
                 if (folder == null) {
                     return Collections.emptyList();
                 }
-                try (GitConnection gitConnection = gitConnectionFactory.getConnection(resolveLocalPath(folder))) {
+                try {
                     //check whether the folder belongs to git repository
-                    if (!gitConnection.isInsideWorkTree()) {
+                    final RepositoryMetadata metadata = metadataCache.getMetadata(resolveLocalPath(folder));
+                    if (metadata == null) {
                         return Collections.emptyList();
                     }
 
@@ -59,12 +57,9 @@ public class GitValueProviderFactory implements ValueProviderFactory {
                         case VCS_PROVIDER_NAME:
                             return Collections.singletonList("git");
                         case GIT_CURRENT_BRANCH_NAME:
-                            return Collections.singletonList(gitConnection.status(StatusFormat.LONG).getBranchName());
+                            return Collections.singletonList(metadata.getBranchName());
                         case GIT_REPOSITORY_REMOTES:
-                            return gitConnection.remoteList(newDto(RemoteListRequest.class))
-                                                .stream()
-                                                .map(Remote::getUrl)
-                                                .collect(Collectors.toList());
+                            return metadata.getRemoteUrls();
                         default:
                             return Collections.emptyList();
                     }
@@ -75,7 +70,7 @@ public class GitValueProviderFactory implements ValueProviderFactory {
         };
     }
 
-    private String resolveLocalPath(FolderEntry folder) throws ApiException {
-        return folder.getVirtualFile().toIoFile().getAbsolutePath();
+    private File resolveLocalPath(FolderEntry folder) throws ApiException {
+        return folder.getVirtualFile().toIoFile();
     }
 }
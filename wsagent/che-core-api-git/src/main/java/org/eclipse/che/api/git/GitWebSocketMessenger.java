@@ -14,9 +14,8 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.git.shared.GitCheckoutEvent;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.eclipse.che.inject.StringArrayConverter;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,11 +52,8 @@ public class GitWebSocketMessenger implements EventSubscriber<GitCheckoutEvent>
     @Override
     public void onEvent(GitCheckoutEvent event) {
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
             final String channel = String.format(CHANNEL, event.getWorkspaceId(), event.getProjectName());
-            bm.setChannel(channel);
-            bm.setBody(DtoFactory.getInstance().toJson(event));
-            WSConnectionContext.sendMessage(bm);
+            ChannelMessageBatcher.sendMessageNow(channel, DtoFactory.getInstance().toJson(event));
         } catch (Exception e) {
             LOG.error(e.getMessage(), e);
         }
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.git;
+
+import org.eclipse.che.api.core.util.LineConsumerFactory;
+import org.eclipse.che.api.git.shared.Remote;
+import org.eclipse.che.api.git.shared.RemoteListRequest;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests for {@link GitRepositoryMetadataCache}.
+ */
+public class GitRepositoryMetadataCacheTest {
+
+    private File                       workTree;
+    private File                       gitDir;
+    private List<Remote>               remotes;
+    private GitConnection              gitConnection;
+    private GitRepositoryMetadataCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workTree = Files.createTempDirectory("project").toFile();
+        gitDir = new File(workTree, ".git");
+        remotes = new ArrayList<>();
+        gitConnection = mock(GitConnection.class);
+        when(gitConnection.remoteList(any(RemoteListRequest.class))).thenAnswer(invocation -> new ArrayList<>(remotes));
+        final GitConnectionFactory gitConnectionFactory = mock(GitConnectionFactory.class);
+        when(gitConnectionFactory.getConnection(any(File.class), any(LineConsumerFactory.class))).thenReturn(gitConnection);
+        cache = new GitRepositoryMetadataCache(gitConnectionFactory, new NoopFileWatcherNotificationHandler());
+        cache.setWatching(true);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(workTree);
+    }
+
+    @Test
+    public void shouldReturnNullWhenFolderIsNotGitRepository() throws Exception {
+        assertNull(cache.getMetadata(workTree));
+    }
+
+    @Test
+    public void shouldReadBranchAndRemotes() throws Exception {
+        createRepository("ref: refs/heads/master\n", "");
+        addRemote("https://github.com/codenvy/che.git");
+        addRemote("git@github.com:eclipse/che.git");
+
+        final GitRepositoryMetadataCache.RepositoryMetadata metadata = cache.getMetadata(workTree);
+
+        assertEquals(metadata.getBranchName(), "master");
+        assertEquals(metadata.getRemoteUrls(), Arrays.asList("https://github.com/codenvy/che.git", "git@github.com:eclipse/che.git"));
+    }
+
+    @Test
+    public void shouldReturnHeadWhenHeadIsDetached() throws Exception {
+        createRepository("a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2\n", "");
+
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "HEAD");
+    }
+
+    @Test
+    public void shouldKeepMetadataUntilHeadChangeIsReported() throws Exception {
+        createRepository("ref: refs/heads/master\n", "");
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "master");
+
+        write("HEAD", "ref: refs/heads/feature\n");
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "master");
+
+        cache.onFileChanged(new File(gitDir, "HEAD"));
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "feature");
+    }
+
+    @Test
+    public void shouldInvalidateMetadataWhenConfigIsChanged() throws Exception {
+        createRepository("ref: refs/heads/master\n", "");
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls().size(), 0);
+
+        write("config", "[remote \"origin\"]\n\turl = /tmp/origin\n");
+        addRemote("/tmp/origin");
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls().size(), 0);
+
+        cache.onFileChanged(new File(gitDir, "config"));
+
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls(), Arrays.asList("/tmp/origin"));
+    }
+
+    @Test
+    public void shouldNotReadRemotesAgainWhileConfigIsNotChanged() throws Exception {
+        cache.setWatching(false);
+        createRepository("ref: refs/heads/master\n", "");
+        addRemote("/tmp/origin");
+
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls(), Arrays.asList("/tmp/origin"));
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls(), Arrays.asList("/tmp/origin"));
+        verify(gitConnection, times(1)).remoteList(any(RemoteListRequest.class));
+
+        write("config", "[remote \"origin\"]\n\turl = /tmp/origin\n");
+
+        assertEquals(cache.getMetadata(workTree).getRemoteUrls(), Arrays.asList("/tmp/origin"));
+        verify(gitConnection, times(2)).remoteList(any(RemoteListRequest.class));
+    }
+
+    @Test
+    public void shouldNotInvalidateMetadataWhenObjectsAreChanged() throws Exception {
+        createRepository("ref: refs/heads/master\n", "");
+        cache.getMetadata(workTree);
+
+        cache.onFileChanged(new File(gitDir, "objects/ab/cdef"));
+        cache.onFileChanged(new File(workTree, "README"));
+
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void shouldReadMetadataOnEveryRequestWhenWatcherIsNotRunning() throws Exception {
+        cache.setWatching(false);
+        createRepository("ref: refs/heads/master\n", "");
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "master");
+
+        write("HEAD", "ref: refs/heads/feature\n");
+
+        assertEquals(cache.getMetadata(workTree).getBranchName(), "feature");
+        assertEquals(cache.size(), 0);
+    }
+
+    private void createRepository(String head, String config) throws Exception {
+        new File(gitDir, "objects").mkdirs();
+        new File(gitDir, "refs/heads").mkdirs();
+        write("HEAD", head);
+        write("config", config);
+    }
+
+    private void addRemote(String url) {
+        final Remote remote = mock(Remote.class);
+        when(remote.getUrl()).thenReturn(url);
+        remotes.add(remote);
+    }
+
+    private void write(String path, String content) throws Exception {
+        Files.write(new File(gitDir, path).toPath(), content.getBytes(UTF_8));
+    }
+
+    private static class NoopFileWatcherNotificationHandler implements FileWatcherNotificationHandler {
+        @Override
+        public void handleFileWatcherEvent(FileWatcherEventType eventType, File watchRoot, String subPath, boolean isDir) {
+        }
+
+        @Override
+        public void started(File watchRoot) {
+        }
+
+        @Override
+        public void errorOccurred(File watchRoot, Throwable cause) {
+        }
+
+        @Override
+        public boolean addNotificationListener(FileWatcherNotificationListener fileWatcherNotificationListener) {
+            return true;
+        }
+
+        @Override
+        public boolean removeNotificationListener(FileWatcherNotificationListener fileWatcherNotificationListener) {
+            return true;
+        }
+    }
+}
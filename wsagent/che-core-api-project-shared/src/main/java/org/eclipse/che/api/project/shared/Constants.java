@@ -31,6 +31,9 @@ public class Constants {
 
     public static final String LINK_REL_PROJECT_TYPES = "project types";
 
+    /** Media type of the project tree encoded as {@link org.eclipse.che.api.project.shared.dto.CompactTree}. */
+    public static final String COMPACT_TREE_MEDIA_TYPE = "application/vnd.che.compact-tree+json";
+
     public static final String CODENVY_DIR = ".codenvy";
 
     private Constants() {
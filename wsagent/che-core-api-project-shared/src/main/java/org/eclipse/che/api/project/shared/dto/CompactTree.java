@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto;
+
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project tree encoded column by column, alternative to the nested {@link TreeElement}s.
+ * <p/>
+ * Node with index {@code i} is described by the i-th elements of the node columns. Names, types and attributes
+ * are stored once in the tables and nodes refer to them by index. Nodes go in depth-first order, parent node always
+ * precedes its children, the first node is the root of the tree.
+ * <p/>
+ * If tree doesn't fit into the requested number of items it is sent by parts, {@link #getContinuation()} of the part
+ * should be passed to get the next part. Next part starts from the nodes which were already sent in the previous parts:
+ * the root and the parents of the next node, see {@link #getRepeated()}.
+ */
+@DTO
+public interface CompactTree {
+    /** Path of the root node. */
+    String getPath();
+
+    void setPath(String path);
+
+    CompactTree withPath(String path);
+
+    /** Index of the parent node of each node, {@code -1} for the root. */
+    List<Integer> getParents();
+
+    void setParents(List<Integer> parents);
+
+    CompactTree withParents(List<Integer> parents);
+
+    /** Index of the name of each node in {@link #getNames()}. */
+    List<Integer> getNameIndexes();
+
+    void setNameIndexes(List<Integer> nameIndexes);
+
+    CompactTree withNameIndexes(List<Integer> nameIndexes);
+
+    /** Distinct names of the nodes. */
+    List<String> getNames();
+
+    void setNames(List<String> names);
+
+    CompactTree withNames(List<String> names);
+
+    /** Index of the type of each node in {@link #getTypes()}. */
+    List<Integer> getTypeIndexes();
+
+    void setTypeIndexes(List<Integer> typeIndexes);
+
+    CompactTree withTypeIndexes(List<Integer> typeIndexes);
+
+    /** Distinct types of the nodes, e.g. file, folder, project. */
+    List<String> getTypes();
+
+    void setTypes(List<String> types);
+
+    CompactTree withTypes(List<String> types);
+
+    /** Index of the attributes of each node in {@link #getAttributes()}. */
+    List<Integer> getAttributeIndexes();
+
+    void setAttributeIndexes(List<Integer> attributeIndexes);
+
+    CompactTree withAttributeIndexes(List<Integer> attributeIndexes);
+
+    /** Distinct attributes of the nodes. */
+    List<Map<String, String>> getAttributes();
+
+    void setAttributes(List<Map<String, String>> attributes);
+
+    CompactTree withAttributes(List<Map<String, String>> attributes);
+
+    /** Modification time of each node. */
+    List<Long> getModified();
+
+    void setModified(List<Long> modified);
+
+    CompactTree withModified(List<Long> modified);
+
+    /** Content length of each node, {@code 0} for folders. */
+    List<Long> getContentLengths();
+
+    void setContentLengths(List<Long> contentLengths);
+
+    CompactTree withContentLengths(List<Long> contentLengths);
+
+    /** Number of the first nodes which were already sent in the previous parts of the tree. */
+    int getRepeated();
+
+    void setRepeated(int repeated);
+
+    CompactTree withRepeated(int repeated);
+
+    /** Token to get the next part of the tree, {@code null} if there are no more nodes. */
+    @Nullable
+    String getContinuation();
+
+    void setContinuation(String continuation);
+
+    CompactTree withContinuation(String continuation);
+}
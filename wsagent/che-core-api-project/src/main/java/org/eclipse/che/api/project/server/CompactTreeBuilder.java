@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.project.shared.dto.CompactTree;
+import org.eclipse.che.commons.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Comparator.comparing;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Walks project tree and encodes it as {@link CompactTree}.
+ * <p/>
+ * Children are visited in order of their names, so the walk may be continued from any node: continuation token is the
+ * path of the last sent node relative to the root of the tree. On continuation the walk goes straight down to that
+ * node, skipping children which precede it, and the rest of the tree is walked as usual.
+ */
+class CompactTreeBuilder {
+    private static final String SEPARATOR = "/";
+
+    private final boolean includeFiles;
+    private final int     maxItems;
+
+    private final List<Integer>                     parents;
+    private final List<Integer>                     nameIndexes;
+    private final List<Integer>                     typeIndexes;
+    private final List<Integer>                     attributeIndexes;
+    private final List<Long>                        modified;
+    private final List<Long>                        contentLengths;
+    private final Map<String, Integer>              names;
+    private final Map<String, Integer>              types;
+    private final Map<Map<String, String>, Integer> attributes;
+
+    private int    repeated;
+    private int    sent;
+    private String lastSentPath;
+    private String continuation;
+
+    /**
+     * @param includeFiles
+     *         include files in addition to folders
+     * @param maxItems
+     *         maximal number of new nodes in the tree, 0 or negative value means no limit
+     */
+    CompactTreeBuilder(boolean includeFiles, int maxItems) {
+        this.includeFiles = includeFiles;
+        this.maxItems = maxItems;
+        this.parents = new ArrayList<>();
+        this.nameIndexes = new ArrayList<>();
+        this.typeIndexes = new ArrayList<>();
+        this.attributeIndexes = new ArrayList<>();
+        this.modified = new ArrayList<>();
+        this.contentLengths = new ArrayList<>();
+        this.names = new HashMap<>();
+        this.types = new HashMap<>();
+        this.attributes = new HashMap<>();
+    }
+
+    /**
+     * Builds tree of the {@code root} folder.
+     *
+     * @param root
+     *         root of the tree
+     * @param depth
+     *         depth of the tree
+     * @param continuation
+     *         token of the previous part of the tree or {@code null} to start from the root
+     */
+    CompactTree build(FolderEntry root, int depth, @Nullable String continuation) throws ServerException {
+        final List<String> resumePath = new ArrayList<>();
+        if (continuation != null) {
+            for (String name : continuation.split(SEPARATOR)) {
+                if (!name.isEmpty()) {
+                    resumePath.add(name);
+                }
+            }
+            add(root, -1);
+            repeated++;
+        } else {
+            addNew(root, -1, "");
+        }
+        walk(root, 0, "", depth, resumePath, 0);
+
+        return newDto(CompactTree.class).withPath(root.getPath().toString())
+                                        .withParents(parents)
+                                        .withNameIndexes(nameIndexes)
+                                        .withNames(asTable(names))
+                                        .withTypeIndexes(typeIndexes)
+                                        .withTypes(asTable(types))
+                                        .withAttributeIndexes(attributeIndexes)
+                                        .withAttributes(asTable(attributes))
+                                        .withModified(modified)
+                                        .withContentLengths(contentLengths)
+                                        .withRepeated(repeated)
+                                        .withContinuation(this.continuation);
+    }
+
+    /** Returns {@code false} if the limit of items is reached. */
+    private boolean walk(FolderEntry folder,
+                         int folderIndex,
+                         String folderPath,
+                         int depth,
+                         List<String> resumePath,
+                         int level) throws ServerException {
+        if (depth == 0) {
+            return true;
+        }
+        final List<VirtualFileEntry> children = new ArrayList<>();
+        children.addAll(includeFiles ? folder.getChildFoldersFiles() : folder.getChildFolders());
+        children.sort(comparing(VirtualFileEntry::getName));
+        String resumeName = level < resumePath.size() ? resumePath.get(level) : null;
+        for (VirtualFileEntry child : children) {
+            final String childPath = folderPath.isEmpty() ? child.getName() : folderPath + SEPARATOR + child.getName();
+            if (resumeName != null) {
+                final int position = child.getName().compareTo(resumeName);
+                if (position < 0) {
+                    // sent in the previous parts
+                    continue;
+                }
+                resumeName = null;
+                if (position == 0) {
+                    // node itself was sent, but some of its children may be not
+                    if (child.isFolder()) {
+                        final int index = add(child, folderIndex);
+                        repeated++;
+                        if (!walk((FolderEntry)child, index, childPath, depth - 1, resumePath, level + 1)) {
+                            return false;
+                        }
+                    }
+                    continue;
+                }
+            }
+            if (maxItems > 0 && sent >= maxItems) {
+                continuation = lastSentPath;
+                return false;
+            }
+            final int index = addNew(child, folderIndex, childPath);
+            if (child.isFolder() && !walk((FolderEntry)child, index, childPath, depth - 1, Collections.emptyList(), 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int addNew(VirtualFileEntry entry, int parentIndex, String path) throws ServerException {
+        sent++;
+        lastSentPath = path;
+        return add(entry, parentIndex);
+    }
+
+    private int add(VirtualFileEntry entry, int parentIndex) throws ServerException {
+        final String type;
+        final long length;
+        if (entry.isFile()) {
+            type = "file";
+            length = entry.getVirtualFile().getLength();
+        } else {
+            type = ((FolderEntry)entry).isProject() ? "project" : "folder";
+            length = 0;
+        }
+        parents.add(parentIndex);
+        nameIndexes.add(indexOf(names, entry.getName()));
+        typeIndexes.add(indexOf(types, type));
+        attributeIndexes.add(indexOf(attributes, entry.getAttributes()));
+        modified.add(entry.getModified());
+        contentLengths.add(length);
+        return parents.size() - 1;
+    }
+
+    private static <T> int indexOf(Map<T, Integer> table, T value) {
+        return table.computeIfAbsent(value, v -> table.size());
+    }
+
+    private static <T> List<T> asTable(Map<T, Integer> table) {
+        final List<T> values = new ArrayList<>(Collections.nCopies(table.size(), null));
+        for (Map.Entry<T, Integer> entry : table.entrySet()) {
+            values.set(entry.getValue(), entry.getKey());
+        }
+        return values;
+    }
+}
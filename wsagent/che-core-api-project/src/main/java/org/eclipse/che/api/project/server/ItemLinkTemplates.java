@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriBuilder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.ws.rs.HttpMethod.DELETE;
+import static javax.ws.rs.HttpMethod.GET;
+import static javax.ws.rs.HttpMethod.PUT;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.che.api.core.util.LinksHelper.createLink;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CHILDREN;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_DELETE;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_GET_CONTENT;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_TREE;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_CONTENT;
+
+/**
+ * Links of files and folders of {@link ProjectService} for one base URI of the service.
+ * <p/>
+ * Paths of service methods are resolved once, links of the items are produced by concatenation of the resolved path
+ * and the encoded path of item, instead of building URI from the method annotations for every link.
+ */
+class ItemLinkTemplates {
+    /** Placeholder of the item path in the link templates, see {@link #asLinkHeader()}. */
+    static final String PATH_PLACEHOLDER = "{path}";
+
+    private static final String PATH_MARKER = "path";
+    private static final char[] HEX         = "0123456789ABCDEF".toCharArray();
+
+    private final String fileUri;
+    private final String itemUri;
+    private final String childrenUri;
+    private final String treeUri;
+
+    ItemLinkTemplates(UriBuilder serviceUriBuilder) {
+        fileUri = resolve(serviceUriBuilder, "getFile");
+        itemUri = resolve(serviceUriBuilder, "delete");
+        childrenUri = resolve(serviceUriBuilder, "getChildren");
+        treeUri = resolve(serviceUriBuilder, "getTree");
+    }
+
+    /** Returns links of file with the given path relative to the projects root. */
+    List<Link> getFileLinks(String relPath) {
+        final String encodedPath = encodePath(relPath);
+        final List<Link> links = new ArrayList<>(3);
+        links.add(createLink(GET, fileUri + encodedPath, APPLICATION_JSON, LINK_REL_GET_CONTENT));
+        links.add(createLink(PUT, fileUri + encodedPath, MediaType.WILDCARD, null, LINK_REL_UPDATE_CONTENT));
+        links.add(createLink(DELETE, itemUri + encodedPath, LINK_REL_DELETE));
+        return links;
+    }
+
+    /** Returns links of folder with the given path relative to the projects root. */
+    List<Link> getFolderLinks(String relPath) {
+        final String encodedPath = encodePath(relPath);
+        final List<Link> links = new ArrayList<>(3);
+        links.add(createLink(GET, childrenUri + encodedPath, APPLICATION_JSON, LINK_REL_CHILDREN));
+        links.add(createLink(GET, treeUri + encodedPath, APPLICATION_JSON, LINK_REL_TREE));
+        links.add(createLink(DELETE, itemUri + encodedPath, LINK_REL_DELETE));
+        return links;
+    }
+
+    /**
+     * Returns value of {@code Link} header which contains templates of links of all items, e.g.
+     * {@code <http://localhost:8080/api/project/children/{path}>; rel="children"}.
+     */
+    String asLinkHeader() {
+        return template(fileUri, LINK_REL_GET_CONTENT) + ", "
+               + template(fileUri, LINK_REL_UPDATE_CONTENT) + ", "
+               + template(childrenUri, LINK_REL_CHILDREN) + ", "
+               + template(treeUri, LINK_REL_TREE) + ", "
+               + template(itemUri, LINK_REL_DELETE);
+    }
+
+    private static String template(String uri, String rel) {
+        return '<' + uri + PATH_PLACEHOLDER + ">; rel=\"" + rel + '"';
+    }
+
+    /** Returns URI of the service method without path parameter, path of item should be appended to it. */
+    private static String resolve(UriBuilder serviceUriBuilder, String method) {
+        final String uri = serviceUriBuilder.clone()
+                                            .path(ProjectService.class, method)
+                                            .build(PATH_MARKER)
+                                            .toString();
+        return uri.substring(0, uri.lastIndexOf(PATH_MARKER));
+    }
+
+    /**
+     * Encodes path like path parameter is encoded by {@link UriBuilder#build(Object...)}: characters which aren't
+     * allowed in URI path, including '%', are percent-encoded, separators of path segments are kept.
+     */
+    static String encodePath(String path) {
+        StringBuilder encoded = null;
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (isAllowedInPath(c)) {
+                if (encoded != null) {
+                    encoded.append(c);
+                }
+                continue;
+            }
+            if (encoded == null) {
+                encoded = new StringBuilder(path.length() + 16).append(path, 0, i);
+            }
+            final int end = Character.isHighSurrogate(c) && i + 1 < path.length() ? i + 2 : i + 1;
+            for (byte b : path.substring(i, end).getBytes(UTF_8)) {
+                encoded.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+            i = end - 1;
+        }
+        return encoded == null ? path : encoded.toString();
+    }
+
+    private static boolean isAllowedInPath(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || "-._~!$&'()*+,;=:@/".indexOf(c) >= 0;
+    }
+}
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -33,6 +36,7 @@ import org.eclipse.che.api.core.rest.annotations.GenerateLink;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
 import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
+import org.eclipse.che.api.project.shared.dto.CompactTree;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
@@ -58,12 +62,14 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -86,13 +92,12 @@ import static javax.ws.rs.HttpMethod.PUT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.che.api.core.util.LinksHelper.createLink;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
+import static org.eclipse.che.api.project.shared.Constants.COMPACT_TREE_MEDIA_TYPE;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CHILDREN;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CREATE_PROJECT;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_DELETE;
-import static org.eclipse.che.api.project.shared.Constants.LINK_REL_GET_CONTENT;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_GET_PROJECTS;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_TREE;
-import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_CONTENT;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_PROJECT;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
@@ -112,15 +117,18 @@ public class ProjectService extends Service {
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
-    private final ProjectManager projectManager;
-    private final EventService   eventService;
-    private final String         workspace;
+    private final ProjectManager                   projectManager;
+    private final EventService                     eventService;
+    private final String                           workspace;
+    /** Base URI of the service to the link templates resolved for it. */
+    private final Cache<String, ItemLinkTemplates> linkTemplates;
 
     @Inject
     public ProjectService(ProjectManager projectManager, EventService eventService) {
         this.projectManager = projectManager;
         this.eventService = eventService;
         this.workspace = WorkspaceIdProvider.getWorkspaceId();
+        this.linkTemplates = CacheBuilder.newBuilder().maximumSize(16).build();
     }
 
     @GET
@@ -734,52 +742,70 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public List<ItemReference> getChildren(@ApiParam(value = "Path to a project", required = true)
-                                           @PathParam("parent") String path) throws NotFoundException,
-                                                                                    ForbiddenException,
-                                                                                    ServerException {
+    public Response getChildren(@ApiParam(value = "Path to a project", required = true)
+                                @PathParam("parent") String path,
+                                @ApiParam(value = "Send templates of links in 'Link' header instead of links of each item")
+                                @DefaultValue("false") @QueryParam("compactLinks") boolean compactLinks) throws NotFoundException,
+                                                                                                                ForbiddenException,
+                                                                                                                ServerException {
         final FolderEntry folder = projectManager.asFolder(path);
 
         if (folder == null) {
             throw new NotFoundException("Parent not found for " + path);
         }
 
+        final ItemLinkTemplates templates = getLinkTemplates();
         final List<VirtualFileEntry> children = folder.getChildren();
         final ArrayList<ItemReference> result = new ArrayList<>(children.size());
         for (VirtualFileEntry child : children) {
             if (child.isFile()) {
-                result.add(injectFileLinks(asDto((FileEntry)child)));
+                result.add(injectFileLinks(asDto((FileEntry)child), compactLinks ? null : templates));
             } else {
-                result.add(injectFolderLinks(asDto((FolderEntry)child)));
+                result.add(injectFolderLinks(asDto((FolderEntry)child), compactLinks ? null : templates));
             }
         }
 
-        return result;
+        return itemsResponse(new GenericEntity<List<ItemReference>>(result) {}, templates, compactLinks);
     }
 
     @GET
     @Path("/tree/{parent:.*}")
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, COMPACT_TREE_MEDIA_TYPE})
     @ApiOperation(value = "Get project tree",
-                  notes = "Get project tree. Depth is specified in a query parameter",
+                  notes = "Get project tree. Depth is specified in a query parameter. If client accepts " + COMPACT_TREE_MEDIA_TYPE +
+                          " tree is sent column by column, see CompactTree, large trees may be sent by parts",
                   response = TreeElement.class)
     @ApiResponses({@ApiResponse(code = 200, message = "OK"),
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public TreeElement getTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
-                               @PathParam("parent") String path,
-                               @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by default")
-                               @DefaultValue("1") @QueryParam("depth") int depth,
-                               @ApiParam(value = "include children files (in addition to children folders). This parameter can be dropped" +
-                                                 ". If not specified ?includeFiles=false is used by default")
-                               @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles) throws NotFoundException,
-                                                                                                               ForbiddenException,
-                                                                                                               ServerException {
+    public Response getTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                            @PathParam("parent") String path,
+                            @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by default")
+                            @DefaultValue("1") @QueryParam("depth") int depth,
+                            @ApiParam(value = "include children files (in addition to children folders). This parameter can be dropped" +
+                                              ". If not specified ?includeFiles=false is used by default")
+                            @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                            @ApiParam(value = "Send templates of links in 'Link' header instead of links of each item")
+                            @DefaultValue("false") @QueryParam("compactLinks") boolean compactLinks,
+                            @ApiParam(value = "Maximum nodes in the compact tree. If this parameter is dropped, there are no limits")
+                            @DefaultValue("0") @QueryParam("maxItems") int maxItems,
+                            @ApiParam(value = "Continuation token of the previous part of the compact tree")
+                            @QueryParam("continuation") String continuation,
+                            @HeaderParam(HttpHeaders.ACCEPT) String accept) throws NotFoundException,
+                                                                                   ForbiddenException,
+                                                                                   ServerException {
         final FolderEntry folder = projectManager.asFolder(path);
+        if (accept != null && accept.contains(COMPACT_TREE_MEDIA_TYPE)) {
+            final CompactTree tree = new CompactTreeBuilder(includeFiles, maxItems).build(folder, depth, continuation);
+            return Response.ok(DtoFactory.getInstance().toJson(tree), COMPACT_TREE_MEDIA_TYPE).build();
+        }
+        final ItemLinkTemplates templates = getLinkTemplates();
+        final ItemLinkTemplates itemTemplates = compactLinks ? null : templates;
 
-        return newDto(TreeElement.class).withNode(injectFolderLinks(asDto(folder)))
-                                        .withChildren(getTree(folder, depth, includeFiles));
+        final TreeElement tree = newDto(TreeElement.class).withNode(injectFolderLinks(asDto(folder), itemTemplates))
+                                                          .withChildren(getTree(folder, depth, includeFiles, itemTemplates));
+        return itemsResponse(tree, templates, compactLinks);
     }
 
     @GET
@@ -820,7 +846,7 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 409, message = "Conflict error"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public List<ItemReference> search(@ApiParam(value = "Path to resource, i.e. where to search?", required = true)
+    public Response search(@ApiParam(value = "Path to resource, i.e. where to search?", required = true)
                                       @PathParam("path") String path,
                                       @ApiParam(value = "Resource name")
                                       @QueryParam("name") String name,
@@ -829,16 +855,19 @@ public class ProjectService extends Service {
                                       @ApiParam(value = "Maximum items to display. If this parameter is dropped, there are no limits")
                                       @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
                                       @ApiParam(value = "Skip count")
-                                      @QueryParam("skipCount") int skipCount) throws NotFoundException,
-                                                                                     ForbiddenException,
-                                                                                     ConflictException,
-                                                                                     ServerException {
+                                      @QueryParam("skipCount") int skipCount,
+                                      @ApiParam(value = "Send templates of links in 'Link' header instead of links of each item")
+                                      @DefaultValue("false") @QueryParam("compactLinks") boolean compactLinks) throws NotFoundException,
+                                                                                                                      ForbiddenException,
+                                                                                                                      ConflictException,
+                                                                                                                      ServerException {
+        final ItemLinkTemplates templates = getLinkTemplates();
         final Searcher searcher;
         try {
             searcher = projectManager.getSearcher();
         } catch (NotFoundException e) {
             LOG.warn(e.getLocalizedMessage());
-            return Collections.emptyList();
+            return itemsResponse(new GenericEntity<List<ItemReference>>(Collections.emptyList()) {}, templates, compactLinks);
         }
 
         if (skipCount < 0) {
@@ -861,11 +890,11 @@ public class ProjectService extends Service {
             final VirtualFileEntry child = root.getChild(searchResultEntry.getFilePath());
 
             if (child != null && child.isFile()) {
-                items.add(injectFileLinks(asDto((FileEntry)child)));
+                items.add(injectFileLinks(asDto((FileEntry)child), compactLinks ? null : templates));
             }
         }
 
-        return items;
+        return itemsResponse(new GenericEntity<List<ItemReference>>(items) {}, templates, compactLinks);
     }
 
     private void logProjectCreatedEvent(@NotNull String projectName, @NotNull String projectType) {
@@ -898,7 +927,8 @@ public class ProjectService extends Service {
 
     private List<TreeElement> getTree(FolderEntry folder,
                                       int depth,
-                                      boolean includeFiles) throws ServerException, NotFoundException {
+                                      boolean includeFiles,
+                                      ItemLinkTemplates templates) throws ServerException, NotFoundException {
         if (depth == 0) {
             return null;
         }
@@ -915,10 +945,10 @@ public class ProjectService extends Service {
         for (VirtualFileEntry child : children) {
             if (child.isFolder()) {
                 nodes.add(newDto(TreeElement.class)
-                                  .withNode(injectFolderLinks(asDto((FolderEntry)child)))
-                                  .withChildren(getTree((FolderEntry)child, depth - 1, includeFiles)));
+                                  .withNode(injectFolderLinks(asDto((FolderEntry)child), templates))
+                                  .withChildren(getTree((FolderEntry)child, depth - 1, includeFiles, templates)));
             } else {
-                nodes.add(newDto(TreeElement.class).withNode(injectFileLinks(asDto((FileEntry)child))));
+                nodes.add(newDto(TreeElement.class).withNode(injectFileLinks(asDto((FileEntry)child), templates)));
             }
         }
 
@@ -1025,62 +1055,47 @@ public class ProjectService extends Service {
     }
 
     private ItemReference injectFileLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
-        final List<Link> links = new ArrayList<>();
-        final String relPath = itemReference.getPath().substring(1);
-
-        links.add(createLink(GET,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "getFile")
-                                       .build(relPath)
-                                       .toString(),
-                             APPLICATION_JSON,
-                             LINK_REL_GET_CONTENT));
-        links.add(createLink(PUT,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "updateFile")
-                                       .build(relPath)
-                                       .toString(),
-                             MediaType.WILDCARD,
-                             null,
-                             LINK_REL_UPDATE_CONTENT));
-        links.add(createLink(DELETE,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "delete")
-                                       .build(relPath)
-                                       .toString(),
-                             LINK_REL_DELETE));
+        return injectFileLinks(itemReference, getLinkTemplates());
+    }
 
-        return itemReference.withLinks(links);
+    /** Adds links to the file, links aren't added if {@code templates} is {@code null}. */
+    private ItemReference injectFileLinks(ItemReference itemReference, ItemLinkTemplates templates) {
+        if (templates == null) {
+            return itemReference;
+        }
+        return itemReference.withLinks(templates.getFileLinks(itemReference.getPath().substring(1)));
     }
 
     private ItemReference injectFolderLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
-        final List<Link> links = new ArrayList<>();
-        final String relPath = itemReference.getPath().substring(1);
+        return injectFolderLinks(itemReference, getLinkTemplates());
+    }
 
-        links.add(createLink(GET,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "getChildren")
-                                       .build(relPath)
-                                       .toString(),
-                             APPLICATION_JSON,
-                             LINK_REL_CHILDREN));
-        links.add(createLink(GET,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "getTree")
-                                       .build(relPath)
-                                       .toString(),
-                             APPLICATION_JSON,
-                             LINK_REL_TREE));
-        links.add(createLink(DELETE,
-                             uriBuilder.clone()
-                                       .path(ProjectService.class, "delete")
-                                       .build(relPath)
-                                       .toString(),
-                             LINK_REL_DELETE));
+    /** Adds links to the folder, links aren't added if {@code templates} is {@code null}. */
+    private ItemReference injectFolderLinks(ItemReference itemReference, ItemLinkTemplates templates) {
+        if (templates == null) {
+            return itemReference;
+        }
+        return itemReference.withLinks(templates.getFolderLinks(itemReference.getPath().substring(1)));
+    }
+
+    /** Returns templates of links of items for the base URI of the current request. */
+    private ItemLinkTemplates getLinkTemplates() {
+        final String baseUri = getServiceContext().getBaseUriBuilder().build().toString();
+        ItemLinkTemplates templates = linkTemplates.getIfPresent(baseUri);
+        if (templates == null) {
+            templates = new ItemLinkTemplates(getServiceContext().getServiceUriBuilder());
+            linkTemplates.put(baseUri, templates);
+        }
+        return templates;
+    }
 
-        return itemReference.withLinks(links);
+    /** Returns response with items, in compact mode templates of links of the items are sent in 'Link' header. */
+    private static Response itemsResponse(Object entity, ItemLinkTemplates templates, boolean compactLinks) {
+        final Response.ResponseBuilder response = Response.ok(entity, APPLICATION_JSON);
+        if (compactLinks) {
+            response.header("Link", templates.asLinkHeader());
+        }
+        return response.build();
     }
 
     private ProjectConfigDto injectProjectLinks(ProjectConfigDto projectConfig) {
@@ -14,8 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.dto.server.DtoFactory;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +24,8 @@ import javax.inject.Inject;
 
 /**
  *
- * Subscribes on VFS Watcher events and broadcasts them with websockets
+ * Subscribes on VFS Watcher events and broadcasts them with websockets.
+ * Bulk file events are delivered to clients in batches, see {@link ChannelMessageBatcher}.
  * @author gazarenkov
  */
 public class VfsWatchBroadcaster implements EventSubscriber<VfsWatchEvent> {
@@ -43,10 +43,7 @@ public class VfsWatchBroadcaster implements EventSubscriber<VfsWatchEvent> {
     public void onEvent(VfsWatchEvent event) {
 
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel(VfsWatchEvent.VFS_CHANNEL);
-            bm.setBody(DtoFactory.getInstance().toJson(event));
-            WSConnectionContext.sendMessage(bm);
+            ChannelMessageBatcher.sendMessage(VfsWatchEvent.VFS_CHANNEL, DtoFactory.getInstance().toJson(event));
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
         }
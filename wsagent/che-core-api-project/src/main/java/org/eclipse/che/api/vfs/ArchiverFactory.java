@@ -10,13 +10,29 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import java.util.concurrent.ExecutorService;
+
 public class ArchiverFactory {
+    private final ExecutorService extractExecutor;
+
+    public ArchiverFactory() {
+        this(null);
+    }
+
+    /**
+     * @param extractExecutor
+     *         executor for writing extracted files in parallel, if {@code null} archives are extracted sequentially
+     */
+    public ArchiverFactory(ExecutorService extractExecutor) {
+        this.extractExecutor = extractExecutor;
+    }
+
     public Archiver createArchiver(VirtualFile folder, String archiveType) {
         if (archiveType == null) {
             throw new IllegalArgumentException("Archive type might not be null");
         }
         if ("zip".equals(archiveType.toLowerCase())) {
-            return new ZipArchiver(folder);
+            return new ZipArchiver(folder, extractExecutor);
         } else if ("tar".equals(archiveType.toLowerCase())) {
             return new TarArchiver(folder);
         }
@@ -10,24 +10,66 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 
+import org.apache.commons.io.input.CountingInputStream;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.vfs.util.NotClosableInputStream;
-import org.eclipse.che.api.vfs.util.ZipContent;
+import org.eclipse.che.api.vfs.util.ZipRatioCheckingInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 public class ZipArchiver extends Archiver {
+    private static final Logger LOG = LoggerFactory.getLogger(ZipArchiver.class);
+
+    /** Entries bigger than this size are always written by the thread that reads the archive. */
+    static final int MAX_PARALLEL_ENTRY_SIZE = 1024 * 1024;
+    /** Max number of entries read from archive and waiting to be written by {@link #extractExecutor}. */
+    static final int MAX_PARALLEL_ENTRIES    = 64;
+
+    /** Content of files with these extensions is stored in archive without compression. */
+    private static final Set<String> COMPRESSED_FILE_EXTENSIONS = ImmutableSet.of("zip", "jar", "war", "ear", "gz", "tgz", "bz2", "xz",
+                                                                                  "7z", "rar", "png", "jpg", "jpeg", "gif", "mp3",
+                                                                                  "mp4", "pdf");
+
+    private final ExecutorService extractExecutor;
+
     public ZipArchiver(VirtualFile folder) {
+        this(folder, null);
+    }
+
+    /**
+     * @param folder
+     *         folder for compressing or extracting
+     * @param extractExecutor
+     *         executor that is used for writing content of extracted files in parallel, may be {@code null} then all
+     *         files are written sequentially by the caller's thread
+     */
+    public ZipArchiver(VirtualFile folder, ExecutorService extractExecutor) {
         super(folder);
+        this.extractExecutor = extractExecutor;
     }
 
     @Override
@@ -64,9 +106,20 @@ public class ZipArchiver extends Archiver {
         return zipPath.toString();
     }
 
+    /** Checks whether file is already compressed, there is no reason to spend time for deflating of such files. */
+    private static boolean isCompressed(VirtualFile virtualFile) {
+        if (virtualFile.isFolder()) {
+            return false;
+        }
+        final String name = virtualFile.getName();
+        final int dot = name.lastIndexOf('.');
+        return dot > 0 && COMPRESSED_FILE_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase());
+    }
+
     private void addZipEntry(VirtualFile virtualFile, ZipOutputStream zipOutputStream) throws ServerException {
         try {
             ZipEntry zipEntry = new ZipEntry(getZipEntryName(virtualFile));
+            zipOutputStream.setLevel(isCompressed(virtualFile) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
             zipOutputStream.putNextEntry(zipEntry);
             if (virtualFile.isFolder()) {
                 zipEntry.setTime(0);
@@ -84,52 +137,222 @@ public class ZipArchiver extends Archiver {
         }
     }
 
+    /**
+     * Extracts zip archive to the folder. Zip bomb is detected while entries are extracted, in this case files and folders that were
+     * created by this extraction are removed, files that were overwritten keep the content from the archive.
+     */
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
-        try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
-            InputStream notClosableInputStream = new NotClosableInputStream(zip);
-            ZipEntry zipEntry;
-            while ((zipEntry = zip.getNextEntry()) != null) {
-                VirtualFile extractFolder = folder;
+        final ParallelWriter writer = extractExecutor == null ? null : new ParallelWriter();
+        // Items created by this extraction, in order of creation
+        final List<Path> created = new ArrayList<>();
+        final Set<Path> extractedFiles = new HashSet<>();
+        try (CountingInputStream compressedDataCounter = new CountingInputStream(zipInput);
+             ZipInputStream zip = new ZipInputStream(compressedDataCounter)) {
+            ZipRatioCheckingInputStream entryContent = new ZipRatioCheckingInputStream(zip, compressedDataCounter);
+            try {
+                ZipEntry zipEntry;
+                while ((zipEntry = zip.getNextEntry()) != null) {
+                    VirtualFile extractFolder = folder;
+
+                    Path relativePath = Path.of(zipEntry.getName());
 
-                Path relativePath = Path.of(zipEntry.getName());
+                    if (stripNumber > 0) {
+                        if (relativePath.length() <= stripNumber) {
+                            continue;
+                        }
+                        relativePath = relativePath.subPath(stripNumber);
+                    }
 
-                if (stripNumber > 0) {
-                    if (relativePath.length() <= stripNumber) {
+                    if (zipEntry.isDirectory()) {
+                        if (!extractFolder.hasChild(relativePath)) {
+                            createFolder(relativePath, created);
+                        }
                         continue;
                     }
-                    relativePath = relativePath.subPath(stripNumber);
-                }
 
-                if (zipEntry.isDirectory()) {
-                    if (!extractFolder.hasChild(relativePath)) {
-                        extractFolder.createFolder(relativePath.toString());
+                    if (!extractedFiles.add(relativePath) && writer != null) {
+                        // Archive contains more than one entry with the same name, let previous one be written first.
+                        writer.awaitAll();
+                        writer.checkFailed();
                     }
-                    continue;
-                }
 
-                if (relativePath.length() > 1) {
-                    Path neededParentPath = relativePath.getParent();
-                    VirtualFile neededParent = extractFolder.getChild(neededParentPath);
-                    if (neededParent == null) {
-                        neededParent = extractFolder.createFolder(neededParentPath.toString());
+                    if (relativePath.length() > 1) {
+                        Path neededParentPath = relativePath.getParent();
+                        VirtualFile neededParent = extractFolder.getChild(neededParentPath);
+                        if (neededParent == null) {
+                            neededParent = createFolder(neededParentPath, created);
+                        }
+                        extractFolder = neededParent;
                     }
-                    extractFolder = neededParent;
-                }
 
-                String fileName = relativePath.getName();
-                VirtualFile file = extractFolder.getChild(Path.of(fileName));
-                if (file == null) {
-                    extractFolder.createFile(fileName, notClosableInputStream);
-                } else {
-                    if (overwrite) {
-                        file.updateContent(notClosableInputStream);
-                    } else {
+                    String fileName = relativePath.getName();
+                    VirtualFile file = extractFolder.getChild(Path.of(fileName));
+                    if (file != null && !overwrite) {
                         throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
                     }
+                    if (file == null) {
+                        created.add(relativePath);
+                    }
+
+                    if (writer != null) {
+                        byte[] head = readAtMost(entryContent, MAX_PARALLEL_ENTRY_SIZE + 1);
+                        if (head.length <= MAX_PARALLEL_ENTRY_SIZE) {
+                            writer.submit(extractFolder, fileName, file, head);
+                        } else {
+                            writer.checkFailed();
+                            writeEntry(extractFolder, fileName, file,
+                                       new SequenceInputStream(new ByteArrayInputStream(head), entryContent), entryContent);
+                        }
+                    } else {
+                        writeEntry(extractFolder, fileName, file, entryContent, entryContent);
+                    }
+                    zip.closeEntry();
+                }
+                if (writer != null) {
+                    writer.awaitAll();
+                    writer.checkFailed();
+                }
+            } catch (IOException e) {
+                if (entryContent.isRatioExceeded()) {
+                    if (writer != null) {
+                        writer.awaitAll();
+                    }
+                    deleteCreated(created);
+                }
+                throw e;
+            }
+        } finally {
+            if (writer != null) {
+                writer.awaitAll();
+            }
+        }
+    }
+
+    /** Creates folder with all missing parents and remembers the top-most folder that didn't exist before. */
+    private VirtualFile createFolder(Path relativePath, List<Path> created) throws ForbiddenException, ConflictException, ServerException {
+        Path topMissing = relativePath;
+        for (int i = 1; i < relativePath.length(); i++) {
+            final Path parent = relativePath.subPath(0, i);
+            if (!folder.hasChild(parent)) {
+                topMissing = parent;
+                break;
+            }
+        }
+        final VirtualFile newFolder = folder.createFolder(relativePath.toString());
+        created.add(topMissing);
+        return newFolder;
+    }
+
+    private void deleteCreated(List<Path> created) {
+        for (int i = created.size() - 1; i >= 0; i--) {
+            try {
+                final VirtualFile item = folder.getChild(created.get(i));
+                if (item != null) {
+                    item.delete();
+                }
+            } catch (ForbiddenException | ServerException e) {
+                LOG.warn("Unable remove {} after failed extraction of zip archive: {}", created.get(i), e.getMessage());
+            }
+        }
+    }
+
+    private static byte[] readAtMost(InputStream in, int limit) throws IOException {
+        return ByteStreams.toByteArray(ByteStreams.limit(in, limit));
+    }
+
+    private static void writeEntry(VirtualFile parent, String fileName, VirtualFile existing, InputStream content,
+                                   ZipRatioCheckingInputStream ratioChecker)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        try {
+            writeFile(parent, fileName, existing, content);
+        } catch (ServerException e) {
+            if (ratioChecker.isRatioExceeded()) {
+                throw new IOException("Zip bomb detected");
+            }
+            throw e;
+        }
+    }
+
+    private static void writeFile(VirtualFile parent, String fileName, VirtualFile existing, InputStream content)
+            throws ForbiddenException, ConflictException, ServerException {
+        if (existing == null) {
+            parent.createFile(fileName, content);
+        } else {
+            existing.updateContent(content);
+        }
+    }
+
+    /**
+     * Writes content of small zip entries with {@link #extractExecutor} while reading thread continues to inflate next entries.
+     * Number of entries that are held in memory is limited with {@link #MAX_PARALLEL_ENTRIES}. The first error stops extraction
+     * and is re-thrown in the reading thread.
+     */
+    private class ParallelWriter {
+        private final Semaphore       permits = new Semaphore(MAX_PARALLEL_ENTRIES);
+        private final List<Future<?>> tasks   = new LinkedList<>();
+        private volatile Exception    error;
+
+        void submit(VirtualFile parent, String fileName, VirtualFile existing, byte[] content)
+                throws ForbiddenException, ConflictException, ServerException {
+            checkFailed();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Extraction of zip archive was interrupted");
+            }
+            try {
+                tasks.add(extractExecutor.submit(() -> {
+                    try {
+                        if (error == null) {
+                            writeFile(parent, fileName, existing, new ByteArrayInputStream(content));
+                        }
+                    } catch (ForbiddenException | ConflictException | ServerException | RuntimeException e) {
+                        setError(e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                writeFile(parent, fileName, existing, new ByteArrayInputStream(content));
+            }
+            tasks.removeIf(Future::isDone);
+        }
+
+        void awaitAll() {
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    setError(new ServerException("Extraction of zip archive was interrupted"));
+                    break;
+                } catch (ExecutionException e) {
+                    setError(new ServerException(e.getCause().getMessage(), e.getCause()));
                 }
-                zip.closeEntry();
+            }
+            tasks.clear();
+        }
+
+        synchronized void setError(Exception e) {
+            if (error == null) {
+                error = e;
+            }
+        }
+
+        void checkFailed() throws ForbiddenException, ConflictException, ServerException {
+            final Exception e = error;
+            if (e instanceof ForbiddenException) {
+                throw (ForbiddenException)e;
+            } else if (e instanceof ConflictException) {
+                throw (ConflictException)e;
+            } else if (e instanceof ServerException) {
+                throw (ServerException)e;
+            } else if (e != null) {
+                throw new ServerException(e.getMessage(), e);
             }
         }
     }
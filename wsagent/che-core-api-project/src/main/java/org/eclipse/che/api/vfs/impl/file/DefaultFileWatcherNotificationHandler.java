@@ -31,6 +31,8 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
     private final VirtualFileSystemProvider             virtualFileSystemProvider;
     private final List<FileWatcherNotificationListener> fileWatcherNotificationListeners;
 
+    private volatile boolean started;
+
     @Inject
     public DefaultFileWatcherNotificationHandler(VirtualFileSystemProvider virtualFileSystemProvider) {
         this.virtualFileSystemProvider = virtualFileSystemProvider;
@@ -52,15 +54,27 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
 
     public void started(File watchRoot) {
         LOG.debug("Start watching file events on {}", watchRoot);
+        started = true;
+        for (FileWatcherNotificationListener virtualFileListener : fileWatcherNotificationListeners) {
+            virtualFileListener.onFileWatcherStarted();
+        }
     }
 
     public void errorOccurred(File watchRoot, Throwable cause) {
         LOG.warn("Error occurs while watching file events on {}: {}", watchRoot, cause.getMessage());
+        started = false;
+        for (FileWatcherNotificationListener virtualFileListener : fileWatcherNotificationListeners) {
+            virtualFileListener.onFileWatcherError(cause);
+        }
     }
 
     @Override
     public boolean addNotificationListener(FileWatcherNotificationListener fileWatcherNotificationListener) {
-        return fileWatcherNotificationListeners.add(fileWatcherNotificationListener);
+        final boolean added = fileWatcherNotificationListeners.add(fileWatcherNotificationListener);
+        if (added && started) {
+            fileWatcherNotificationListener.onFileWatcherStarted();
+        }
+        return added;
     }
 
     @Override
@@ -45,4 +45,15 @@ public abstract class FileWatcherNotificationListener {
     }
 
     public abstract void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType);
+
+    /**
+     * Called when file watcher is started or when listener is added to already started watcher. Listeners that keep state
+     * derived from file events may rely on events since this moment.
+     */
+    public void onFileWatcherStarted() {
+    }
+
+    /** Called when file watcher is stopped because of error. No events are delivered after that. */
+    public void onFileWatcherError(Throwable cause) {
+    }
 }
@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -35,6 +36,7 @@ import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
+import org.eclipse.che.api.vfs.util.PipedProducerInputStream;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.commons.lang.Pair;
@@ -56,7 +58,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
@@ -79,6 +85,12 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
     static final int MAX_BUFFER_SIZE = 200 * 1024; // 200k
 
+    /* Size of buffer between thread that creates archive and thread that reads it. */
+    private static final int ARCHIVE_PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private static final ExecutorService ARCHIVER_EXECUTOR =
+            Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("VfsArchiver-%d").setDaemon(true).build());
+
     private static final long WAIT_FOR_FILE_LOCK_TIMEOUT = 60000; // 60 seconds
     private static final int  FILE_LOCK_MAX_THREADS      = 1024;
 
@@ -136,6 +148,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    /* Folders that are currently populated from archive. Indexing of items inside them is done once extraction is completed. */
+    private final Set<Path> extractingFolders = ConcurrentHashMap.newKeySet();
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -614,8 +629,17 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber);
-            addInSearcher(parent);
+            final Path parentPath = parent.getPath();
+            final boolean added = extractingFolders.add(parentPath);
+            try {
+                extract(archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber);
+            } finally {
+                if (added) {
+                    extractingFolders.remove(parentPath);
+                }
+                // Index files extracted before failure as well
+                addInSearcher(parent);
+            }
         } else {
             throw new ForbiddenException(String.format("Unable import zip content. Item '%s' is not a folder", parent.getPath()));
         }
@@ -639,25 +663,32 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ServerException("VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber);
-            addInSearcher(parent);
+            final Path parentPath = parent.getPath();
+            final boolean added = extractingFolders.add(parentPath);
+            try {
+                extract(archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber);
+            } finally {
+                if (added) {
+                    extractingFolders.remove(parentPath);
+                }
+                // Index files extracted before failure as well
+                addInSearcher(parent);
+            }
         } else {
             throw new ForbiddenException(String.format("Unable import tar archive. Item '%s' is not a folder", parent.getPath()));
         }
     }
 
+    /*
+     * Archive is produced while it is read, so error of archiving can't be reported before the reader gets the stream. E.g. REST
+     * service that returns this stream has already sent response status 200 when error occurs, client only gets truncated archive.
+     */
     private InputStream compress(Archiver archiver) throws ForbiddenException, ServerException {
-        File archive = null;
         try {
-            archive = File.createTempFile("export", ".arc");
-            try (FileOutputStream fileOut = new FileOutputStream(archive)) {
-                archiver.compress(fileOut, dotGitFilter());
-            }
-            return new DeleteOnCloseFileInputStream(archive);
+            return PipedProducerInputStream.start(output -> archiver.compress(output, dotGitFilter()),
+                                                  ARCHIVE_PIPE_BUFFER_SIZE,
+                                                  ARCHIVER_EXECUTOR);
         } catch (IOException e) {
-            if (archive != null) {
-                FileCleaner.addFile(archive);
-            }
             throw new ServerException(e.getMessage(), e);
         }
     }
@@ -930,8 +961,20 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
+    private boolean isExtracting(Path path) {
+        if (extractingFolders.isEmpty()) {
+            return false;
+        }
+        for (Path extractingFolder : extractingFolders) {
+            if (path.equals(extractingFolder) || path.isChild(extractingFolder)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void addInSearcher(LocalVirtualFile newVirtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isExtracting(newVirtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).add(newVirtualFile);
             } catch (ServerException e) {
@@ -941,7 +984,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private void updateInSearcher(LocalVirtualFile virtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isExtracting(virtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).update(virtualFile);
             } catch (ServerException e) {
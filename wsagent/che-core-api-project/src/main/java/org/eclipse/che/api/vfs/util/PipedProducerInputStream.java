@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * InputStream which reads data that is written by {@link Producer} in background thread. Data is passed through bounded buffer,
+ * so producer never gets ahead of reader for more than size of buffer. Useful for streaming of archives to the client without
+ * spooling them in temporary files.
+ * <p/>
+ * If producer fails then reader gets IOException once all data that was written by producer before failure is read. Closing of
+ * this stream interrupts producer, and producer's write fails if reader doesn't consume any data during write timeout, so
+ * abandoned stream never holds producer thread forever.
+ */
+public final class PipedProducerInputStream extends PipedInputStream {
+    /** Default time that producer waits for reader to free space in the full buffer. */
+    public static final long DEFAULT_WRITE_TIMEOUT = 60000; // 60 seconds
+
+    /** Writes data in the pipe. */
+    public interface Producer {
+        void produce(OutputStream output) throws Exception;
+    }
+
+    /**
+     * Starts {@code producer} with {@code executor} and returns stream for reading data that it writes. Producer fails if reader
+     * doesn't consume data for {@link #DEFAULT_WRITE_TIMEOUT}.
+     *
+     * @param producer
+     *         producer of data
+     * @param bufferSize
+     *         size of buffer between producer and reader
+     * @param executor
+     *         executor to run producer
+     * @throws IOException
+     *         if producer can't be started
+     */
+    public static PipedProducerInputStream start(Producer producer, int bufferSize, Executor executor) throws IOException {
+        return start(producer, bufferSize, DEFAULT_WRITE_TIMEOUT, executor);
+    }
+
+    /**
+     * Starts {@code producer} with {@code executor} and returns stream for reading data that it writes.
+     *
+     * @param producer
+     *         producer of data
+     * @param bufferSize
+     *         size of buffer between producer and reader
+     * @param writeTimeout
+     *         max time in milliseconds that producer waits for reader to free space in the full buffer
+     * @param executor
+     *         executor to run producer
+     * @throws IOException
+     *         if producer can't be started
+     */
+    public static PipedProducerInputStream start(Producer producer, int bufferSize, long writeTimeout, Executor executor)
+            throws IOException {
+        final PipedProducerInputStream input = new PipedProducerInputStream(bufferSize, writeTimeout);
+        final PipedOutputStream pipe = new PipedOutputStream(input);
+        final OutputStream output = input.new ProducerOutputStream(pipe);
+        try {
+            executor.execute(() -> {
+                input.setProducerThread(Thread.currentThread());
+                try {
+                    if (!input.closed) {
+                        producer.produce(output);
+                    }
+                } catch (Exception e) {
+                    input.error = e;
+                } finally {
+                    input.setProducerThread(null);
+                    // Clear interruption caused by closing of this stream, thread may be reused by executor
+                    Thread.interrupted();
+                    try {
+                        pipe.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pipe.close();
+            throw new IOException("Unable start producer of content", e);
+        }
+        return input;
+    }
+
+    private final long   writeTimeout;
+    private final Object producerLock = new Object();
+
+    private volatile Exception error;
+    private volatile boolean   closed;
+    private          Thread    producerThread;
+
+    private PipedProducerInputStream(int bufferSize, long writeTimeout) {
+        super(bufferSize);
+        this.writeTimeout = writeTimeout;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        final int b = super.read();
+        if (b == -1) {
+            checkError();
+        }
+        return b;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        final int bytes = super.read(b, off, len);
+        if (bytes == -1) {
+            checkError();
+        }
+        return bytes;
+    }
+
+    /** Closes this stream and interrupts producer if it is still running. */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+        synchronized (producerLock) {
+            if (producerThread != null) {
+                producerThread.interrupt();
+            }
+        }
+    }
+
+    private void setProducerThread(Thread thread) {
+        synchronized (producerLock) {
+            producerThread = thread;
+        }
+    }
+
+    private void checkError() throws IOException {
+        final Exception e = error;
+        if (e != null) {
+            throw e instanceof IOException ? (IOException)e : new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Waits until buffer has free space and returns its size. Fails if reader is closed or doesn't consume any data during
+     * {@link #writeTimeout}.
+     */
+    private synchronized int awaitSpace() throws IOException {
+        final long deadline = System.currentTimeMillis() + writeTimeout;
+        while (in == out) {
+            if (closed) {
+                throw new IOException("Pipe closed");
+            }
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new IOException(String.format("Reader didn't consume data during %d ms", writeTimeout));
+            }
+            notifyAll();
+            try {
+                wait(Math.min(remaining, 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Producer was interrupted");
+            }
+        }
+        if (closed) {
+            throw new IOException("Pipe closed");
+        }
+        if (in < 0) {
+            return buffer.length;
+        }
+        return in < out ? out - in : buffer.length - in + out;
+    }
+
+    /** Writes to the pipe no more bytes than buffer can take, so write never blocks longer than {@link #writeTimeout}. */
+    private class ProducerOutputStream extends OutputStream {
+        private final PipedOutputStream pipe;
+
+        ProducerOutputStream(PipedOutputStream pipe) {
+            this.pipe = pipe;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            awaitSpace();
+            pipe.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                final int bytes = Math.min(len, awaitSpace());
+                pipe.write(b, off, bytes);
+                off += bytes;
+                len -= bytes;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            pipe.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            pipe.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Wrapper for {@link ZipInputStream} which checks compression ratio while uncompressed data is read. Makes possible to detect
+ * zip bomb in the same pass that extracts the archive instead of decompressing it twice.
+ * <p/>
+ * Usage:
+ * <pre>
+ *     CountingInputStream compressed = new CountingInputStream(in);
+ *     ZipInputStream zip = new ZipInputStream(compressed);
+ *     InputStream entryContent = new ZipRatioCheckingInputStream(zip, compressed);
+ * </pre>
+ */
+public final class ZipRatioCheckingInputStream extends FilterInputStream {
+    /** The threshold after that checking of ZIP ratio started. */
+    public static final long ZIP_THRESHOLD = 1000000;
+    /**
+     * Max compression ratio. If the number of bytes uncompressed data is exceed the number
+     * of bytes of compressed stream more than this ratio (and number of uncompressed data
+     * is more than threshold) then IOException is thrown.
+     */
+    public static final int  ZIP_RATIO     = 100;
+
+    private final CountingInputStream compressedDataCounter;
+
+    private long    uncompressedBytes;
+    private boolean ratioExceeded;
+
+    public ZipRatioCheckingInputStream(ZipInputStream zip, CountingInputStream compressedDataCounter) {
+        super(zip);
+        this.compressedDataCounter = compressedDataCounter;
+    }
+
+    /** Returns number of uncompressed bytes read through this stream so far. */
+    public long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) {
+            afterRead(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int bytes = super.read(b, off, len);
+        if (bytes > 0) {
+            afterRead(bytes);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = super.skip(n);
+        if (skipped > 0) {
+            afterRead(skipped);
+        }
+        return skipped;
+    }
+
+    /**
+     * Returns {@code true} if this stream detected zip bomb. Useful when IOException thrown by this stream is wrapped by the
+     * consumer of the stream.
+     */
+    public boolean isRatioExceeded() {
+        return ratioExceeded;
+    }
+
+    /** Does nothing. Closing of this stream must not close underlying {@code ZipInputStream}. */
+    @Override
+    public void close() throws IOException {
+    }
+
+    private void afterRead(long bytes) throws IOException {
+        uncompressedBytes += bytes;
+        if (uncompressedBytes > ZIP_THRESHOLD && uncompressedBytes > (ZIP_RATIO * compressedDataCounter.getByteCount())) {
+            ratioExceeded = true;
+            throw new IOException("Zip bomb detected");
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.core.rest.HttpJsonResponse;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
+import org.eclipse.che.api.core.util.PagingUtil;
 import org.eclipse.che.api.core.util.ValueHolder;
 import org.eclipse.che.api.project.server.handlers.CreateProjectHandler;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
@@ -35,6 +36,7 @@ import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
 import org.eclipse.che.api.project.server.type.ReadonlyValueProvider;
 import org.eclipse.che.api.project.server.type.ValueProviderFactory;
 import org.eclipse.che.api.project.server.type.ValueStorageException;
+import org.eclipse.che.api.project.shared.dto.CompactTree;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
@@ -79,6 +81,7 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.UriBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -113,6 +116,7 @@ import static javax.ws.rs.HttpMethod.POST;
 import static javax.ws.rs.HttpMethod.PUT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
+import static org.eclipse.che.api.project.shared.Constants.COMPACT_TREE_MEDIA_TYPE;
 import static org.eclipse.che.commons.lang.ws.rs.ExtMediaType.APPLICATION_ZIP;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -1463,6 +1467,58 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("test.txt"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetChildrenWithCompactLinks() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b");
+        a.createFile("test.txt", "test".getBytes());
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/children/my_project/a?compactLinks=true",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<ItemReference> result = (List<ItemReference>)response.getEntity();
+        assertEquals(result.size(), 2);
+        for (ItemReference item : result) {
+            Assert.assertTrue(item.getLinks().isEmpty());
+        }
+        Map<String, String> templates = PagingUtil.parseLinkHeader((String)response.getHttpHeaders().getFirst("Link"));
+        assertEquals(templates.get("children"), "http://localhost:8080/api/project/children/{path}");
+        assertEquals(templates.get("tree"), "http://localhost:8080/api/project/tree/{path}");
+        assertEquals(templates.get("get content"), "http://localhost:8080/api/project/file/{path}");
+        assertEquals(templates.get("delete"), "http://localhost:8080/api/project/{path}");
+    }
+
+    @Test
+    public void testItemLinksAreEncodedLikeUriBuilderDoes() throws Exception {
+        UriBuilder serviceUriBuilder = UriBuilder.fromUri("http://localhost:8080/api").path(ProjectService.class);
+        ItemLinkTemplates templates = new ItemLinkTemplates(serviceUriBuilder);
+        for (String path : Arrays.asList("my_project/a b/c.txt",
+                                         "my_project/100%/c.txt",
+                                         "my_project/a#b/c.txt",
+                                         "my_project/a?b/c.txt",
+                                         "my_project/a;b/c.txt",
+                                         "my_project/\u043f\u0430\u043f\u043a\u0430/\u0444\u0430\u0439\u043b.txt",
+                                         "my_project/\uD83D\uDE00.txt")) {
+            List<Link> fileLinks = templates.getFileLinks(path);
+            assertEquals(fileLinks.get(0).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "getFile").build(path).toString());
+            assertEquals(fileLinks.get(1).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "updateFile").build(path).toString());
+            assertEquals(fileLinks.get(2).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "delete").build(path).toString());
+
+            List<Link> folderLinks = templates.getFolderLinks(path);
+            assertEquals(folderLinks.get(0).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "getChildren").build(path).toString());
+            assertEquals(folderLinks.get(1).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "getTree").build(path).toString());
+            assertEquals(folderLinks.get(2).getHref(),
+                         serviceUriBuilder.clone().path(ProjectService.class, "delete").build(path).toString());
+        }
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGetItem() throws Exception {
@@ -1537,6 +1593,43 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("x"));
     }
 
+    @Test
+    public void testGetCompactTreeByParts() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x/y");
+        a.createFile("test.txt", "test".getBytes());
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Accept", singletonList(COMPACT_TREE_MEDIA_TYPE));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/tree/my_project/a?depth=2&includeFiles=true&maxItems=3",
+                                                      "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        CompactTree tree = DtoFactory.getInstance().createDtoFromJson((String)response.getEntity(), CompactTree.class);
+        assertEquals(tree.getPath(), "/my_project/a");
+        assertEquals(namesOf(tree), Arrays.asList("a", "b", "c"));
+        assertEquals(tree.getParents(), Arrays.asList(-1, 0, 1));
+        assertEquals(tree.getRepeated(), 0);
+        assertEquals(tree.getContinuation(), "b/c");
+
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/tree/my_project/a?depth=2&includeFiles=true&maxItems=3&continuation=b/c",
+                                    "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        tree = DtoFactory.getInstance().createDtoFromJson((String)response.getEntity(), CompactTree.class);
+        assertEquals(namesOf(tree), Arrays.asList("a", "b", "c", "test.txt", "x", "y"));
+        assertEquals(tree.getParents(), Arrays.asList(-1, 0, 1, 0, 0, 4));
+        assertEquals(tree.getRepeated(), 3);
+        assertEquals(tree.getTypes().get(tree.getTypeIndexes().get(3)), "file");
+        assertEquals(tree.getContentLengths().get(3), Long.valueOf(4));
+        Assert.assertNull(tree.getContinuation());
+    }
+
+    private List<String> namesOf(CompactTree tree) {
+        return tree.getNameIndexes().stream().map(tree.getNames()::get).collect(Collectors.toList());
+    }
+
     @Test
     public void testGetTreeWithDepth() throws Exception {
         RegisteredProject myProject = pm.getProject("my_project");
@@ -34,6 +34,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -105,6 +107,28 @@ public class ZipArchiverTest {
         assertThatZipArchiveContainsAllEntries(new ByteArrayInputStream(compressedFolder.toByteArray()), entries);
     }
 
+    @Test
+    public void storesAlreadyCompressedFilesWithoutCompression() throws Exception {
+        VirtualFile folder = vfsRoot.createFolder("arc");
+        byte[] content = new byte[64 * 1024];
+        folder.createFile("a.jar", content);
+        folder.createFile("a.txt", content);
+        ByteArrayOutputStream compressedFolder = new ByteArrayOutputStream();
+
+        new ZipArchiver(folder).compress(compressedFolder);
+
+        Map<String, Long> compressedSizes = newHashMap();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(compressedFolder.toByteArray()))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                ByteStreams.toByteArray(zip);
+                compressedSizes.put(zipEntry.getName(), zipEntry.getCompressedSize());
+            }
+        }
+        assertTrue(compressedSizes.get("a.jar") >= content.length);
+        assertTrue(compressedSizes.get("a.txt") < content.length);
+    }
+
     @Test
     public void extractsArchiveToFolder() throws Exception {
         byte[] archive = createTestZipArchive();
@@ -185,6 +209,129 @@ public class ZipArchiverTest {
         }
     }
 
+    @Test
+    public void extractsArchiveToFolderInParallel() throws Exception {
+        byte[] archive = createTestZipArchive();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(archive), false, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, String> entries = getFileTreeAsList(folder).stream()
+                                                               .collect(toMap(f -> getZipEntryName(folder, f),
+                                                                              this::readContentUnchecked));
+
+        assertEquals(readArchiveEntries(new ByteArrayInputStream(archive)), entries);
+    }
+
+    @Test
+    public void failsExtractArchiveInParallelWhenItContainsLockedFile() throws Exception {
+        byte[] archive = createTestZipArchive();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        VirtualFile arc = folder.createFolder("arc");
+        VirtualFile lockedFile = arc.createFolder("a").createFile("_a.txt", "xxx");
+        lockedFile.lock(0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(archive), true, 0);
+            thrown.expect(ForbiddenException.class);
+        } catch (ForbiddenException expected) {
+            assertEquals("xxx", lockedFile.getContentAsString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failsExtractArchiveWhenZipBombDetected() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("bomb.txt"));
+            zipOut.write(new byte[16 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage("Zip bomb detected");
+
+        new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+    }
+
+    @Test
+    public void removesExtractedItemsWhenZipBombDetected() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("arc/"));
+            zipOut.putNextEntry(new ZipEntry("arc/a/_a.txt"));
+            zipOut.write(TEST_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("arc/b/bomb.txt"));
+            zipOut.write(new byte[16 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        VirtualFile existedFile = folder.createFile("existed.txt", "xxx");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+            thrown.expect(IOException.class);
+        } catch (IOException expected) {
+            assertEquals("Zip bomb detected", expected.getMessage());
+            assertEquals(newArrayList(existedFile), folder.getChildren());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void extractsEntriesWithSameNameInOrderOfArchive() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            // ZipOutputStream rejects duplicated names, use equivalent paths instead
+            String prefix = "";
+            for (int i = 0; i < 10; i++) {
+                zipOut.putNextEntry(new ZipEntry(prefix + "arc/a.txt"));
+                zipOut.write(String.valueOf(i).getBytes());
+                prefix += "./";
+            }
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(byteOut.toByteArray()), true, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("9", folder.getChild(Path.of("arc/a.txt")).getContentAsString());
+    }
+
+    @Test
+    public void failsExtractArchiveInParallelWhenItContainsEntriesWithSameNameAndOverwritingIsDisabled() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("a.txt"));
+            zipOut.write(TEST_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("./a.txt"));
+            zipOut.write("xxx".getBytes());
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+            thrown.expect(ConflictException.class);
+        } catch (ConflictException expected) {
+            assertEquals(TEST_CONTENT, folder.getChild(Path.of("a.txt")).getContentAsString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private Map<String, String> readArchiveEntries(InputStream archive) throws Exception {
         Map<String, String> entries = newHashMap();
         try (ZipInputStream zip = new ZipInputStream(archive)) {
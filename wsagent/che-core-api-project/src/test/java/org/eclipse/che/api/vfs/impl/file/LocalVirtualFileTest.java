@@ -1394,7 +1394,9 @@ public class LocalVirtualFileTest {
         VirtualFile folder = getRoot().createFolder(generateFolderName());
         Archiver archiver = mock(Archiver.class);
         when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
-        folder.zip();
+        try (InputStream archive = folder.zip()) {
+            ByteStreams.toByteArray(archive);
+        }
         verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
     }
 
@@ -1430,7 +1432,9 @@ public class LocalVirtualFileTest {
         VirtualFile folder = getRoot().createFolder(generateFolderName());
         Archiver archiver = mock(Archiver.class);
         when(archiverFactory.createArchiver(eq(folder), eq("tar"))).thenReturn(archiver);
-        folder.tar();
+        try (InputStream archive = folder.tar()) {
+            ByteStreams.toByteArray(archive);
+        }
         verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
     }
 
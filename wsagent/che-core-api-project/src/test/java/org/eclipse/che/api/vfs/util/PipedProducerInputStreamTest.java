@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import com.google.common.io.ByteStreams;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PipedProducerInputStreamTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readsContentWrittenByProducer() throws Exception {
+        byte[] content = new byte[100 * 1024];
+        Arrays.fill(content, (byte)'a');
+
+        try (InputStream in = PipedProducerInputStream.start(output -> output.write(content), 1024, executor)) {
+            assertArrayEquals(content, ByteStreams.toByteArray(in));
+        }
+    }
+
+    @Test
+    public void failsReadWhenProducerFails() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage("producer failed");
+
+        try (InputStream in = PipedProducerInputStream.start(output -> {
+            output.write(new byte[10]);
+            throw new IOException("producer failed");
+        }, 1024, executor)) {
+            ByteStreams.toByteArray(in);
+        }
+    }
+
+    @Test
+    public void stopsProducerWhenReaderIsClosed() throws Exception {
+        CountDownLatch producerDone = new CountDownLatch(1);
+        AtomicReference<Exception> producerError = new AtomicReference<>();
+
+        InputStream in = PipedProducerInputStream.start(output -> writeEndlessly(output, producerDone, producerError),
+                                                        1024, TimeUnit.MINUTES.toMillis(10), executor);
+        in.read(new byte[100]);
+        in.close();
+
+        assertTrue(producerDone.await(5, TimeUnit.SECONDS));
+        assertTrue(producerError.get() instanceof IOException);
+    }
+
+    @Test
+    public void failsProducerWhenReaderDoesNotConsumeData() throws Exception {
+        CountDownLatch producerDone = new CountDownLatch(1);
+        AtomicReference<Exception> producerError = new AtomicReference<>();
+
+        try (InputStream ignored = PipedProducerInputStream.start(output -> writeEndlessly(output, producerDone, producerError),
+                                                                  1024, 100, executor)) {
+            assertTrue(producerDone.await(5, TimeUnit.SECONDS));
+            assertEquals("Reader didn't consume data during 100 ms", producerError.get().getMessage());
+        }
+    }
+
+    private static void writeEndlessly(OutputStream output, CountDownLatch done, AtomicReference<Exception> error) throws IOException {
+        try {
+            while (true) {
+                output.write(new byte[256]);
+            }
+        } catch (IOException e) {
+            error.set(e);
+            throw e;
+        } finally {
+            done.countDown();
+        }
+    }
+}
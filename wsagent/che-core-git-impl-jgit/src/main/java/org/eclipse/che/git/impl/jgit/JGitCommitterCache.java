@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.git.shared.GitUser;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Keeps distinct committers of the history of repositories.
+ * <p/>
+ * Committers are remembered together with HEAD they were collected for. When HEAD moves forward only new commits are walked,
+ * full history is walked again only if HEAD is moved to commit which doesn't descend from the remembered one.
+ */
+class JGitCommitterCache {
+    private final Cache<File, Committers> committers;
+
+    JGitCommitterCache() {
+        committers = CacheBuilder.newBuilder().expireAfterAccess(10, TimeUnit.MINUTES).build();
+    }
+
+    /**
+     * Returns distinct committers of commits reachable from HEAD of the {@code repository}, the most recent committers
+     * go first.
+     */
+    List<GitUser> getCommitters(Repository repository) throws IOException {
+        final ObjectId head = repository.resolve(Constants.HEAD);
+        if (head == null) {
+            return new ArrayList<>();
+        }
+        final File key = repository.getDirectory().getAbsoluteFile();
+        Committers cached = committers.getIfPresent(key);
+        if (cached == null || !cached.head.equals(head)) {
+            cached = collect(repository, head, cached);
+            committers.put(key, cached);
+        }
+        final List<GitUser> result = new ArrayList<>(cached.users.size());
+        for (Pair<String, String> user : cached.users) {
+            result.add(newDto(GitUser.class).withName(user.first).withEmail(user.second));
+        }
+        return result;
+    }
+
+    private static Committers collect(Repository repository, ObjectId head, Committers previous) throws IOException {
+        final Set<Pair<String, String>> users = new LinkedHashSet<>();
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            final RevCommit headCommit = revWalk.parseCommit(head);
+            final boolean incremental = previous != null && isAncestor(revWalk, previous.head, headCommit);
+            revWalk.markStart(headCommit);
+            if (incremental) {
+                revWalk.markUninteresting(revWalk.parseCommit(previous.head));
+            }
+            for (RevCommit commit : revWalk) {
+                final PersonIdent committerIdentity = commit.getCommitterIdent();
+                users.add(Pair.of(committerIdentity.getName(), committerIdentity.getEmailAddress()));
+            }
+            if (incremental) {
+                users.addAll(previous.users);
+            }
+        }
+        return new Committers(head.copy(), Collections.unmodifiableSet(users));
+    }
+
+    private static boolean isAncestor(RevWalk revWalk, ObjectId ancestor, RevCommit commit) throws IOException {
+        try {
+            final boolean merged = revWalk.isMergedInto(revWalk.parseCommit(ancestor), commit);
+            revWalk.reset();
+            return merged;
+        } catch (MissingObjectException e) {
+            // remembered HEAD was removed, e.g. by gc after rebase
+            revWalk.reset();
+            return false;
+        }
+    }
+
+    private static class Committers {
+        final ObjectId                  head;
+        final Set<Pair<String, String>> users;
+
+        Committers(ObjectId head, Set<Pair<String, String>> users) {
+            this.head = head;
+            this.users = users;
+        }
+    }
+}
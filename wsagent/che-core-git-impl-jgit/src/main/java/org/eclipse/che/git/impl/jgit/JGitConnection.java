@@ -85,7 +85,6 @@ import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ListBranchCommand;
 import org.eclipse.jgit.api.ListBranchCommand.ListMode;
-import org.eclipse.jgit.api.LogCommand;
 import org.eclipse.jgit.api.LsRemoteCommand;
 import org.eclipse.jgit.api.PushCommand;
 import org.eclipse.jgit.api.RebaseCommand;
@@ -120,6 +119,11 @@ import org.eclipse.jgit.revwalk.RevObject;
 import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.eclipse.jgit.revwalk.filter.AuthorRevFilter;
+import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.eclipse.jgit.revwalk.filter.SkipRevFilter;
 import org.eclipse.jgit.transport.FetchResult;
 import org.eclipse.jgit.transport.JschConfigSessionFactory;
 import org.eclipse.jgit.transport.OpenSshConfig;
@@ -134,7 +138,10 @@ import org.eclipse.jgit.transport.Transport;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.FileUtils;
 import org.slf4j.Logger;
@@ -234,11 +241,15 @@ class JGitConnection implements GitConnection {
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
     private final Repository        repository;
+    private final JGitStatusCache   statusCache;
+    private final JGitCommitterCache committerCache;
 
     @Inject
     JGitConnection(Repository repository, CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider,
-                   GitUserResolver userResolver) {
+                   GitUserResolver userResolver, JGitStatusCache statusCache, JGitCommitterCache committerCache) {
         this.repository = repository;
+        this.statusCache = statusCache;
+        this.committerCache = committerCache;
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
@@ -525,7 +536,8 @@ class JGitConnection implements GitConnection {
             Status status = status(StatusFormat.SHORT);
             if (!request.isAll() && status.getAdded().isEmpty() && status.getChanged().isEmpty() && status.getRemoved().isEmpty()) {
                 throw new GitException("No changes added to commit");
-            } else if (request.isAll() && status.isClean()) {
+            } else if (request.isAll() && status.isClean() && JGitStatusCache.computeFullStatus(repository).isClean()) {
+                // cached status may not include the latest changes of working tree yet, so make sure with full status
                 throw new GitException("Nothing to commit, working directory clean");
             }
 
@@ -695,17 +707,18 @@ class JGitConnection implements GitConnection {
 
     @Override
     public LogPage log(LogRequest request) throws GitException {
-        LogCommand logCommand = getGit().log();
-        try {
-            setRevisionRange(logCommand, request);
-
-            request.getFileFilter().forEach(logCommand::addPath);
-
-            Iterator<RevCommit> revIterator = logCommand.call().iterator();
-            List<Revision> commits = new ArrayList<>();
-
-            while (revIterator.hasNext()) {
-                RevCommit commit = revIterator.next();
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            markRevisionRange(revWalk, request);
+            if (!request.getFileFilter().isEmpty()) {
+                revWalk.setTreeFilter(AndTreeFilter.create(PathFilterGroup.createFromStrings(request.getFileFilter()),
+                                                           TreeFilter.ANY_DIFF));
+            }
+            revWalk.setRevFilter(createLogFilter(request));
+
+            // filters are evaluated during the walk, so only requested page of history is read
+            final int maxCount = request.getMaxCount();
+            final List<Revision> commits = new ArrayList<>();
+            for (RevCommit commit : revWalk) {
                 PersonIdent committerIdentity = commit.getCommitterIdent();
 
                 GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
@@ -716,47 +729,59 @@ class JGitConnection implements GitConnection {
                                                           .withCommitTime(MILLISECONDS.convert(commit.getCommitTime(), SECONDS))
                                                           .withCommitter(gitUser);
                 commits.add(revision);
+                if (maxCount > 0 && commits.size() == maxCount) {
+                    break;
+                }
             }
             return new LogPage(commits);
-        } catch (GitAPIException | IOException exception) {
-            String errorMessage = exception.getMessage();
-            if (ERROR_LOG_NO_HEAD_EXISTS.equals(errorMessage)) {
-                throw new GitException(errorMessage, ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
-            }
-            throw new GitException(errorMessage, exception);
+        } catch (IOException exception) {
+            throw new GitException(exception.getMessage(), exception);
         }
     }
 
-    private void setRevisionRange(LogCommand logCommand, LogRequest request) throws IOException {
-        if (request != null) {
-            String revisionRangeSince = request.getRevisionRangeSince();
-            String revisionRangeUntil = request.getRevisionRangeUntil();
-            if (revisionRangeSince != null && revisionRangeUntil != null) {
-                ObjectId since = repository.resolve(revisionRangeSince);
-                ObjectId until = repository.resolve(revisionRangeUntil);
-                logCommand.addRange(since, until);
+    private void markRevisionRange(RevWalk revWalk, LogRequest request) throws IOException, GitException {
+        String revisionRangeSince = request.getRevisionRangeSince();
+        String revisionRangeUntil = request.getRevisionRangeUntil();
+        if (revisionRangeSince != null && revisionRangeUntil != null) {
+            revWalk.markStart(revWalk.parseCommit(repository.resolve(revisionRangeUntil)));
+            revWalk.markUninteresting(revWalk.parseCommit(repository.resolve(revisionRangeSince)));
+        } else {
+            ObjectId head = repository.resolve(Constants.HEAD);
+            if (head == null) {
+                throw new GitException(ERROR_LOG_NO_HEAD_EXISTS, ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
             }
+            revWalk.markStart(revWalk.parseCommit(head));
         }
     }
 
+    private RevFilter createLogFilter(LogRequest request) {
+        List<RevFilter> filters = new ArrayList<>();
+        if (!isNullOrEmpty(request.getAuthorFilter())) {
+            filters.add(AuthorRevFilter.create(request.getAuthorFilter()));
+        }
+        if (request.getSinceTime() > 0) {
+            filters.add(CommitTimeRevFilter.after(request.getSinceTime()));
+        }
+        if (request.getUntilTime() > 0) {
+            filters.add(CommitTimeRevFilter.before(request.getUntilTime()));
+        }
+        // skip must be the last filter, it counts only commits accepted by other filters
+        if (request.getSkip() > 0) {
+            filters.add(SkipRevFilter.create(request.getSkip()));
+        }
+        if (filters.isEmpty()) {
+            return RevFilter.ALL;
+        }
+        return filters.size() == 1 ? filters.get(0) : AndRevFilter.create(filters.toArray(new RevFilter[filters.size()]));
+    }
+
     @Override
     public List<GitUser> getCommiters() throws GitException {
-        List<GitUser> gitUsers = new ArrayList<>();
         try {
-            LogCommand logCommand = getGit().log();
-            for (RevCommit commit : logCommand.call()) {
-                PersonIdent committerIdentity = commit.getCommitterIdent();
-                GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
-                                                       .withEmail(committerIdentity.getEmailAddress());
-                if (!gitUsers.contains(gitUser)) {
-                    gitUsers.add(gitUser);
-                }
-            }
-        } catch (GitAPIException exception) {
+            return committerCache.getCommitters(repository);
+        } catch (IOException exception) {
             throw new GitException(exception.getMessage(), exception);
         }
-
-        return gitUsers;
     }
 
     @Override
@@ -1351,7 +1376,7 @@ class JGitConnection implements GitConnection {
             throw new GitException("Not a git repository");
         }
         String branchName = getCurrentBranch();
-        return new JGitStatusImpl(branchName, getGit().status(), format);
+        return new JGitStatusImpl(branchName, statusCache.getStatus(repository), format);
     }
 
     @Override
@@ -16,11 +16,12 @@ import org.eclipse.che.api.git.CredentialsLoader;
 import org.eclipse.che.api.git.GitConnectionFactory;
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
 import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
-import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.Repository;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -42,11 +43,29 @@ public class JGitConnectionFactory extends GitConnectionFactory {
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
 
-    @Inject
+    private final JGitRepositoryCache repositoryCache = new JGitRepositoryCache();
+    private final JGitStatusCache     statusCache     = new JGitStatusCache();
+    private final JGitCommitterCache  committerCache  = new JGitCommitterCache();
+
     public JGitConnectionFactory(CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider, GitUserResolver userResolver) throws GitException {
+        this(credentialsLoader, sshKeyProvider, userResolver, null);
+    }
+
+    /**
+     * Creates factory which connections compute status incrementally using events of {@code fileWatcherNotificationHandler}.
+     * Without file watcher full status is computed on every request.
+     */
+    @Inject
+    public JGitConnectionFactory(CredentialsLoader credentialsLoader,
+                                 SshKeyProvider sshKeyProvider,
+                                 GitUserResolver userResolver,
+                                 FileWatcherNotificationHandler fileWatcherNotificationHandler) throws GitException {
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        if (fileWatcherNotificationHandler != null) {
+            fileWatcherNotificationHandler.addNotificationListener(statusCache.createFileWatcherListener());
+        }
 
         // Install the all-trusting trust manager
         try {
@@ -75,19 +94,24 @@ public class JGitConnectionFactory extends GitConnectionFactory {
     @Override
     public JGitConnection getConnection(File workDir, LineConsumerFactory outputPublisherFactory) throws GitException {
         Repository gitRepo = createRepository(workDir);
-        JGitConnection conn = new JGitConnection(gitRepo, credentialsLoader, sshKeyProvider, userResolver);
+        JGitConnection conn = new JGitConnection(gitRepo, credentialsLoader, sshKeyProvider, userResolver, statusCache, committerCache);
         conn.setOutputLineConsumerFactory(outputPublisherFactory);
         return conn;
     }
 
-    private static Repository createRepository(File workDir) throws GitException {
+    private Repository createRepository(File workDir) throws GitException {
         try {
-            return new FileRepository(new File(workDir, Constants.DOT_GIT));
+            return repositoryCache.open(new File(workDir, Constants.DOT_GIT));
         } catch (IOException e) {
             throw new GitException(e.getMessage(), e);
         }
     }
 
+    @PreDestroy
+    public void closeRepositories() {
+        repositoryCache.close();
+    }
+
     @Override
     public CredentialsLoader getCredentialsLoader() {
         return credentialsLoader;
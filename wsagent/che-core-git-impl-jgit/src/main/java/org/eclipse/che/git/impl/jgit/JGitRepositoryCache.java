@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps opened repositories, so connections to the same repository share one {@link Repository} instance together with its
+ * configuration, refs and opened pack files instead of reading them again for every request.
+ * <p/>
+ * Reference counting is delegated to {@link Repository} itself: cache holds one reference to each repository and every
+ * repository returned by {@link #open(File)} must be closed by caller once. Repository that is removed from the cache is
+ * actually closed after the last caller closes it.
+ * <p/>
+ * Repository is removed from the cache when it isn't opened during {@link #IDLE_TIMEOUT_MS} or when its git directory is
+ * removed or replaced, e.g. after failed clone or removal of project. Repositories which git directory doesn't exist yet
+ * aren't cached.
+ */
+class JGitRepositoryCache {
+    static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final Map<File, CachedRepository> repositories;
+    private final ScheduledExecutorService    cleaner;
+
+    JGitRepositoryCache() {
+        repositories = new HashMap<>();
+        cleaner = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("JGitRepositoryCleaner-%d")
+                                                                                       .setDaemon(true)
+                                                                                       .build());
+        cleaner.scheduleWithFixedDelay(() -> evictIdle(System.currentTimeMillis()), 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Returns repository which git directory is {@code gitDir}. Returned repository must be closed by caller.
+     *
+     * @throws IOException
+     *         if repository can't be opened
+     */
+    Repository open(File gitDir) throws IOException {
+        final File key = gitDir.getCanonicalFile();
+        final Object identity = getIdentity(key);
+        synchronized (repositories) {
+            CachedRepository cached = repositories.get(key);
+            if (cached != null && !cached.identity.equals(identity)) {
+                repositories.remove(key);
+                cached.repository.close();
+                cached = null;
+            }
+            if (identity == null) {
+                return new FileRepository(gitDir);
+            }
+            if (cached == null) {
+                cached = new CachedRepository(new FileRepository(key), identity);
+                repositories.put(key, cached);
+            }
+            cached.lastUsed = System.currentTimeMillis();
+            cached.repository.incrementOpen();
+            return cached.repository;
+        }
+    }
+
+    /**
+     * Stops eviction of idle repositories and closes references held by cache. Repositories which are still used by callers
+     * are closed once callers close them.
+     */
+    void close() {
+        cleaner.shutdownNow();
+        synchronized (repositories) {
+            repositories.values().forEach(cached -> cached.repository.close());
+            repositories.clear();
+        }
+    }
+
+    @VisibleForTesting
+    int size() {
+        synchronized (repositories) {
+            return repositories.size();
+        }
+    }
+
+    @VisibleForTesting
+    void evictIdle(long now) {
+        synchronized (repositories) {
+            for (Iterator<CachedRepository> it = repositories.values().iterator(); it.hasNext(); ) {
+                final CachedRepository cached = it.next();
+                if (now - cached.lastUsed > IDLE_TIMEOUT_MS) {
+                    it.remove();
+                    cached.repository.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns object that identifies physical git directory, so directory which was removed and created again isn't
+     * confused with the old one. Returns {@code null} if directory doesn't exist.
+     */
+    private static Object getIdentity(File gitDir) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(gitDir.toPath(), BasicFileAttributes.class);
+            if (!attributes.isDirectory()) {
+                return null;
+            }
+            // file key isn't available on some platforms, creation time is used there
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static class CachedRepository {
+        final Repository repository;
+        final Object     identity;
+
+        long lastUsed;
+
+        CachedRepository(Repository repository, Object identity) {
+            this.repository = repository;
+            this.identity = identity;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the last computed status of repositories and updates it incrementally.
+ * <p/>
+ * Full status compares whole working tree with index and HEAD. After that only paths reported by file watcher are examined
+ * again. Index, HEAD and repository state are checked on every request, any change of them causes full scan, so staged
+ * changes are always exact. Full scan is also done when directories, {@code .gitignore} or {@code .gitattributes} files are
+ * changed, when too many paths are changed at once and while file watcher isn't running.
+ * <p/>
+ * Note that file watcher delivers events with small delay, so changes of working tree made just before the status request
+ * may be not visible in it yet.
+ */
+class JGitStatusCache {
+    /** When more paths are changed since the last status then full scan is cheaper than filtering by paths. */
+    static final int MAX_CHANGED_PATHS = 256;
+
+    private final Cache<File, RepositoryStatus> statuses;
+
+    private volatile boolean watching;
+
+    JGitStatusCache() {
+        statuses = CacheBuilder.newBuilder().expireAfterAccess(10, TimeUnit.MINUTES).build();
+    }
+
+    /** Returns listener that must be registered in file watcher to keep statuses up to date. */
+    FileWatcherNotificationListener createFileWatcherListener() {
+        return new FileWatcherNotificationListener(VirtualFileFilter.ACCEPT_ALL) {
+            @Override
+            public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                onFileChanged(virtualFile.toIoFile(), virtualFile.isFolder());
+            }
+
+            @Override
+            public void onFileWatcherStarted() {
+                statuses.invalidateAll();
+                watching = true;
+            }
+
+            @Override
+            public void onFileWatcherError(Throwable cause) {
+                watching = false;
+                statuses.invalidateAll();
+            }
+        };
+    }
+
+    /**
+     * Returns status of the {@code repository}.
+     *
+     * @throws GitException
+     *         if status can't be computed
+     */
+    StatusSnapshot getStatus(Repository repository) throws GitException {
+        if (!watching) {
+            return computeFullStatus(repository);
+        }
+        final File workTree = toCanonicalFile(repository.getWorkTree());
+        return statuses.asMap()
+                       .computeIfAbsent(workTree, RepositoryStatus::new)
+                       .get(repository);
+    }
+
+    @VisibleForTesting
+    void onFileChanged(File file, boolean isDirectory) {
+        final String path = file.getPath();
+        for (RepositoryStatus status : statuses.asMap().values()) {
+            status.onFileChanged(path, isDirectory);
+        }
+    }
+
+    @VisibleForTesting
+    void setWatching(boolean watching) {
+        this.watching = watching;
+    }
+
+    static StatusSnapshot computeFullStatus(Repository repository) throws GitException {
+        return new StatusSnapshot(call(new Git(repository).status()));
+    }
+
+    private static org.eclipse.jgit.api.Status call(StatusCommand statusCommand) throws GitException {
+        try {
+            return statusCommand.call();
+        } catch (GitAPIException exception) {
+            throw new GitException(exception.getMessage(), exception);
+        }
+    }
+
+    private static File toCanonicalFile(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    private static class RepositoryStatus {
+        final String      workTreePrefix;
+        final String      gitDirPath;
+        final Set<String> changedPaths;
+
+        volatile boolean fullScanRequired;
+
+        StatusSnapshot status;
+        List<Object>   indexState;
+
+        RepositoryStatus(File workTree) {
+            this.workTreePrefix = workTree.getPath() + File.separatorChar;
+            this.gitDirPath = workTreePrefix + Constants.DOT_GIT;
+            this.changedPaths = ConcurrentHashMap.newKeySet();
+        }
+
+        void onFileChanged(String path, boolean isDirectory) {
+            if (!path.startsWith(workTreePrefix)) {
+                return;
+            }
+            if (path.equals(gitDirPath) || path.startsWith(gitDirPath + File.separatorChar)) {
+                // changes of repository metadata are detected by the index state
+                return;
+            }
+            final String relativePath = path.substring(workTreePrefix.length()).replace(File.separatorChar, '/');
+            if (isDirectory
+                || relativePath.endsWith(Constants.DOT_GIT_IGNORE)
+                || relativePath.endsWith(Constants.DOT_GIT_ATTRIBUTES)
+                || changedPaths.size() >= MAX_CHANGED_PATHS) {
+                fullScanRequired = true;
+            } else {
+                changedPaths.add(relativePath);
+            }
+        }
+
+        synchronized StatusSnapshot get(Repository repository) throws GitException {
+            final List<Object> currentIndexState = readIndexState(repository);
+            if (status == null || fullScanRequired || !currentIndexState.equals(indexState)) {
+                fullScanRequired = false;
+                changedPaths.clear();
+                status = computeFullStatus(repository);
+                indexState = currentIndexState;
+                return status;
+            }
+            if (changedPaths.isEmpty()) {
+                return status;
+            }
+
+            final List<String> paths = new ArrayList<>(changedPaths);
+            changedPaths.removeAll(paths);
+            for (String path : paths) {
+                for (String untrackedFolder : status.untrackedFolders) {
+                    if (path.startsWith(untrackedFolder + '/')) {
+                        // content of untracked folders isn't reported by status filtered by path
+                        status = computeFullStatus(repository);
+                        return status;
+                    }
+                }
+            }
+            final StatusCommand statusCommand = new Git(repository).status();
+            paths.forEach(statusCommand::addPath);
+            status = status.update(paths, call(statusCommand));
+            return status;
+        }
+
+        private static List<Object> readIndexState(Repository repository) throws GitException {
+            try {
+                Object indexModified = null;
+                Object indexSize = null;
+                try {
+                    final BasicFileAttributes attributes = Files.readAttributes(repository.getIndexFile().toPath(),
+                                                                                BasicFileAttributes.class);
+                    indexModified = attributes.lastModifiedTime();
+                    indexSize = attributes.size();
+                } catch (NoSuchFileException ignored) {
+                }
+                return Arrays.asList(indexModified,
+                                     indexSize,
+                                     repository.resolve(Constants.HEAD),
+                                     repository.getFullBranch(),
+                                     repository.getRepositoryState());
+            } catch (IOException e) {
+                throw new GitException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /** Immutable status of the repository. */
+    static class StatusSnapshot {
+        final Set<String> added;
+        final Set<String> changed;
+        final Set<String> removed;
+        final Set<String> missing;
+        final Set<String> modified;
+        final Set<String> untracked;
+        final Set<String> untrackedFolders;
+        final Set<String> conflicting;
+
+        StatusSnapshot(org.eclipse.jgit.api.Status status) {
+            this(status.getAdded(),
+                 status.getChanged(),
+                 status.getRemoved(),
+                 status.getMissing(),
+                 status.getModified(),
+                 status.getUntracked(),
+                 status.getUntrackedFolders(),
+                 status.getConflicting());
+        }
+
+        private StatusSnapshot(Set<String> added,
+                               Set<String> changed,
+                               Set<String> removed,
+                               Set<String> missing,
+                               Set<String> modified,
+                               Set<String> untracked,
+                               Set<String> untrackedFolders,
+                               Set<String> conflicting) {
+            this.added = Collections.unmodifiableSet(added);
+            this.changed = Collections.unmodifiableSet(changed);
+            this.removed = Collections.unmodifiableSet(removed);
+            this.missing = Collections.unmodifiableSet(missing);
+            this.modified = Collections.unmodifiableSet(modified);
+            this.untracked = Collections.unmodifiableSet(untracked);
+            this.untrackedFolders = Collections.unmodifiableSet(untrackedFolders);
+            this.conflicting = Collections.unmodifiableSet(conflicting);
+        }
+
+        /** Returns {@code true} if there is nothing to commit, the same as {@link org.eclipse.jgit.api.Status#isClean()}. */
+        boolean isClean() {
+            return added.isEmpty()
+                   && changed.isEmpty()
+                   && removed.isEmpty()
+                   && missing.isEmpty()
+                   && modified.isEmpty()
+                   && untracked.isEmpty()
+                   && conflicting.isEmpty();
+        }
+
+        /**
+         * Returns status in which state of {@code paths} is replaced with {@code pathsStatus}. Untracked folders are kept as
+         * is, since status filtered by paths doesn't report them properly.
+         */
+        StatusSnapshot update(Collection<String> paths, org.eclipse.jgit.api.Status pathsStatus) {
+            return new StatusSnapshot(replace(added, paths, pathsStatus.getAdded()),
+                                      replace(changed, paths, pathsStatus.getChanged()),
+                                      replace(removed, paths, pathsStatus.getRemoved()),
+                                      replace(missing, paths, pathsStatus.getMissing()),
+                                      replace(modified, paths, pathsStatus.getModified()),
+                                      replace(untracked, paths, pathsStatus.getUntracked()),
+                                      new HashSet<>(untrackedFolders),
+                                      replace(conflicting, paths, pathsStatus.getConflicting()));
+        }
+
+        private static Set<String> replace(Set<String> current, Collection<String> paths, Set<String> pathsStatus) {
+            final Set<String> result = new HashSet<>(current);
+            result.removeAll(paths);
+            result.addAll(pathsStatus);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatusSnapshot)) {
+                return false;
+            }
+            final StatusSnapshot other = (StatusSnapshot)obj;
+            return added.equals(other.added)
+                   && changed.equals(other.changed)
+                   && removed.equals(other.removed)
+                   && missing.equals(other.missing)
+                   && modified.equals(other.modified)
+                   && untracked.equals(other.untracked)
+                   && untrackedFolders.equals(other.untrackedFolders)
+                   && conflicting.equals(other.conflicting);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(added, changed, removed, missing, modified, untracked, untrackedFolders, conflicting);
+        }
+
+        @Override
+        public String toString() {
+            return "StatusSnapshot{added=" + added +
+                   ", changed=" + changed +
+                   ", removed=" + removed +
+                   ", missing=" + missing +
+                   ", modified=" + modified +
+                   ", untracked=" + untracked +
+                   ", untrackedFolders=" + untrackedFolders +
+                   ", conflicting=" + conflicting +
+                   '}';
+        }
+    }
+}
@@ -56,25 +56,38 @@ public class JGitStatusImpl implements Status, InfoPage {
      *         when any error occurs
      */
     public JGitStatusImpl(String branchName, StatusCommand statusCommand, StatusFormat format) throws GitException {
+        this(branchName, new JGitStatusCache.StatusSnapshot(call(statusCommand)), format);
+    }
+
+    /**
+     * @param branchName
+     *         current repository branch name
+     * @param gitStatus
+     *         status of the repository
+     * @param format
+     *         the output format for the status
+     */
+    JGitStatusImpl(String branchName, JGitStatusCache.StatusSnapshot gitStatus, StatusFormat format) {
         this.branchName = branchName;
         this.format = format;
 
-        org.eclipse.jgit.api.Status gitStatus;
+        clean = gitStatus.isClean();
+        added = new ArrayList<>(gitStatus.added);
+        changed = new ArrayList<>(gitStatus.changed);
+        removed = new ArrayList<>(gitStatus.removed);
+        missing = new ArrayList<>(gitStatus.missing);
+        modified = new ArrayList<>(gitStatus.modified);
+        untracked = new ArrayList<>(gitStatus.untracked);
+        untrackedFolders = new ArrayList<>(gitStatus.untrackedFolders);
+        conflicting = new ArrayList<>(gitStatus.conflicting);
+    }
+
+    private static org.eclipse.jgit.api.Status call(StatusCommand statusCommand) throws GitException {
         try {
-            gitStatus = statusCommand.call();
+            return statusCommand.call();
         } catch (GitAPIException exception) {
             throw new GitException(exception.getMessage(), exception);
         }
-
-        clean = gitStatus.isClean();
-        added = new ArrayList<>(gitStatus.getAdded());
-        changed = new ArrayList<>(gitStatus.getChanged());
-        removed = new ArrayList<>(gitStatus.getRemoved());
-        missing = new ArrayList<>(gitStatus.getMissing());
-        modified = new ArrayList<>(gitStatus.getModified());
-        untracked = new ArrayList<>(gitStatus.getUntracked());
-        untrackedFolders = new ArrayList<>(gitStatus.getUntrackedFolders());
-        conflicting = new ArrayList<>(gitStatus.getConflicting());
     }
 
     @Override
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.shared.GitUser;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JGitCommitterCache}.
+ */
+public class JGitCommitterCacheTest {
+
+    private File               workDir;
+    private Git                git;
+    private Repository         repository;
+    private JGitCommitterCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("repository").toFile();
+        git = Git.init().setDirectory(workDir).call();
+        repository = git.getRepository();
+        cache = new JGitCommitterCache();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        repository.close();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void shouldReturnEmptyListWhenThereAreNoCommits() throws Exception {
+        assertTrue(cache.getCommitters(repository).isEmpty());
+    }
+
+    @Test
+    public void shouldAddCommittersOfNewCommits() throws Exception {
+        commit("first", "first@mail.com");
+        commit("second", "second@mail.com");
+        assertEquals(names(cache.getCommitters(repository)), "second,first");
+
+        commit("third", "third@mail.com");
+        commit("first", "first@mail.com");
+
+        assertEquals(names(cache.getCommitters(repository)), "first,third,second");
+    }
+
+    @Test
+    public void shouldCollectCommittersAgainWhenHeadIsMovedBack() throws Exception {
+        commit("first", "first@mail.com");
+        commit("second", "second@mail.com");
+        assertEquals(names(cache.getCommitters(repository)), "second,first");
+
+        git.reset().setMode(ResetCommand.ResetType.HARD).setRef("HEAD~1").call();
+
+        assertEquals(names(cache.getCommitters(repository)), "first");
+    }
+
+    private void commit(String name, String email) throws Exception {
+        Files.write(new File(workDir, "README").toPath(), (name + System.nanoTime()).getBytes(UTF_8));
+        git.add().addFilepattern("README").call();
+        git.commit().setMessage("change by " + name).setAuthor(name, email).setCommitter(name, email).call();
+    }
+
+    private static String names(List<GitUser> users) {
+        final StringBuilder names = new StringBuilder();
+        for (GitUser user : users) {
+            if (names.length() > 0) {
+                names.append(',');
+            }
+            names.append(user.getName());
+        }
+        return names.toString();
+    }
+}
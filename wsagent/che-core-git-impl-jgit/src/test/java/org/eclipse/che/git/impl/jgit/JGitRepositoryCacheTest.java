@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for {@link JGitRepositoryCache}.
+ */
+public class JGitRepositoryCacheTest {
+
+    private File                workDir;
+    private File                gitDir;
+    private JGitRepositoryCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("repository").toFile();
+        gitDir = new File(workDir, Constants.DOT_GIT);
+        cache = new JGitRepositoryCache();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        cache.close();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void shouldShareRepositoryBetweenCallers() throws Exception {
+        createRepository();
+
+        final Repository first = cache.open(gitDir);
+        final Repository second = cache.open(gitDir);
+        first.close();
+        second.close();
+
+        assertSame(second, first);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void shouldNotCacheRepositoryWhichGitDirectoryDoesNotExist() throws Exception {
+        final Repository first = cache.open(gitDir);
+        final Repository second = cache.open(gitDir);
+        first.close();
+        second.close();
+
+        assertNotSame(second, first);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void shouldRemoveRepositoryWhenGitDirectoryIsRemoved() throws Exception {
+        createRepository();
+        cache.open(gitDir).close();
+
+        IoUtil.deleteRecursive(gitDir);
+        cache.open(gitDir).close();
+
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void shouldRemoveIdleRepository() throws Exception {
+        createRepository();
+        cache.open(gitDir).close();
+
+        cache.evictIdle(System.currentTimeMillis() + JGitRepositoryCache.IDLE_TIMEOUT_MS + 1);
+
+        assertEquals(cache.size(), 0);
+    }
+
+    private void createRepository() throws Exception {
+        try (Repository repository = cache.open(gitDir)) {
+            repository.create();
+        }
+    }
+}
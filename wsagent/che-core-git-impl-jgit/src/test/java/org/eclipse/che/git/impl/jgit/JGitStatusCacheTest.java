@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JGitStatusCache}. Every test checks that incrementally updated status is the same as full status.
+ */
+public class JGitStatusCacheTest {
+
+    private File            workDir;
+    private Git             git;
+    private Repository      repository;
+    private JGitStatusCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("repository").toFile().getCanonicalFile();
+        git = Git.init().setDirectory(workDir).call();
+        repository = git.getRepository();
+        write("README", "readme");
+        write("src/Main.java", "class Main {}");
+        write("src/Util.java", "class Util {}");
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("init").setAuthor("user", "user@mail.com").setCommitter("user", "user@mail.com").call();
+
+        cache = new JGitStatusCache();
+        cache.setWatching(true);
+        assertTrue(cache.getStatus(repository).isClean());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        repository.close();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void shouldUpdateStatusOfModifiedFile() throws Exception {
+        write("src/Main.java", "class Main { int i; }");
+
+        assertStatusIsTheSameAsFullStatus();
+        assertEquals(cache.getStatus(repository).modified.size(), 1);
+    }
+
+    @Test
+    public void shouldUpdateStatusOfCreatedAndRemovedFiles() throws Exception {
+        write("src/New.java", "class New {}");
+        delete("src/Util.java");
+
+        assertStatusIsTheSameAsFullStatus();
+        assertTrue(cache.getStatus(repository).untracked.contains("src/New.java"));
+        assertTrue(cache.getStatus(repository).missing.contains("src/Util.java"));
+    }
+
+    @Test
+    public void shouldUpdateStatusWhenFileIsRevertedToCommittedContent() throws Exception {
+        write("README", "changed");
+        assertStatusIsTheSameAsFullStatus();
+
+        write("README", "readme");
+
+        assertStatusIsTheSameAsFullStatus();
+        assertTrue(cache.getStatus(repository).isClean());
+    }
+
+    @Test
+    public void shouldUpdateStatusWhenIndexIsChanged() throws Exception {
+        write("src/Main.java", "class Main { int i; }");
+        assertStatusIsTheSameAsFullStatus();
+
+        git.add().addFilepattern("src/Main.java").call();
+
+        assertStatusIsTheSameAsFullStatus();
+        assertTrue(cache.getStatus(repository).changed.contains("src/Main.java"));
+    }
+
+    @Test
+    public void shouldUpdateStatusWhenFolderIsCreated() throws Exception {
+        write("doc/index.html", "<html/>");
+        cache.onFileChanged(new File(workDir, "doc"), true);
+
+        assertStatusIsTheSameAsFullStatus();
+        assertFalse(cache.getStatus(repository).untrackedFolders.isEmpty());
+    }
+
+    @Test
+    public void shouldIgnoreChangesOfFilesWhichAreNotReportedByWatcher() throws Exception {
+        final JGitStatusCache.StatusSnapshot before = cache.getStatus(repository);
+        Files.write(new File(workDir, "README").toPath(), "changed".getBytes(UTF_8));
+
+        assertEquals(cache.getStatus(repository), before);
+    }
+
+    @Test
+    public void shouldComputeFullStatusWhenWatcherIsNotRunning() throws Exception {
+        cache.setWatching(false);
+        Files.write(new File(workDir, "README").toPath(), "changed".getBytes(UTF_8));
+
+        assertEquals(cache.getStatus(repository), JGitStatusCache.computeFullStatus(repository));
+    }
+
+    private void assertStatusIsTheSameAsFullStatus() throws Exception {
+        assertEquals(cache.getStatus(repository), JGitStatusCache.computeFullStatus(repository));
+    }
+
+    private void write(String path, String content) throws Exception {
+        final File file = new File(workDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+        if (cache != null) {
+            cache.onFileChanged(file, false);
+        }
+    }
+
+    private void delete(String path) throws Exception {
+        final File file = new File(workDir, path);
+        Files.delete(file.toPath());
+        cache.onFileChanged(file, false);
+    }
+}
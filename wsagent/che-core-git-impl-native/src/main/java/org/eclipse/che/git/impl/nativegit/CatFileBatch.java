@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import org.eclipse.che.api.git.GitException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Long-lived {@code git cat-file --batch} or {@code git cat-file --batch-check} process of one repository.
+ * <p/>
+ * Reading objects through the same process saves fork of new git process and opening of the repository for every object.
+ * Process is started on the first request and restarted if it fails. Instances are thread-safe, requests are served one
+ * by one.
+ */
+class CatFileBatch {
+    private final File    repository;
+    private final boolean checkOnly;
+
+    private Process      process;
+    private OutputStream input;
+    private InputStream  output;
+
+    private volatile long lastUsed;
+
+    /**
+     * @param repository
+     *         directory of the repository
+     * @param checkOnly
+     *         if {@code true} only type and size of objects are read, see {@code --batch-check}
+     */
+    CatFileBatch(File repository, boolean checkOnly) {
+        this.repository = repository;
+        this.checkOnly = checkOnly;
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * Reads object described by the {@code revision} expression, e.g. {@code HEAD:README.md} or id of object.
+     *
+     * @return object or {@code null} if object doesn't exist or the expression is ambiguous
+     * @throws IllegalArgumentException
+     *         if {@code revision} contains line separators
+     * @throws GitException
+     *         if git process can't be started or fails
+     */
+    synchronized GitObject read(String revision) throws GitException {
+        if (revision.indexOf('\n') >= 0 || revision.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Revision must not contain line separators");
+        }
+        lastUsed = System.currentTimeMillis();
+        try {
+            if (process == null || !process.isAlive()) {
+                start();
+            }
+            input.write((revision + '\n').getBytes(UTF_8));
+            input.flush();
+
+            final String header = readLine();
+            // <id> <type> <size> or <revision> missing, <revision> ambiguous
+            final int sizeStart = header.lastIndexOf(' ');
+            final int typeStart = header.lastIndexOf(' ', sizeStart - 1);
+            if (typeStart < 0 || header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+                return null;
+            }
+            final String id = header.substring(0, typeStart);
+            final String type = header.substring(typeStart + 1, sizeStart);
+            final int size = Integer.parseInt(header.substring(sizeStart + 1));
+            byte[] content = null;
+            if (!checkOnly) {
+                content = readBytes(size);
+                // content is followed by line feed
+                readBytes(1);
+            }
+            return new GitObject(id, type, size, content);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw new GitException("Unable to read git object " + revision + ". " + e.getMessage(), e);
+        }
+    }
+
+    /** Returns time of the last request in milliseconds. */
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    /** Stops git process, next request will start new one. */
+    synchronized void close() {
+        if (process != null) {
+            // git cat-file exits when its input is closed
+            try {
+                input.close();
+            } catch (IOException ignored) {
+            }
+            process.destroy();
+            process = null;
+            input = null;
+            output = null;
+        }
+    }
+
+    private void start() throws IOException {
+        final ProcessBuilder pb = new ProcessBuilder("git", "cat-file", checkOnly ? "--batch-check" : "--batch");
+        pb.directory(repository);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        pb.environment().put("HOME", System.getProperty("user.home"));
+        process = pb.start();
+        input = process.getOutputStream();
+        output = new BufferedInputStream(process.getInputStream());
+    }
+
+    private String readLine() throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = output.read()) != '\n') {
+            if (b == -1) {
+                throw new EOFException("git cat-file process is terminated");
+            }
+            line.write(b);
+        }
+        return new String(line.toByteArray(), UTF_8);
+    }
+
+    private byte[] readBytes(int size) throws IOException {
+        final byte[] bytes = new byte[size];
+        int offset = 0;
+        while (offset < size) {
+            final int read = output.read(bytes, offset, size - offset);
+            if (read == -1) {
+                throw new EOFException("git cat-file process is terminated");
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    /** Object read from the repository. */
+    static class GitObject {
+        final String id;
+        final String type;
+        final int    size;
+        /** Content of object or {@code null} if only type and size were requested. */
+        final byte[] content;
+
+        GitObject(String id, String type, int size, byte[] content) {
+            this.id = id;
+            this.type = type;
+            this.size = size;
+            this.content = content;
+        }
+    }
+}
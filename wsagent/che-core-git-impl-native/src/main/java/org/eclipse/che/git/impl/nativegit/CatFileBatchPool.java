@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link CatFileBatch} processes of repositories. Processes which weren't used for {@link #IDLE_TIMEOUT_MS} are
+ * stopped, they are started again on the next request to the same repository. Processes of repositories which were
+ * removed are forgotten once they become idle.
+ */
+class CatFileBatchPool {
+    static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<File, CatFileBatch> batches;
+    private final Map<File, CatFileBatch> checks;
+    private final ScheduledExecutorService cleaner;
+
+    CatFileBatchPool() {
+        batches = new ConcurrentHashMap<>();
+        checks = new ConcurrentHashMap<>();
+        cleaner = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("GitCatFileCleaner-%d")
+                                                                                       .setDaemon(true)
+                                                                                       .build());
+        cleaner.scheduleWithFixedDelay(() -> closeIdle(System.currentTimeMillis()), 1, 1, TimeUnit.MINUTES);
+    }
+
+    /** Returns {@code git cat-file --batch} process of the {@code repository}. */
+    CatFileBatch getBatch(File repository) {
+        return batches.computeIfAbsent(repository.getAbsoluteFile(), dir -> new CatFileBatch(dir, false));
+    }
+
+    /** Returns {@code git cat-file --batch-check} process of the {@code repository}. */
+    CatFileBatch getBatchCheck(File repository) {
+        return checks.computeIfAbsent(repository.getAbsoluteFile(), dir -> new CatFileBatch(dir, true));
+    }
+
+    /** Stops all processes. */
+    void close() {
+        cleaner.shutdownNow();
+        closeIdle(Long.MAX_VALUE);
+    }
+
+    @VisibleForTesting
+    void closeIdle(long now) {
+        closeIdle(batches, now);
+        closeIdle(checks, now);
+    }
+
+    @VisibleForTesting
+    int size() {
+        return batches.size() + checks.size();
+    }
+
+    private static void closeIdle(Map<File, CatFileBatch> processes, long now) {
+        for (Map.Entry<File, CatFileBatch> entry : processes.entrySet()) {
+            final CatFileBatch batch = entry.getValue();
+            if (now - batch.getLastUsed() > IDLE_TIMEOUT_MS) {
+                batch.close();
+                if (!entry.getKey().exists()) {
+                    processes.remove(entry.getKey(), batch);
+                }
+            }
+        }
+    }
+}
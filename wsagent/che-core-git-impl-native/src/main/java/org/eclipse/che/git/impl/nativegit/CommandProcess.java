@@ -69,14 +69,16 @@ public class CommandProcess {
 
         // Add an external line consumer that comes with factory. It is typically a consumer that sends message events to the client.
         try (LineConsumer consumer = new CompositeLineConsumer(lineConsumer, command)) {
+            pb.redirectErrorStream(true);
             Process process;
             try {
-                process = ProcessUtil.execute(pb, consumer);
+                process = pb.start();
             } catch (IOException e) {
                 LOG.error("Process creating failed", e);
                 throw new GitException("It is not possible to execute command");
             }
-            // process will be stopped after timeout
+            // process will be stopped after timeout, timer is started before reading of output since reading blocks until
+            // process ends
             Watchdog watcher = null;
             if (command.getTimeout() > 0) {
                 watcher = new Watchdog(command.getTimeout(), TimeUnit.SECONDS);
@@ -84,6 +86,7 @@ public class CommandProcess {
             }
 
             try {
+                ProcessUtil.process(process, consumer);
                 process.waitFor();
                 /*
                  * Check process exit value and search for correct error message without hint and warning messages ant throw it to user.
@@ -97,6 +100,9 @@ public class CommandProcess {
                 }
             } catch (InterruptedException e) {
                 Thread.interrupted();
+            } catch (IOException e) {
+                LOG.error("Reading of process output failed", e);
+                throw new GitException("It is not possible to execute command");
             } finally {
                 if (watcher != null) {
                     watcher.stop();
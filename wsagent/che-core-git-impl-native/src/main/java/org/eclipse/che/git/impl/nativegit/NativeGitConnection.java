@@ -86,15 +86,21 @@ import org.eclipse.che.git.impl.nativegit.commands.RemoteOperationCommand;
 import org.eclipse.che.git.impl.nativegit.commands.ShowFileContentCommand;
 import org.eclipse.che.plugin.ssh.key.script.SshScriptProvider;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.che.api.git.shared.ProviderInfo.AUTHENTICATE_URL;
 import static org.eclipse.che.api.git.shared.ProviderInfo.PROVIDER_NAME;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
@@ -122,6 +128,7 @@ public class NativeGitConnection implements GitConnection {
     private final NativeGit         nativeGit;
     private final CredentialsLoader credentialsLoader;
     private final GitUserResolver   userResolver;
+    private final CatFileBatchPool  catFileBatchPool;
 
     /**
      * @param repository
@@ -150,9 +157,27 @@ public class NativeGitConnection implements GitConnection {
      */
     public NativeGitConnection(NativeGit nativeGit, CredentialsLoader credentialsLoader, GitUserResolver userResolver)
             throws GitException {
+        this(nativeGit, credentialsLoader, userResolver, null);
+    }
+
+    /**
+     * @param nativeGit
+     *         native git client
+     * @param credentialsLoader
+     *         loader for credentials
+     * @param catFileBatchPool
+     *         long-lived git processes used for reading objects, if it is null new git process is started for every object
+     * @throws GitException
+     *         when some error occurs
+     */
+    NativeGitConnection(NativeGit nativeGit,
+                        CredentialsLoader credentialsLoader,
+                        GitUserResolver userResolver,
+                        CatFileBatchPool catFileBatchPool) throws GitException {
         this.credentialsLoader = credentialsLoader;
         this.nativeGit = nativeGit;
         this.userResolver = userResolver;
+        this.catFileBatchPool = catFileBatchPool;
     }
 
     @Override
@@ -365,6 +390,21 @@ public class NativeGitConnection implements GitConnection {
 
     @Override
     public ShowFileContentResponse showFileContent(ShowFileContentRequest request) throws GitException {
+        final String file = request.getFile();
+        final String version = request.getVersion();
+        if (catFileBatchPool != null && canBeReadByCatFile(version) && canBeReadByCatFile(file)) {
+            final CatFileBatch.GitObject object = catFileBatchPool.getBatch(nativeGit.getRepository()).read(version + ':' + file);
+            if (object == null) {
+                throw new GitException("fatal: Path '" + file + "' does not exist in '" + version + "'" + lineSeparator());
+            }
+            if ("blob".equals(object.type)) {
+                // the same content as output of 'git show' collected by lines
+                final String content = new BufferedReader(new StringReader(new String(object.content, UTF_8)))
+                        .lines()
+                        .collect(Collectors.joining(lineSeparator()));
+                return newDto(ShowFileContentResponse.class).withContent(content);
+            }
+        }
         ShowFileContentCommand showCommand = nativeGit.createShowFileContentCommand().withFile(request.getFile())
                                                       .withVersion(request.getVersion());
         return showCommand.execute();
@@ -414,7 +454,14 @@ public class NativeGitConnection implements GitConnection {
     @Override
     public LogPage log(LogRequest request) throws GitException {
         try {
-            return new LogPage(nativeGit.createLogCommand().setFileFilter(request.getFileFilter()).execute());
+            return new LogPage(nativeGit.createLogCommand()
+                                        .setCount(request.getMaxCount())
+                                        .setSkip(request.getSkip())
+                                        .setAuthor(request.getAuthorFilter())
+                                        .setSinceTime(request.getSinceTime())
+                                        .setUntilTime(request.getUntilTime())
+                                        .setFileFilter(request.getFileFilter())
+                                        .execute());
         } catch (ServerException exception) {
             if (noInitCommitWhenLogErrorPattern.matcher(exception.getMessage()).find()) {
                 throw new GitException(exception.getMessage(), ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
@@ -689,6 +736,13 @@ public class NativeGitConnection implements GitConnection {
      * @return type of git object
      */
     private String getRevisionType(String gitObject) throws GitException {
+        if (catFileBatchPool != null && canBeReadByCatFile(gitObject)) {
+            final CatFileBatch.GitObject object = catFileBatchPool.getBatchCheck(nativeGit.getRepository()).read(gitObject);
+            if (object != null) {
+                return object.type;
+            }
+            // let git report error
+        }
         EmptyGitCommand command = nativeGit.createEmptyGitCommand()
                                            .setNextParameter("cat-file")
                                            .setNextParameter("-t")
@@ -697,6 +751,14 @@ public class NativeGitConnection implements GitConnection {
         return command.getText();
     }
 
+    /**
+     * Checks whether {@code revision} can be passed to {@code git cat-file --batch}. Expressions which refer to index,
+     * e.g. {@code :README.md}, are excluded since long-lived git process doesn't see changes of index.
+     */
+    private boolean canBeReadByCatFile(String revision) {
+        return !isNullOrEmpty(revision) && revision.indexOf('\n') < 0 && revision.indexOf('\r') < 0 && !revision.startsWith(":");
+    }
+
     private String parseBranchName(String name) {
         int branchNameIndex = 0;
         if (name.startsWith("refs/remotes/")) {
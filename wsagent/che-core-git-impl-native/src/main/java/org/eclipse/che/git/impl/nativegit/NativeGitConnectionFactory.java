@@ -18,6 +18,7 @@ import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
 import org.eclipse.che.plugin.ssh.key.script.SshScriptProvider;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
@@ -34,6 +35,7 @@ public class NativeGitConnectionFactory extends GitConnectionFactory {
     private final CredentialsLoader credentialsLoader;
     private final SshScriptProvider gitSshScriptProvider;
     private final GitUserResolver   userResolver;
+    private final CatFileBatchPool  catFileBatchPool;
 
     @Inject
     public NativeGitConnectionFactory(CredentialsLoader credentialsLoader, SshScriptProvider gitSshScriptProvider,
@@ -41,12 +43,14 @@ public class NativeGitConnectionFactory extends GitConnectionFactory {
         this.credentialsLoader = credentialsLoader;
         this.gitSshScriptProvider = gitSshScriptProvider;
         this.userResolver = userResolver;
+        this.catFileBatchPool = new CatFileBatchPool();
     }
 
 
     @Override
     public GitConnection getConnection(File workDir, LineConsumerFactory outputPublisherFactory) throws GitException {
-        final GitConnection gitConnection = new NativeGitConnection(workDir, gitSshScriptProvider, credentialsLoader, userResolver);
+        final NativeGit nativeGit = new NativeGit(workDir, gitSshScriptProvider, credentialsLoader, new GitAskPassScript());
+        final GitConnection gitConnection = new NativeGitConnection(nativeGit, credentialsLoader, userResolver, catFileBatchPool);
         gitConnection.setOutputLineConsumerFactory(outputPublisherFactory);
         return gitConnection;
     }
@@ -56,4 +60,9 @@ public class NativeGitConnectionFactory extends GitConnectionFactory {
         return credentialsLoader;
     }
 
+    @PreDestroy
+    public void stop() {
+        catFileBatchPool.close();
+    }
+
 }
@@ -27,6 +27,10 @@ import java.util.List;
 public class LogCommand extends GitCommand<List<Revision>> {
 
     private int          count;
+    private int          skip;
+    private String       author;
+    private long         sinceTime;
+    private long         untilTime;
     private String       branch;
     private List<String> fileFilter;
 
@@ -47,6 +51,18 @@ public class LogCommand extends GitCommand<List<Revision>> {
         if (count > 0) {
             commandLine.add("-" + count);
         }
+        if (skip > 0) {
+            commandLine.add("--skip=" + skip);
+        }
+        if (author != null && !author.isEmpty()) {
+            commandLine.add("--author=" + author);
+        }
+        if (sinceTime > 0) {
+            commandLine.add("--max-age=" + sinceTime / 1000);
+        }
+        if (untilTime > 0) {
+            commandLine.add("--min-age=" + untilTime / 1000);
+        }
         commandLine.add(fileFilter);
         start();
         List<Revision> list = new LinkedList<>();
@@ -80,6 +96,46 @@ public class LogCommand extends GitCommand<List<Revision>> {
         return this;
     }
 
+    /**
+     * @param skip
+     *         number of commits to skip before starting to show the commit output
+     * @return LogCommand with established number of skipped commits
+     */
+    public LogCommand setSkip(int skip) {
+        this.skip = skip;
+        return this;
+    }
+
+    /**
+     * @param author
+     *         pattern which author name or email must match
+     * @return LogCommand with established author filter
+     */
+    public LogCommand setAuthor(String author) {
+        this.author = author;
+        return this;
+    }
+
+    /**
+     * @param sinceTime
+     *         time in milliseconds, only commits made after it are shown
+     * @return LogCommand with established lower bound of commit time
+     */
+    public LogCommand setSinceTime(long sinceTime) {
+        this.sinceTime = sinceTime;
+        return this;
+    }
+
+    /**
+     * @param untilTime
+     *         time in milliseconds, only commits made before it are shown
+     * @return LogCommand with established upper bound of commit time
+     */
+    public LogCommand setUntilTime(long untilTime) {
+        this.untilTime = untilTime;
+        return this;
+    }
+
     /**
      * @param branch
      *         branch
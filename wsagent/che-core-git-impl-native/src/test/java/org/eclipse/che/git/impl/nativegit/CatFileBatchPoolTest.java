@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for {@link CatFileBatchPool}.
+ */
+public class CatFileBatchPoolTest {
+
+    private File             repository;
+    private CatFileBatchPool pool;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        repository = Files.createTempDir();
+        pool = new CatFileBatchPool();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        pool.close();
+        IoUtil.deleteRecursive(repository);
+    }
+
+    @Test
+    public void shouldShareProcessesOfRepository() throws Exception {
+        assertSame(pool.getBatch(repository), pool.getBatch(repository));
+        assertSame(pool.getBatchCheck(repository), pool.getBatchCheck(repository));
+        assertNotSame(pool.getBatch(repository), pool.getBatchCheck(repository));
+        assertEquals(pool.size(), 2);
+    }
+
+    @Test
+    public void shouldKeepIdleProcessesOfExistingRepository() throws Exception {
+        final CatFileBatch batch = pool.getBatch(repository);
+
+        pool.closeIdle(System.currentTimeMillis() + CatFileBatchPool.IDLE_TIMEOUT_MS + 1);
+
+        assertSame(pool.getBatch(repository), batch);
+    }
+
+    @Test
+    public void shouldRemoveIdleProcessesOfRemovedRepository() throws Exception {
+        pool.getBatch(repository);
+        pool.getBatchCheck(repository);
+        IoUtil.deleteRecursive(repository);
+
+        pool.closeIdle(System.currentTimeMillis() + CatFileBatchPool.IDLE_TIMEOUT_MS + 1);
+
+        assertEquals(pool.size(), 0);
+    }
+
+    @Test
+    public void shouldNotRemoveProcessesOfRemovedRepositoryBeforeTheyBecomeIdle() throws Exception {
+        pool.getBatch(repository);
+        IoUtil.deleteRecursive(repository);
+
+        pool.closeIdle(System.currentTimeMillis());
+
+        assertEquals(pool.size(), 1);
+    }
+}
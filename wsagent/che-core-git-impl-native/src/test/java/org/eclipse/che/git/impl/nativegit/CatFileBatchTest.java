@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link CatFileBatch} against real git repository.
+ */
+public class CatFileBatchTest {
+
+    private File         repository;
+    private CatFileBatch batch;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        repository = Files.createTempDir();
+        git(repository, "init", "-q");
+        java.nio.file.Files.write(new File(repository, "README.md").toPath(), "first line\nsecond line\n".getBytes(UTF_8));
+        git(repository, "add", ".");
+        git(repository, "-c", "user.name=test", "-c", "user.email=test@test.com", "commit", "-q", "-m", "init");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        if (batch != null) {
+            batch.close();
+        }
+        IoUtil.deleteRecursive(repository);
+    }
+
+    @Test
+    public void shouldReadObjectWithContent() throws Exception {
+        batch = new CatFileBatch(repository, false);
+
+        final CatFileBatch.GitObject object = batch.read("HEAD:README.md");
+
+        assertNotNull(object);
+        assertEquals(object.id, git(repository, "rev-parse", "HEAD:README.md").trim());
+        assertEquals(object.type, "blob");
+        assertEquals(object.size, 23);
+        assertEquals(new String(object.content, UTF_8), "first line\nsecond line\n");
+    }
+
+    @Test
+    public void shouldReadSeveralObjectsThroughTheSameProcess() throws Exception {
+        batch = new CatFileBatch(repository, false);
+
+        final CatFileBatch.GitObject commit = batch.read("HEAD");
+        final CatFileBatch.GitObject tree = batch.read("HEAD^{tree}");
+        final CatFileBatch.GitObject blob = batch.read("HEAD:README.md");
+
+        assertNotNull(commit);
+        assertEquals(commit.type, "commit");
+        assertNotNull(tree);
+        assertEquals(tree.type, "tree");
+        assertEquals(tree.content.length, tree.size);
+        assertNotNull(blob);
+        assertEquals(new String(blob.content, UTF_8), "first line\nsecond line\n");
+    }
+
+    @Test
+    public void shouldReadOnlyTypeAndSizeOfObjectInCheckMode() throws Exception {
+        batch = new CatFileBatch(repository, true);
+
+        final CatFileBatch.GitObject object = batch.read("HEAD:README.md");
+
+        assertNotNull(object);
+        assertEquals(object.type, "blob");
+        assertEquals(object.size, 23);
+        assertNull(object.content);
+    }
+
+    @Test
+    public void shouldReturnNullWhenObjectIsMissing() throws Exception {
+        batch = new CatFileBatch(repository, false);
+
+        assertNull(batch.read("HEAD:unknown.txt"));
+        // process is still usable after missing object
+        assertNotNull(batch.read("HEAD:README.md"));
+    }
+
+    @Test
+    public void shouldReturnNullWhenObjectIdIsAmbiguous() throws Exception {
+        batch = new CatFileBatch(repository, true);
+
+        assertNull(batch.read(findAmbiguousPrefix()));
+        assertNotNull(batch.read("HEAD:README.md"));
+    }
+
+    @Test
+    public void shouldRestartProcessAfterItIsTerminated() throws Exception {
+        final File notRepository = Files.createTempDir();
+        try {
+            batch = new CatFileBatch(notRepository, false);
+            try {
+                batch.read("HEAD");
+                fail("Git process should be terminated outside of repository");
+            } catch (GitException expected) {
+            }
+
+            git(notRepository, "init", "-q");
+            java.nio.file.Files.write(new File(notRepository, "file").toPath(), "content".getBytes(UTF_8));
+            final String id = git(notRepository, "hash-object", "-w", "file").trim();
+
+            final CatFileBatch.GitObject object = batch.read(id);
+            assertNotNull(object);
+            assertEquals(new String(object.content, UTF_8), "content");
+        } finally {
+            batch.close();
+            IoUtil.deleteRecursive(notRepository);
+        }
+    }
+
+    @Test
+    public void shouldStartProcessAgainAfterClose() throws Exception {
+        batch = new CatFileBatch(repository, false);
+        assertNotNull(batch.read("HEAD:README.md"));
+
+        batch.close();
+
+        assertNotNull(batch.read("HEAD:README.md"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectRevisionWithLineSeparator() throws Exception {
+        batch = new CatFileBatch(repository, false);
+
+        batch.read("HEAD\nHEAD");
+    }
+
+    /** Writes blobs until two of them have the same 4 characters prefix of id. Content is fixed, so ids are the same on every run. */
+    private String findAmbiguousPrefix() throws Exception {
+        final File blobs = new File(repository, "blobs");
+        final StringBuilder paths = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            final File blob = new File(blobs, "blob" + i);
+            Files.createParentDirs(blob);
+            java.nio.file.Files.write(blob.toPath(), Integer.toString(i).getBytes(UTF_8));
+            paths.append(blob.getAbsolutePath()).append('\n');
+        }
+        final String[] ids = gitWithInput(repository, paths.toString(), "hash-object", "-w", "--stdin-paths").split("\n");
+        final Map<String, String> prefixes = new HashMap<>();
+        for (String id : ids) {
+            if (prefixes.put(id.substring(0, 4), id) != null) {
+                return id.substring(0, 4);
+            }
+        }
+        throw new AssertionError("No ambiguous prefix found");
+    }
+
+    private static String git(File dir, String... args) throws Exception {
+        return gitWithInput(dir, null, args);
+    }
+
+    private static String gitWithInput(File dir, String input, String... args) throws Exception {
+        final String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        final Process process = new ProcessBuilder(command).directory(dir).redirectErrorStream(true).start();
+        if (input != null) {
+            process.getOutputStream().write(input.getBytes(UTF_8));
+        }
+        process.getOutputStream().close();
+        final String output = new String(ByteStreams.toByteArray(process.getInputStream()), UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IOException("Command " + Arrays.toString(command) + " failed: " + output);
+        }
+        return output;
+    }
+}
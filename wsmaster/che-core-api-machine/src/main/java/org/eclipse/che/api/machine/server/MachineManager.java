@@ -26,7 +26,8 @@ import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
-import org.eclipse.che.api.core.util.FileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedFileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedFileReader;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.WebsocketLineConsumer;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
@@ -63,15 +64,12 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.eclipse.che.api.machine.server.event.InstanceStateEvent.Type.DIE;
@@ -299,8 +297,8 @@ public class MachineManager {
             throw new BadRequestException("Invalid machine name " + machineConfig.getName());
         }
 
-        for (MachineImpl machine : machineRegistry.getMachines()) {
-            if (machine.getWorkspaceId().equals(workspaceId) && machine.getConfig().getName().equals(machineConfig.getName())) {
+        for (MachineImpl machine : machineRegistry.getMachines(workspaceId)) {
+            if (machine.getConfig().getName().equals(machineConfig.getName())) {
                 throw new ConflictException("Machine with name " + machineConfig.getName() + " already exists");
             }
         }
@@ -454,10 +452,7 @@ public class MachineManager {
      * @return list of machines or empty list
      */
     public List<MachineImpl> getMachines(String workspaceId) throws MachineException, BadRequestException {
-        return machineRegistry.getMachines()
-                              .stream()
-                              .filter(machine -> machine.getWorkspaceId().equals(workspaceId))
-                              .collect(Collectors.toList());
+        return new ArrayList<>(machineRegistry.getMachines(workspaceId));
     }
 
     /**
@@ -774,10 +769,29 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getMachineLogReader(String machineId) throws NotFoundException, MachineException {
+        return getMachineLogReader(machineId, 0, 0);
+    }
+
+    /**
+     * Gets reader of the range of lines of logs from machine by specified id
+     *
+     * @param machineId
+     *         machine id whose process reader will be returned
+     * @param fromLine
+     *         number of the first line to read, starting from 0
+     * @param limit
+     *         maximal number of lines to read, 0 means all lines till the end of logs
+     * @return reader for logs on specified machine
+     * @throws NotFoundException
+     *         if machine with specified id not found
+     * @throws MachineException
+     *         if other error occur
+     */
+    public Reader getMachineLogReader(String machineId, int fromLine, int limit) throws NotFoundException, MachineException {
         final File machineLogsFile = getMachineLogsFile(machineId);
         if (machineLogsFile.isFile()) {
             try {
-                return Files.newBufferedReader(machineLogsFile.toPath(), Charset.defaultCharset());
+                return IndexedFileReader.readLines(machineLogsFile, fromLine, limit);
             } catch (IOException e) {
                 throw new MachineException(String.format("Unable read log file for machine '%s'. %s", machineId, e.getMessage()));
             }
@@ -799,10 +813,31 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getProcessLogReader(String machineId, int pid) throws NotFoundException, MachineException {
+        return getProcessLogReader(machineId, pid, 0, 0);
+    }
+
+    /**
+     * Gets reader of the range of lines of process logs from machine by specified id.
+     *
+     * @param machineId
+     *         machine id whose process reader will be returned
+     * @param pid
+     *         process id
+     * @param fromLine
+     *         number of the first line to read, starting from 0
+     * @param limit
+     *         maximal number of lines to read, 0 means all lines till the end of logs
+     * @return reader for specified process on machine
+     * @throws NotFoundException
+     *         if machine with specified id not found
+     * @throws MachineException
+     *         if other error occur
+     */
+    public Reader getProcessLogReader(String machineId, int pid, int fromLine, int limit) throws NotFoundException, MachineException {
         final File processLogsFile = getProcessLogsFile(machineId, pid);
         if (processLogsFile.isFile()) {
             try {
-                return Files.newBufferedReader(processLogsFile.toPath(), Charset.defaultCharset());
+                return IndexedFileReader.readLines(processLogsFile, fromLine, limit);
             } catch (IOException e) {
                 throw new MachineException(
                         String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -897,9 +932,9 @@ public class MachineManager {
         }
     }
 
-    private FileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
+    private IndexedFileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
         try {
-            return new FileLineConsumer(getMachineLogsFile(machineId));
+            return new IndexedFileLineConsumer(getMachineLogsFile(machineId));
         } catch (IOException e) {
             throw new MachineException(String.format("Unable create log file for machine '%s'. %s", machineId, e.getMessage()));
         }
@@ -913,9 +948,9 @@ public class MachineManager {
         return new File(new File(machineLogsDir, machineId), Integer.toString(pid));
     }
 
-    private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
+    private IndexedFileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return new IndexedFileLineConsumer(getProcessLogsFile(machineId, pid));
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -19,39 +19,77 @@ import org.eclipse.che.api.machine.server.spi.Instance;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Holds active machines
+ * Holds active machines.
+ *
+ * <p>Reads are lock-free, modifications are serialized so the machines maps
+ * and the indexes by workspace id and by dev flag are always updated atomically.
  *
  * @author Alexander Garagatyi
  */
 @Singleton
 public class MachineRegistry {
-    // TODO add locks per workspace or machine
-    private final HashMap<String, Instance>    instances;
-    private final HashMap<String, MachineImpl> machines;
+    private final Map<String, Instance>    instances;
+    private final Map<String, MachineImpl> machines;
+    /** Identifiers of machines(running or not) of each workspace. */
+    private final Map<String, Set<String>> workspaceMachines;
+    /** Running dev machine of each workspace. */
+    private final Map<String, Instance>    devInstances;
 
     public MachineRegistry() {
-        instances = new HashMap<>();
-        machines = new HashMap<>();
+        instances = new ConcurrentHashMap<>();
+        machines = new ConcurrentHashMap<>();
+        workspaceMachines = new ConcurrentHashMap<>();
+        devInstances = new ConcurrentHashMap<>();
     }
 
-    //TODO return unmodifiable lists
-
     /**
      * Get all active machines
      *
      * @throws MachineException
      *         if any error occurs
      */
-    public synchronized List<MachineImpl> getMachines() throws MachineException {
-        final List<MachineImpl> list = new ArrayList<>(machines.size() + instances.size());
-        list.addAll(machines.values());
-        list.addAll(instances.values().stream().map(this::toMachine).collect(Collectors.toList()));
-        return Collections.unmodifiableList(list);
+    public List<MachineImpl> getMachines() throws MachineException {
+        // machines are read before instances, so machine which is updated concurrently
+        // is found in one of the maps, duplicates are removed by id
+        final Map<String, MachineImpl> result = new LinkedHashMap<>();
+        for (MachineImpl machine : machines.values()) {
+            result.put(machine.getId(), machine);
+        }
+        for (Instance instance : instances.values()) {
+            result.put(instance.getId(), toMachine(instance));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(result.values()));
+    }
+
+    /**
+     * Get all active machines of specific workspace
+     *
+     * @param workspaceId
+     *         id of workspace
+     * @return machines of workspace or empty list if workspace doesn't have machines
+     * @throws MachineException
+     *         if any error occurs
+     */
+    public List<MachineImpl> getMachines(String workspaceId) throws MachineException {
+        final Set<String> machineIds = workspaceMachines.get(workspaceId);
+        if (machineIds == null) {
+            return Collections.emptyList();
+        }
+        final List<MachineImpl> result = new ArrayList<>(machineIds.size());
+        for (String machineId : machineIds) {
+            final MachineImpl machine = findMachine(machineId);
+            if (machine != null) {
+                result.add(machine);
+            }
+        }
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -64,16 +102,11 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized MachineImpl getMachine(String machineId) throws NotFoundException, MachineException {
-        MachineImpl machine = machines.get(machineId);
+    public MachineImpl getMachine(String machineId) throws NotFoundException, MachineException {
+        final MachineImpl machine = findMachine(machineId);
         if (machine == null) {
-            final Instance instance = instances.get(machineId);
-            if (instance == null) {
-                throw new NotFoundException("Machine " + machineId + " is not found");
-            }
-            machine = toMachine(instance);
+            throw new NotFoundException("Machine " + machineId + " is not found");
         }
-
         return machine;
     }
 
@@ -83,7 +116,7 @@ public class MachineRegistry {
      * @param machineId
      *         unique machine identifier
      */
-    public synchronized boolean isExist(String machineId) {
+    public boolean isExist(String machineId) {
         return machines.containsKey(machineId) || instances.containsKey(machineId);
     }
 
@@ -97,14 +130,12 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized MachineImpl getDevMachine(String workspaceId) throws NotFoundException, MachineException {
-        for (Instance instance : instances.values()) {
-            if (instance.getWorkspaceId().equals(workspaceId) && instance.getConfig().isDev()) {
-                return toMachine(instance);
-            }
+    public MachineImpl getDevMachine(String workspaceId) throws NotFoundException, MachineException {
+        final Instance devInstance = devInstances.get(workspaceId);
+        if (devInstance == null) {
+            throw new NotFoundException("Dev machine of workspace " + workspaceId + " is not running.");
         }
-
-        throw new NotFoundException("Dev machine of workspace " + workspaceId + " is not running.");
+        return toMachine(devInstance);
     }
 
     /**
@@ -118,7 +149,7 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized Instance getInstance(String machineId) throws NotFoundException, MachineException {
+    public Instance getInstance(String machineId) throws NotFoundException, MachineException {
         final Instance instance = instances.get(machineId);
         if (instance == null) {
             throw new NotFoundException("Machine " + machineId + " is not found");
@@ -142,6 +173,8 @@ public class MachineRegistry {
             throw new ConflictException("Machine with id " + machine.getId() + " is already exist");
         }
         machines.put(machine.getId(), machine);
+        workspaceMachines.computeIfAbsent(machine.getWorkspaceId(), key -> ConcurrentHashMap.newKeySet())
+                         .add(machine.getId());
     }
 
     /**
@@ -158,8 +191,14 @@ public class MachineRegistry {
         if (!instances.containsKey(instance.getId()) && !machines.containsKey(instance.getId())) {
             throw new NotFoundException("Machine " + instance.getId() + " not found");
         } else {
+            // instance must be visible before machine is removed, see getMachines()
             instances.put(instance.getId(), instance);
             machines.remove(instance.getId());
+            workspaceMachines.computeIfAbsent(instance.getWorkspaceId(), key -> ConcurrentHashMap.newKeySet())
+                             .add(instance.getId());
+            if (instance.getConfig().isDev()) {
+                devInstances.put(instance.getWorkspaceId(), instance);
+            }
         }
     }
 
@@ -177,6 +216,26 @@ public class MachineRegistry {
         if (null == instance && null == machine) {
             throw new NotFoundException("Machine " + machineId + " is not found");
         }
+        final String workspaceId = instance != null ? instance.getWorkspaceId() : machine.getWorkspaceId();
+        final Set<String> machineIds = workspaceMachines.get(workspaceId);
+        if (machineIds != null) {
+            machineIds.remove(machineId);
+            if (machineIds.isEmpty()) {
+                workspaceMachines.remove(workspaceId);
+            }
+        }
+        if (instance != null) {
+            devInstances.remove(workspaceId, instance);
+        }
+    }
+
+    private MachineImpl findMachine(String machineId) {
+        final MachineImpl machine = machines.get(machineId);
+        if (machine != null) {
+            return machine;
+        }
+        final Instance instance = instances.get(machineId);
+        return instance == null ? null : toMachine(instance);
     }
 
     private MachineImpl toMachine(Instance instance) {
@@ -280,14 +280,24 @@ public class MachineService extends Service {
     public void getMachineLogs(@ApiParam(value = "Machine ID")
                                @PathParam("machineId")
                                String machineId,
+                               @ApiParam(value = "From line")
+                               @QueryParam("startFrom")
+                               @DefaultValue("1")
+                               Integer startFrom,
+                               @ApiParam(value = "Number of lines, all lines till the end of logs if not specified")
+                               @QueryParam("limit")
+                               @DefaultValue("0")
+                               Integer limit,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
+        checkLinesRange(startFrom, limit);
 
-        addLogsToResponse(machineManager.getMachineLogReader(machineId), httpServletResponse);
+        addLogsToResponse(machineManager.getMachineLogReader(machineId, startFrom - 1, limit), httpServletResponse);
     }
 
     @GET
@@ -303,14 +313,24 @@ public class MachineService extends Service {
                                @ApiParam(value = "Process ID")
                                @PathParam("pid")
                                int pid,
+                               @ApiParam(value = "From line")
+                               @QueryParam("startFrom")
+                               @DefaultValue("1")
+                               Integer startFrom,
+                               @ApiParam(value = "Number of lines, all lines till the end of logs if not specified")
+                               @QueryParam("limit")
+                               @DefaultValue("0")
+                               Integer limit,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
+        checkLinesRange(startFrom, limit);
 
-        addLogsToResponse(machineManager.getProcessLogReader(machineId, pid), httpServletResponse);
+        addLogsToResponse(machineManager.getProcessLogReader(machineId, pid, startFrom - 1, limit), httpServletResponse);
     }
 
     /**
@@ -416,10 +436,21 @@ public class MachineService extends Service {
     private void addLogsToResponse(Reader logsReader, HttpServletResponse httpServletResponse) throws IOException {
         // Response is written directly to the servlet request stream
         httpServletResponse.setContentType("text/plain");
-        CharStreams.copy(logsReader, httpServletResponse.getWriter());
+        try (Reader reader = logsReader) {
+            CharStreams.copy(reader, httpServletResponse.getWriter());
+        }
         httpServletResponse.getWriter().flush();
     }
 
+    private void checkLinesRange(Integer startFrom, Integer limit) throws BadRequestException {
+        if (startFrom < 1) {
+            throw new BadRequestException("Number of the first line must be positive");
+        }
+        if (limit < 0) {
+            throw new BadRequestException("Number of lines must not be negative");
+        }
+    }
+
     /**
      * Checks object reference is not {@code null}
      *
@@ -14,8 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.machine.shared.dto.event.MachineProcessEvent;
 import org.eclipse.che.dto.server.DtoFactory;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,10 +42,9 @@ public class MachineProcessMessenger implements EventSubscriber<MachineProcessEv
     @Override
     public void onEvent(MachineProcessEvent event) {
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel("machine:process:" + event.getMachineId());
-            bm.setBody(DtoFactory.getInstance().toJson(event));
-            WSConnectionContext.sendMessage(bm);
+            // output of the machine is batched, so it must be sent before the event
+            ChannelMessageBatcher.sendMessageNow("machine:process:" + event.getMachineId(),
+                                                 DtoFactory.getInstance().toJson(event));
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
         }
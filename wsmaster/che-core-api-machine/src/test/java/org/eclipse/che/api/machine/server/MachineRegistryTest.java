@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server;
+
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.model.machine.MachineStatus;
+import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
+import org.eclipse.che.api.machine.server.spi.Instance;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link MachineRegistry}.
+ */
+public class MachineRegistryTest {
+
+    private MachineRegistry registry;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        registry = new MachineRegistry();
+    }
+
+    @Test
+    public void shouldReturnDevMachineOfWorkspaceWhenItIsRunning() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            final String workspaceId = "workspace" + i;
+            addRunning(workspaceId, "dev" + i, true);
+            addRunning(workspaceId, "db" + i, false);
+        }
+
+        final MachineImpl devMachine = registry.getDevMachine("workspace1234");
+
+        assertEquals(devMachine.getId(), "dev1234");
+        assertEquals(registry.getMachines().size(), 4000);
+    }
+
+    @Test(expectedExceptions = NotFoundException.class,
+          expectedExceptionsMessageRegExp = "Dev machine of workspace workspace1 is not running.")
+    public void shouldNotReturnDevMachineWhichIsNotRunningYet() throws Exception {
+        registry.addMachine(createMachine("workspace1", "dev1", true));
+
+        registry.getDevMachine("workspace1");
+    }
+
+    @Test(expectedExceptions = NotFoundException.class)
+    public void shouldNotReturnDevMachineAfterItIsRemoved() throws Exception {
+        addRunning("workspace1", "dev1", true);
+        registry.remove("dev1");
+
+        registry.getDevMachine("workspace1");
+    }
+
+    @Test
+    public void shouldReturnMachinesOfWorkspace() throws Exception {
+        addRunning("workspace1", "dev1", true);
+        registry.addMachine(createMachine("workspace1", "db1", false));
+        addRunning("workspace2", "dev2", true);
+
+        final Set<String> ids = registry.getMachines("workspace1")
+                                        .stream()
+                                        .map(MachineImpl::getId)
+                                        .collect(Collectors.toSet());
+
+        assertEquals(ids.size(), 2);
+        assertTrue(ids.contains("dev1"));
+        assertTrue(ids.contains("db1"));
+    }
+
+    @Test
+    public void shouldRemoveMachineFromWorkspaceIndex() throws Exception {
+        addRunning("workspace1", "dev1", true);
+        addRunning("workspace1", "db1", false);
+
+        registry.remove("db1");
+
+        final List<MachineImpl> machines = registry.getMachines("workspace1");
+        assertEquals(machines.size(), 1);
+        assertEquals(machines.get(0).getId(), "dev1");
+        assertFalse(registry.isExist("db1"));
+    }
+
+    @Test
+    public void shouldNotDuplicateMachineWhenItIsReplacedWithInstance() throws Exception {
+        addRunning("workspace1", "dev1", true);
+
+        assertEquals(registry.getMachines().size(), 1);
+        assertEquals(registry.getMachines("workspace1").size(), 1);
+        assertEquals(registry.getInstance("dev1").getId(), "dev1");
+    }
+
+    private void addRunning(String workspaceId, String machineId, boolean isDev) throws Exception {
+        final MachineImpl machine = createMachine(workspaceId, machineId, isDev);
+        registry.addMachine(machine);
+        final Instance instance = mock(Instance.class);
+        when(instance.getId()).thenReturn(machineId);
+        when(instance.getWorkspaceId()).thenReturn(workspaceId);
+        when(instance.getEnvName()).thenReturn("env");
+        when(instance.getOwner()).thenReturn("owner");
+        when(instance.getStatus()).thenReturn(MachineStatus.RUNNING);
+        when(instance.getConfig()).thenReturn(machine.getConfig());
+        registry.update(instance);
+    }
+
+    private static MachineImpl createMachine(String workspaceId, String machineId, boolean isDev) {
+        final MachineConfigImpl config = MachineConfigImpl.builder()
+                                                          .setDev(isDev)
+                                                          .setName(machineId)
+                                                          .setType("docker")
+                                                          .setLimits(new LimitsImpl(1024))
+                                                          .setSource(new MachineSourceImpl("git").setLocation("location"))
+                                                          .build();
+        return new MachineImpl(config, machineId, workspaceId, "env", "owner", MachineStatus.CREATING, null);
+    }
+}
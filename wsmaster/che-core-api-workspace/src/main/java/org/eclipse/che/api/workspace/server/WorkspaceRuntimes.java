@@ -12,6 +12,7 @@ package org.eclipse.che.api.workspace.server;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
@@ -40,14 +41,21 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
@@ -90,13 +98,20 @@ public class WorkspaceRuntimes {
     private final EventService                        eventService;
     private final EventSubscriber<MachineStatusEvent> addMachineEventSubscriber;
     private final EventSubscriber<MachineStatusEvent> removeMachineEventSubscriber;
+    private final ExecutorService                     machineStartExecutor;
 
     private volatile boolean isPreDestroyInvoked;
 
     @Inject
-    public WorkspaceRuntimes(MachineManager machineManager, EventService eventService) {
+    public WorkspaceRuntimes(MachineManager machineManager,
+                             EventService eventService,
+                             @Named("workspace.runtime.machine_start_threads") int machineStartThreads) {
         this.machineManager = machineManager;
         this.eventService = eventService;
+        this.machineStartExecutor = Executors.newFixedThreadPool(machineStartThreads,
+                                                                 new ThreadFactoryBuilder().setNameFormat("WorkspaceRuntimes-MachineStart-%d")
+                                                                                           .setDaemon(true)
+                                                                                           .build());
         this.descriptors = new HashMap<>();
         this.startQueues = new HashMap<>();
         this.addMachineEventSubscriber = new AddMachineEventSubscriber();
@@ -136,7 +151,8 @@ public class WorkspaceRuntimes {
      * Starts all machines from specified workspace environment,
      * creates workspace runtime instance based on that environment.
      *
-     * <p>Dev-machine always starts before the other machines.
+     * <p>Dev-machine always starts before the other machines, once it is
+     * running the other machines are started concurrently.
      * If dev-machine start failed then method will throw appropriate
      * {@link ServerException}. During the start of the workspace its
      * runtime is visible with {@link WorkspaceStatus#STARTING} status.
@@ -361,6 +377,8 @@ public class WorkspaceRuntimes {
         for (int i = 0; i < STRIPED.size(); i++) {
             STRIPED.getAt(i).writeLock().unlock();
         }
+
+        machineStartExecutor.shutdownNow();
     }
 
     @VisibleForTesting
@@ -442,78 +460,28 @@ public class WorkspaceRuntimes {
                                                     ConflictException {
         publishEvent(EventType.STARTING, workspaceId, null);
 
-        // Starting all the machines one by one by getting configs
-        // from the corresponding starting queue.
+        // Dev-machine is in the queue head and always starts first,
+        // workspace start fails if dev-machine start fails.
         // Config will be null only if there are no machines left in the queue
-        MachineConfigImpl config = queuePeekOrFail(workspaceId);
-        while (config != null) {
-
-            // According to WorkspaceStatus specification the workspace start
-            // is failed when dev-machine start is failed, so if any error
-            // occurs during machine creation and the machine is dev-machine
-            // then start fail is reported and start resources such as queue
-            // and descriptor must be cleaned up
-            MachineImpl machine = null;
-            try {
-                machine = startMachine(config, workspaceId, envName, recover);
-            } catch (RuntimeException | ServerException | ConflictException | NotFoundException x) {
-                if (config.isDev()) {
-                    publishEvent(EventType.ERROR, workspaceId, x.getLocalizedMessage());
-                    cleanupStartResources(workspaceId);
-                    throw x;
-                }
-                LOG.error(format("Error while creating non-dev machine '%s' in workspace '%s', environment '%s'",
-                                 config.getName(),
-                                 workspaceId,
-                                 envName),
-                          x);
-            }
+        final MachineConfigImpl devConfig = queuePeekOrFail(workspaceId);
+        if (devConfig != null) {
+            startQueuedMachine(devConfig, workspaceId, envName, recover);
+        }
 
-            // Machine destroying is an expensive operation which must be
-            // performed outside of the lock, this section checks if
-            // the workspace wasn't stopped while it is starting and sets
-            // polled flag to true if the workspace wasn't stopped plus
-            // polls the proceeded machine configuration from the queue
-            boolean queuePolled = false;
-            acquireWriteLock(workspaceId);
+        // Non-dev machines don't depend on each other so they
+        // are started concurrently once the dev-machine is running
+        final List<Future<?>> startTasks = new ArrayList<>();
+        for (MachineConfigImpl config : queueCopyOrFail(workspaceId)) {
             try {
-                ensurePreDestroyIsNotExecuted();
-                final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
-                if (queue != null) {
-                    queue.poll();
-                    queuePolled = true;
-                    if (machine != null) {
-                        final RuntimeDescriptor descriptor = descriptors.get(workspaceId);
-                        if (config.isDev()) {
-                            descriptor.getRuntime().setDevMachine(machine);
-                            descriptor.setRuntimeStatus(WorkspaceStatus.RUNNING);
-                        }
-                        descriptor.getRuntime().getMachines().add(machine);
-                    }
-                }
-            } finally {
-                releaseWriteLock(workspaceId);
+                startTasks.add(machineStartExecutor.submit(() -> {
+                    startQueuedMachine(config, workspaceId, envName, recover);
+                    return null;
+                }));
+            } catch (RejectedExecutionException x) {
+                startQueuedMachine(config, workspaceId, envName, recover);
             }
-
-            // Event publication should be performed outside of the lock
-            // as it may take some time to notify subscribers
-            if (machine != null && config.isDev()) {
-                publishEvent(EventType.RUNNING, workspaceId, null);
-            }
-
-            // If machine config is not polled from the queue
-            // then workspace was stopped and newly created machine
-            // must be destroyed(if such exists)
-            if (!queuePolled) {
-                if (machine != null) {
-                    machineManager.destroy(machine.getId(), false);
-                }
-                throw new ConflictException(format("Workspace '%s' start interrupted. Workspace stopped before all its machines started",
-                                                   workspaceId));
-            }
-
-            config = queuePeekOrFail(workspaceId);
         }
+        awaitStartTasks(workspaceId, startTasks);
 
         // All the machines tried to start which means that queue
         // should be empty and can be normally removed, but in the case of
@@ -534,6 +502,154 @@ public class WorkspaceRuntimes {
         }
     }
 
+    /**
+     * Starts the machine from the start queue of the workspace and adds it to the workspace runtime,
+     * then removes its config from the queue.
+     *
+     * <p>If the machine is the dev-machine and it fails to start then start fail is reported and
+     * the exception is rethrown, failures of non-dev machines are logged and ignored.
+     *
+     * @throws ConflictException
+     *         when the workspace was stopped while the machine was starting,
+     *         in this case started machine is destroyed
+     */
+    private void startQueuedMachine(MachineConfigImpl config,
+                                    String workspaceId,
+                                    String envName,
+                                    boolean recover) throws ServerException,
+                                                            NotFoundException,
+                                                            ConflictException {
+        // According to WorkspaceStatus specification the workspace start
+        // is failed when dev-machine start is failed, so if any error
+        // occurs during machine creation and the machine is dev-machine
+        // then start fail is reported and start resources such as queue
+        // and descriptor must be cleaned up
+        MachineImpl machine = null;
+        final long startTime = System.currentTimeMillis();
+        try {
+            machine = startMachine(config, workspaceId, envName, recover);
+            LOG.info("Machine '{}' of workspace '{}' started in {} ms",
+                     config.getName(),
+                     workspaceId,
+                     System.currentTimeMillis() - startTime);
+        } catch (RuntimeException | ServerException | ConflictException | NotFoundException x) {
+            if (config.isDev()) {
+                publishEvent(EventType.ERROR, workspaceId, x.getLocalizedMessage());
+                cleanupStartResources(workspaceId);
+                throw x;
+            }
+            LOG.error(format("Error while creating non-dev machine '%s' in workspace '%s', environment '%s'",
+                             config.getName(),
+                             workspaceId,
+                             envName),
+                      x);
+        }
+
+        // Machine destroying is an expensive operation which must be
+        // performed outside of the lock, this section checks if
+        // the workspace wasn't stopped while it is starting and sets
+        // polled flag to true if the workspace wasn't stopped plus
+        // removes the proceeded machine configuration from the queue
+        boolean queuePolled = false;
+        acquireWriteLock(workspaceId);
+        try {
+            ensurePreDestroyIsNotExecuted();
+            final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
+            if (queue != null) {
+                queue.remove(config);
+                queuePolled = true;
+                if (machine != null) {
+                    final RuntimeDescriptor descriptor = descriptors.get(workspaceId);
+                    if (config.isDev()) {
+                        descriptor.getRuntime().setDevMachine(machine);
+                        descriptor.setRuntimeStatus(WorkspaceStatus.RUNNING);
+                    }
+                    descriptor.getRuntime().getMachines().add(machine);
+                }
+            }
+        } finally {
+            releaseWriteLock(workspaceId);
+        }
+
+        // Event publication should be performed outside of the lock
+        // as it may take some time to notify subscribers
+        if (machine != null && config.isDev()) {
+            publishEvent(EventType.RUNNING, workspaceId, null);
+        }
+
+        // If machine config is not polled from the queue
+        // then workspace was stopped and newly created machine
+        // must be destroyed(if such exists)
+        if (!queuePolled) {
+            if (machine != null) {
+                machineManager.destroy(machine.getId(), false);
+            }
+            throw new ConflictException(format("Workspace '%s' start interrupted. Workspace stopped before all its machines started",
+                                               workspaceId));
+        }
+    }
+
+    /**
+     * Waits until all the machine start tasks are finished, even if some of them failed,
+     * so each of the tasks has a chance to destroy its machine if the start was interrupted.
+     * Rethrows the first failure.
+     */
+    private void awaitStartTasks(String workspaceId, List<Future<?>> startTasks) throws ServerException,
+                                                                                          NotFoundException,
+                                                                                          ConflictException {
+        Throwable failure = null;
+        for (Future<?> startTask : startTasks) {
+            try {
+                startTask.get();
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new ServerException(format("Interrupted while starting machines of workspace '%s'", workspaceId));
+                }
+            } catch (ExecutionException x) {
+                if (failure == null) {
+                    failure = x.getCause();
+                }
+            }
+        }
+        if (failure instanceof ConflictException) {
+            throw (ConflictException)failure;
+        } else if (failure instanceof NotFoundException) {
+            throw (NotFoundException)failure;
+        } else if (failure instanceof ServerException) {
+            throw (ServerException)failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        } else if (failure != null) {
+            throw new ServerException(failure.getLocalizedMessage(), failure);
+        }
+    }
+
+    /**
+     * Returns a copy of the start queue associated with the given {@code workspaceId}.
+     *
+     * @throws ConflictException
+     *         when queue doesn't exist which means that {@link #stop(String)} executed
+     *         before all the machines started
+     * @throws ServerException
+     *         only if pre destroy has been invoked before configs retrieved
+     */
+    private List<MachineConfigImpl> queueCopyOrFail(String workspaceId) throws ConflictException, ServerException {
+        acquireReadLock(workspaceId);
+        try {
+            ensurePreDestroyIsNotExecuted();
+            final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
+            if (queue == null) {
+                throw new ConflictException(
+                        format("Workspace '%s' start interrupted. Workspace was stopped before all its machines were started",
+                               workspaceId));
+            }
+            return new ArrayList<>(queue);
+        } finally {
+            releaseReadLock(workspaceId);
+        }
+    }
+
     /**
      * Gets head config from the queue associated with the given {@code workspaceId}.
      *
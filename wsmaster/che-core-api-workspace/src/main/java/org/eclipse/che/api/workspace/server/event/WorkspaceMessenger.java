@@ -14,8 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.dto.server.DtoFactory;
-import org.everrest.websockets.WSConnectionContext;
-import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.eclipse.che.everrest.ChannelMessageBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,10 +42,7 @@ public class WorkspaceMessenger implements EventSubscriber<WorkspaceStatusEvent>
     @Override
     public void onEvent(WorkspaceStatusEvent event) {
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel("workspace:" + event.getWorkspaceId());
-            bm.setBody(DtoFactory.getInstance().toJson(event));
-            WSConnectionContext.sendMessage(bm);
+            ChannelMessageBatcher.sendMessageNow("workspace:" + event.getWorkspaceId(), DtoFactory.getInstance().toJson(event));
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
         }
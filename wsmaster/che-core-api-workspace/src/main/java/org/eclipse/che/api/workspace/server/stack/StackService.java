@@ -44,11 +44,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -75,6 +80,9 @@ import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_UPLOAD_ICO
 @Path("/stack")
 public class StackService extends Service {
 
+    /** Icons requested by link with the current hash are cached by clients for one year. */
+    private static final int ICON_MAX_AGE_SECONDS = (int)TimeUnit.DAYS.toSeconds(365);
+
     private final StackDao stackDao;
 
     @Inject
@@ -225,9 +233,13 @@ public class StackService extends Service {
                   notes = "This operation can be performed only by authorized user",
                   response = byte[].class)
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested image entity"),
+                   @ApiResponse(code = 304, message = "The image entity wasn't changed"),
                    @ApiResponse(code = 403, message = "The user does not have access to get image entity"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
-    public Response getIcon(@ApiParam("The stack id") @PathParam("id") final String id)
+    public Response getIcon(@ApiParam("The stack id") @PathParam("id") final String id,
+                            @ApiParam("The hash of the icon, icon is cached by clients while the hash matches")
+                            @QueryParam("hash") final String hash,
+                            @Context final Request request)
             throws NotFoundException, ServerException, BadRequestException {
         StackImpl stack = stackDao.getById(id);
 
@@ -240,7 +252,22 @@ public class StackService extends Service {
         if (image == null) {
             throw new NotFoundException("Image for stack with id '" + id + "' was not found.");
         }
-        return Response.ok(image.getData(), image.getMediaType()).build();
+        final EntityTag entityTag = new EntityTag(image.getHash());
+        final CacheControl cacheControl = new CacheControl();
+        if (image.getHash().equals(hash)) {
+            // link contains hash of the current icon, content behind it never changes
+            cacheControl.setMaxAge(ICON_MAX_AGE_SECONDS);
+        } else {
+            cacheControl.setNoCache(true);
+        }
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(cacheControl).build();
+        }
+        return Response.ok(image.getData(), image.getMediaType())
+                       .tag(entityTag)
+                       .cacheControl(cacheControl)
+                       .build();
     }
 
     @POST
@@ -324,6 +351,7 @@ public class StackService extends Service {
             Link getIconLink = LinksHelper.createLink("GET",
                                                       builder.clone()
                                                              .path(getClass(), "getIcon")
+                                                             .queryParam("hash", stackIcon.getHash())
                                                              .build(stack.getId())
                                                              .toString(),
                                                       stackIcon.getMediaType(),
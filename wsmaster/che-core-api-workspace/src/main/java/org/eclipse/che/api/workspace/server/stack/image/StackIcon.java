@@ -11,6 +11,8 @@
 package org.eclipse.che.api.workspace.server.stack.image;
 
 import com.google.common.base.Objects;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import org.eclipse.che.commons.annotation.Nullable;
 
@@ -35,6 +37,9 @@ public class StackIcon {
     private String mediaType;
     private byte[] data;
 
+    /** Content hash, computed on demand and never stored together with the icon. */
+    private transient String hash;
+
     public StackIcon(String name, String mediaType, @Nullable byte[] data) {
         if (data != null) {
             if (data.length == 0) {
@@ -68,6 +73,25 @@ public class StackIcon {
         return data;
     }
 
+    /**
+     * Returns hash of the icon content which changes whenever name, media type or data of the icon changes,
+     * so it may be used as entity tag of the icon and as version of links to the icon.
+     */
+    public String getHash() {
+        if (hash == null) {
+            final Hasher hasher = Hashing.sha1().newHasher()
+                                         .putUnencodedChars(name)
+                                         .putByte((byte)0)
+                                         .putUnencodedChars(mediaType)
+                                         .putByte((byte)0);
+            if (data != null) {
+                hasher.putBytes(data);
+            }
+            hash = hasher.hash().toString();
+        }
+        return hash;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
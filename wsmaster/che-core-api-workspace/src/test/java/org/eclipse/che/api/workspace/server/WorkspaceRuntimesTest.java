@@ -43,6 +43,7 @@ import org.testng.annotations.Test;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -92,7 +93,7 @@ public class WorkspaceRuntimesTest {
     public void setUp() throws Exception {
         when(machineManager.createMachineSync(any(), any(), any()))
                 .thenAnswer(invocation -> createMachine((MachineConfig)invocation.getArguments()[0]));
-        runtimes = new WorkspaceRuntimes(machineManager, eventService);
+        runtimes = new WorkspaceRuntimes(machineManager, eventService, 5);
     }
 
     @Test(expectedExceptions = NotFoundException.class,
@@ -113,7 +114,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void workspaceShouldBeInStartingStatusUntilDevMachineIsNotStarted() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService, 5);
         final WorkspaceImpl workspace = createWorkspace();
 
         // check if workspace in starting status before dev machine is started
@@ -135,7 +136,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void workspaceShouldNotHaveRuntimeIfDevMachineCreationFailed() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService, 5);
         final WorkspaceImpl workspaceMock = createWorkspace();
         when(machineManagerMock.createMachineSync(any(), any(), any()))
                 .thenThrow(new MachineException("Creation error"));
@@ -172,7 +173,7 @@ public class WorkspaceRuntimesTest {
                                             "Workspace can be stopped only if it is 'RUNNING'")
     public void shouldNotStopWorkspaceIfItIsStarting() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes registry = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes registry = new WorkspaceRuntimes(machineManagerMock, eventService, 5);
         final WorkspaceImpl workspace = createWorkspace();
 
         when(machineManagerMock.createMachineSync(any(), any(), any())).thenAnswer(invocationOnMock -> {
@@ -317,7 +318,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void startingEventShouldBePublishedBeforeStart() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -331,7 +332,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void runningEventShouldBePublishedAfterDevMachineStarted() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -348,7 +349,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void errorEventShouldBePublishedIfDevMachineFailedToStart() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
         doNothing().when(runtimes).cleanupStartResources(any());
 
@@ -367,10 +368,35 @@ public class WorkspaceRuntimesTest {
         }
     }
 
+    @Test(timeOut = 10_000)
+    public void nonDevMachinesShouldBeStartedConcurrently() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        final EnvironmentImpl environment = workspace.getConfig().getEnvironments().get(0);
+        environment.getMachineConfigs().add(MachineConfigImpl.builder()
+                                                             .fromConfig(createConfig(false))
+                                                             .setName("non-dev2")
+                                                             .build());
+        final CountDownLatch bothNonDevStarting = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            final MachineConfig cfg = (MachineConfig)invocation.getArguments()[0];
+            if (!cfg.isDev()) {
+                // Fails by timeout if non-dev machines are started one after another
+                bothNonDevStarting.countDown();
+                bothNonDevStarting.await();
+            }
+            return createMachine(cfg);
+        }).when(machineManager).createMachineSync(any(), any(), any());
+
+        final RuntimeDescriptor descriptor = runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        assertEquals(descriptor.getRuntime().getMachines().size(), 3);
+        assertFalse(runtimes.startQueues.containsKey(workspace.getId()));
+    }
+
     @Test
     public void stoppingEventShouldBePublishedBeforeStop() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -391,7 +417,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void stoppedEventShouldBePublishedAfterDevMachineStopped() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
@@ -403,7 +429,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void errorEventShouldBePublishedIfDevMachineFailedToStop() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -508,7 +534,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void shouldDestroyMachineIfItIsNotAddedWhenEventReceived() throws Exception {
         // prepare runtimes
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doReturn(false).when(runtimes).addMachine(any());
         // prepare machine
         final MachineImpl machine = createMachine(true);
@@ -529,7 +555,7 @@ public class WorkspaceRuntimesTest {
     public void eventTypesExceptOfRunningShouldBeIgnoredByAddMachineSubscriber(MachineStatusEvent.EventType type)
             throws Exception {
         // prepare runtimes
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doReturn(false).when(runtimes).addMachine(any());
         // prepare machine
         final MachineImpl machine = createMachine(true);
@@ -607,7 +633,7 @@ public class WorkspaceRuntimesTest {
     public void eventTypesExceptOfDestroyedShouldBeIgnoredByRemoveMachineSubscriber(MachineStatusEvent.EventType type)
             throws Exception {
         // prepare runtimes
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).removeMachine(anyString(), anyString(), anyString());
         // prepare event
         final MachineImpl machine = createMachine(true);
@@ -625,7 +651,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void removeMachineSubscriberShouldRemoveMachineIfItIsDevAndEventIsDestroyed() throws Exception {
         // prepare runtimes
-        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManager, eventService, 5));
         doNothing().when(runtimes).removeMachine(anyString(), anyString(), anyString());
         // prepare event
         final MachineImpl machine = createMachine(true);
@@ -79,6 +79,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test for {@link @StackService}
@@ -546,6 +547,20 @@ public class StackServiceTest {
         verify(stackDao).getById(stackImpl.getId());
     }
 
+    @Test
+    public void shouldReturnNotModifiedWhenIconWasNotChanged() throws NotFoundException, ServerException {
+        when(stackDao.getById(stackImpl.getId())).thenReturn(stackImpl);
+
+        Response response = given().auth()
+                                   .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                   .header("If-None-Match", '"' + stackIcon.getHash() + '"')
+                                   .when()
+                                   .get(SECURE_PATH + "/stack/" + stackImpl.getId() + "/icon?hash=" + stackIcon.getHash());
+
+        assertEquals(response.getStatusCode(), 304);
+        assertTrue(response.getHeader("Cache-Control").contains("max-age"));
+    }
+
     @Test
     public void shouldThrowNotFoundExceptionWhenIconStackWasNotFound() throws NotFoundException, ServerException {
         Response response = given().auth()
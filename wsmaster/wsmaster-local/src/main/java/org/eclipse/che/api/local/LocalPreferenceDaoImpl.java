@@ -28,8 +28,10 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 /**
@@ -43,20 +45,26 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
 
     private static final Logger LOG = LoggerFactory.getLogger(LocalPreferenceDaoImpl.class);
 
+    /** Stamp of the preferences file which attributes can't be read, such file is considered unchanged. */
+    private static final Object UNREADABLE_FILE_STAMP = new Object();
+
     private final Map<String, Map<String, String>> preferences;
-    private final ReadWriteLock                    lock;
+    private final Lock                             lock;
     private final LocalStorage                     preferenceStorage;
 
+    /** Stamp of the preferences file when it was loaded or stored last time. */
+    private volatile Object storedFileStamp;
+
     @Inject
     public LocalPreferenceDaoImpl(LocalStorageFactory localStorageFactory) throws IOException {
-        preferences = new HashMap<>();
-        lock = new ReentrantReadWriteLock();
+        preferences = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
         preferenceStorage = localStorageFactory.create("preferences.json");
     }
 
     @PostConstruct
     private void start() {
-        preferences.putAll(preferenceStorage.loadMap(new TypeToken<Map<String, Map<String, String>>>() {}));
+        loadPreferences();
         // Add default entry if file doesn't exist or invalid or empty.
         if (preferences.isEmpty()) {
             final Map<String, String> newPreferences = new HashMap<>(4);
@@ -73,41 +81,34 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
 
     @Override
     public void setPreferences(String userId, Map<String, String> prefs) throws ServerException, NotFoundException {
-        lock.writeLock().lock();
+        lock.lock();
         try {
+            reloadIfModified();
             preferences.put(userId, new HashMap<>(prefs));
             preferenceStorage.store(preferences);
+            storedFileStamp = preferenceStorage.getFileStamp();
         } catch (IOException e) {
             LOG.warn("Impossible to store preferences");
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public Map<String, String> getPreferences(String userId) throws ServerException {
-        lock.readLock().lock();
-        try {
-            //Need read all new preferences without restarting dev-machine. It is needed for  IDEX-2180
-            preferences.putAll(preferenceStorage.loadMap(new TypeToken<Map<String, Map<String, String>>>() {}));
-            final Map<String, String> prefs = new HashMap<>();
-            if (preferences.containsKey(userId)) {
-                prefs.putAll(preferences.get(userId));
-            }
-            return prefs;
-        } finally {
-            lock.readLock().unlock();
+        //Need read all new preferences without restarting dev-machine. It is needed for  IDEX-2180
+        reloadIfModified();
+        final Map<String, String> prefs = new HashMap<>();
+        final Map<String, String> userPrefs = preferences.get(userId);
+        if (userPrefs != null) {
+            prefs.putAll(userPrefs);
         }
+        return prefs;
     }
 
     @Override
     public Map<String, String> getPreferences(String userId, String filter) throws ServerException {
-        lock.readLock().lock();
-        try {
-            return filter(getPreferences(userId), filter);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return filter(getPreferences(userId), filter);
     }
 
     private Map<String, String> filter(Map<String, String> prefs, String filter) {
@@ -123,11 +124,45 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
 
     @Override
     public void remove(String userId) throws ServerException {
-        lock.writeLock().lock();
+        lock.lock();
         try {
             preferences.remove(userId);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
+        }
+    }
+
+    /** Reads preferences file again if it was modified after it was loaded or stored by this dao. */
+    private void reloadIfModified() {
+        if (isFileModified()) {
+            lock.lock();
+            try {
+                if (isFileModified()) {
+                    loadPreferences();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void loadPreferences() {
+        // stamp is read before the content, so changes made while reading are picked up by the next reload
+        storedFileStamp = readFileStamp();
+        preferences.putAll(preferenceStorage.loadMap(new TypeToken<Map<String, Map<String, String>>>() {}));
+    }
+
+    private boolean isFileModified() {
+        final Object fileStamp = readFileStamp();
+        return fileStamp != UNREADABLE_FILE_STAMP && !Objects.equals(fileStamp, storedFileStamp);
+    }
+
+    private Object readFileStamp() {
+        try {
+            return preferenceStorage.getFileStamp();
+        } catch (IOException e) {
+            LOG.debug("Impossible to read attributes of preferences file");
+            return UNREADABLE_FILE_STAMP;
         }
     }
 }
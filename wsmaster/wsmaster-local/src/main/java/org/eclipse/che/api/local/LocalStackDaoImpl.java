@@ -25,48 +25,75 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Implementation local storage for {@link Stack}
+ * <p/>
+ * Stacks are indexed by tags, search by tags intersects sets of stacks with required tags instead of checking tags of each
+ * stack.
  *
  * @author Alexander Andrienko
  */
 @Singleton
 public class LocalStackDaoImpl implements StackDao {
 
-    private final StackLocalStorage      stackStorage;
-    private final Map<String, StackImpl> stacks;
-    private final ReadWriteLock          lock;
+    private final StackLocalStorage        stackStorage;
+    private final Map<String, StackImpl>   stacks;
+    private final Map<String, Set<String>> tagIndex;
+    /** Stack id to sequence number of the stack creation, search results are ordered by it. */
+    private final Map<String, Long>        creationOrder;
+    private final ReadWriteLock            lock;
+
+    private long creationCounter;
 
     @Inject
     public LocalStackDaoImpl(StackLocalStorage stackLocalStorage) throws IOException {
         this.stackStorage = stackLocalStorage;
         this.stacks = new LinkedHashMap<>();
+        this.tagIndex = new HashMap<>();
+        this.creationOrder = new HashMap<>();
         this.lock = new ReentrantReadWriteLock();
     }
 
     @PostConstruct
     public void start() {
-        lock.readLock().lock();
-        stacks.putAll(stackStorage.loadMap());
-        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            for (StackImpl stack : stackStorage.loadMap().values()) {
+                stacks.put(stack.getId(), stack);
+                creationOrder.put(stack.getId(), creationCounter++);
+                indexTags(stack);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @PreDestroy
     public void stop() throws IOException {
         lock.writeLock().lock();
-        stackStorage.store(stacks);
-        lock.writeLock().unlock();
+        try {
+            stackStorage.store(stacks);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -78,6 +105,8 @@ public class LocalStackDaoImpl implements StackDao {
                 throw new ConflictException(format("Stack with id %s is already exist", stack.getId()));
             }
             stacks.put(stack.getId(), stack);
+            creationOrder.put(stack.getId(), creationCounter++);
+            indexTags(stack);
         } finally {
             lock.writeLock().unlock();
         }
@@ -103,7 +132,11 @@ public class LocalStackDaoImpl implements StackDao {
         requireNonNull(id, "Stack id required");
         lock.writeLock().lock();
         try {
-            stacks.remove(id);
+            final StackImpl removed = stacks.remove(id);
+            if (removed != null) {
+                creationOrder.remove(id);
+                unindexTags(removed);
+            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -116,10 +149,13 @@ public class LocalStackDaoImpl implements StackDao {
         lock.writeLock().lock();
         try {
             String updateId = update.getId();
-            if (!stacks.containsKey(updateId)) {
+            final StackImpl existing = stacks.get(updateId);
+            if (existing == null) {
                 throw new NotFoundException(format("Stack with id %s was not found", updateId));
             }
+            unindexTags(existing);
             stacks.replace(updateId, update);
+            indexTags(update);
             return new StackImpl(update);
         } finally {
             lock.writeLock().unlock();
@@ -130,11 +166,16 @@ public class LocalStackDaoImpl implements StackDao {
     public List<StackImpl> searchStacks(String user, @Nullable List<String> tags, int skipCount, int maxItems) {
         lock.readLock().lock();
         try {
-            Stream<StackImpl> stacksStream = stacks.values()
-                                                   .stream()
-                                                   .skip(skipCount)
-                                                   .filter(decoratedStack -> tags == null ||
-                                                                             decoratedStack.getTags().containsAll(tags));
+            Stream<StackImpl> stacksStream;
+            if (tags == null || tags.isEmpty()) {
+                stacksStream = stacks.values().stream();
+            } else {
+                stacksStream = findByTags(tags).stream()
+                                               .sorted(comparing(creationOrder::get))
+                                               .map(stacks::get);
+            }
+            // filter first, then page, then copy only stacks of the page
+            stacksStream = stacksStream.skip(skipCount);
             if (maxItems != 0) {
                 stacksStream = stacksStream.limit(maxItems);
             }
@@ -145,4 +186,45 @@ public class LocalStackDaoImpl implements StackDao {
             lock.readLock().unlock();
         }
     }
+
+    /** Returns ids of stacks which have all the {@code tags}. */
+    private Set<String> findByTags(List<String> tags) {
+        final List<Set<String>> tagged = new ArrayList<>(tags.size());
+        for (String tag : new HashSet<>(tags)) {
+            final Set<String> ids = tagIndex.get(tag);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            tagged.add(ids);
+        }
+        // intersect starting from the smallest set
+        tagged.sort(comparingInt(Set::size));
+        final Set<String> result = new HashSet<>(tagged.get(0));
+        for (int i = 1; i < tagged.size() && !result.isEmpty(); i++) {
+            result.retainAll(tagged.get(i));
+        }
+        return result;
+    }
+
+    private void indexTags(StackImpl stack) {
+        if (stack.getTags() != null) {
+            for (String tag : stack.getTags()) {
+                tagIndex.computeIfAbsent(tag, t -> new HashSet<>()).add(stack.getId());
+            }
+        }
+    }
+
+    private void unindexTags(StackImpl stack) {
+        if (stack.getTags() != null) {
+            for (String tag : stack.getTags()) {
+                final Set<String> ids = tagIndex.get(tag);
+                if (ids != null) {
+                    ids.remove(stack.getId());
+                    if (ids.isEmpty()) {
+                        tagIndex.remove(tag);
+                    }
+                }
+            }
+        }
+    }
 }
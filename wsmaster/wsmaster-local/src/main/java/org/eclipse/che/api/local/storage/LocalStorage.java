@@ -25,6 +25,9 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -117,4 +120,21 @@ public class LocalStorage {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns stamp of the json file which is changed each time the file is modified or replaced: the modification time,
+     * the size and the file key (e.g. inode) of the file. Stamps may be compared with {@code equals}.
+     *
+     * @return stamp of the file or null if file not found.
+     * @throws IOException
+     *         occurs when attributes of the file can't be read.
+     */
+    public Object getFileStamp() throws IOException {
+        try {
+            final BasicFileAttributes attributes = java.nio.file.Files.readAttributes(storedFile.toPath(), BasicFileAttributes.class);
+            return Arrays.asList(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.local;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.LocalStorageFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link LocalPreferenceDaoImpl}
+ */
+public class LocalPreferenceDaoImplTest {
+
+    static Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    LocalPreferenceDaoImpl preferenceDao;
+    Path                   preferencesPath;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        final URL url = Thread.currentThread().getContextClassLoader().getResource(".");
+        assertNotNull(url);
+        final Path targetDir = Paths.get(url.toURI()).getParent();
+        final Path storageRoot = targetDir.resolve("preferences");
+        preferencesPath = storageRoot.resolve("preferences.json");
+        Files.deleteIfExists(preferencesPath);
+        preferenceDao = new LocalPreferenceDaoImpl(new LocalStorageFactory(storageRoot.toString()));
+    }
+
+    @Test
+    public void shouldStoreAndReturnPreferences() throws Exception {
+        preferenceDao.setPreferences("user1", ImmutableMap.of("theme", "dark"));
+
+        assertEquals(preferenceDao.getPreferences("user1"), ImmutableMap.of("theme", "dark"));
+        assertEquals(new String(Files.readAllBytes(preferencesPath)),
+                     GSON.toJson(ImmutableMap.of("user1", ImmutableMap.of("theme", "dark"))));
+    }
+
+    @Test
+    public void shouldReturnPreferencesAddedToFileExternally() throws Exception {
+        preferenceDao.setPreferences("user1", ImmutableMap.of("theme", "dark"));
+        assertTrue(preferenceDao.getPreferences("user2").isEmpty());
+
+        Files.write(preferencesPath, GSON.toJson(ImmutableMap.of("user2", ImmutableMap.of("theme", "light"))).getBytes());
+        // make sure the modification is visible even on file systems with coarse timestamps
+        Files.setLastModifiedTime(preferencesPath, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        assertEquals(preferenceDao.getPreferences("user2"), ImmutableMap.of("theme", "light"));
+        assertEquals(preferenceDao.getPreferences("user1"), ImmutableMap.of("theme", "dark"));
+    }
+
+    @Test
+    public void shouldFilterPreferences() throws Exception {
+        preferenceDao.setPreferences("user1", ImmutableMap.of("theme", "dark", "font", "mono"));
+
+        assertEquals(preferenceDao.getPreferences("user1", "th.*"), ImmutableMap.of("theme", "dark"));
+    }
+
+    @Test
+    public void shouldNotReloadPreferencesWhenFileAttributesCanNotBeRead() throws Exception {
+        final LocalStorage storage = mock(LocalStorage.class);
+        when(storage.getFileStamp()).thenThrow(new IOException("Permission denied"));
+        final LocalStorageFactory storageFactory = mock(LocalStorageFactory.class);
+        when(storageFactory.create(anyString())).thenReturn(storage);
+        preferenceDao = new LocalPreferenceDaoImpl(storageFactory);
+
+        preferenceDao.getPreferences("user1");
+        preferenceDao.getPreferences("user1");
+
+        verify(storage, never()).loadMap(any());
+    }
+}
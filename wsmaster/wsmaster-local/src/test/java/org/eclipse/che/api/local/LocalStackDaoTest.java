@@ -38,6 +38,8 @@ import java.util.Map;
 import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.write;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
@@ -104,6 +106,47 @@ public class LocalStackDaoTest {
         assertEquals(result, stack);
     }
 
+    @Test
+    public void shouldFilterStacksByTagsBeforePaging() throws Exception {
+        stackDao.create(createStack("stack1", asList("java", "maven")));
+        stackDao.create(createStack("stack2", asList("node")));
+        stackDao.create(createStack("stack3", asList("java")));
+        stackDao.create(createStack("stack4", asList("maven", "java", "spring")));
+
+        assertEquals(ids(stackDao.searchStacks("user", asList("java"), 0, 0)), asList("stack1", "stack3", "stack4"));
+        assertEquals(ids(stackDao.searchStacks("user", asList("java"), 1, 1)), asList("stack3"));
+        assertEquals(ids(stackDao.searchStacks("user", asList("maven", "java"), 0, 30)), asList("stack1", "stack4"));
+        assertEquals(ids(stackDao.searchStacks("user", asList("java", "php"), 0, 30)), emptyList());
+        assertEquals(ids(stackDao.searchStacks("user", null, 3, 30)), asList("stack4"));
+    }
+
+    @Test
+    public void shouldSearchStacksByUpdatedTags() throws Exception {
+        stackDao.create(createStack("stack1", asList("java")));
+        stackDao.create(createStack("stack2", asList("java")));
+
+        stackDao.update(createStack("stack1", asList("node")));
+        stackDao.remove("stack2");
+
+        assertEquals(ids(stackDao.searchStacks("user", asList("java"), 0, 30)), emptyList());
+        assertEquals(ids(stackDao.searchStacks("user", asList("node"), 0, 30)), asList("stack1"));
+    }
+
+    private static List<String> ids(List<StackImpl> stacks) {
+        return stacks.stream().map(StackImpl::getId).collect(toList());
+    }
+
+    private static StackImpl createStack(String id, List<String> tags) {
+        return StackImpl.builder()
+                        .setId(id)
+                        .setName(id)
+                        .setScope("general")
+                        .setCreator("User")
+                        .setTags(tags)
+                        .setSource(new StackSourceImpl("image", "codenvy/ubuntu_jdk8"))
+                        .build();
+    }
+
     private void createStackIcon() throws IOException {
         Files.createDirectories(parentIconFolder);
         Files.write(pathToIcon, SVG_ICON.getBytes());